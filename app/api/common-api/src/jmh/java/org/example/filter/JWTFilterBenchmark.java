@@ -0,0 +1,120 @@
+package org.example.filter;
+
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.example.property.TokenProperty;
+import org.example.repository.TokenRepository;
+import org.example.security.dto.UserParam;
+import org.example.security.token.JWTGenerator;
+import org.example.security.token.JWTHandler;
+import org.example.security.token.TokenProcessor;
+import org.example.vo.UserRoleApiType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 같은 액세스 토큰이 반복되는 요청(캐시 적중)과 매번 다른 액세스 토큰으로 들어오는 요청(서명 검증)의
+ * JWTFilter 처리량을 비교합니다. 다른 토큰은 검증 캐시 크기보다 많이 만들어 순환하므로 캐시에 적중하지 않습니다.
+ * 실행: ./gradlew :app:api:common-api:jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JWTFilterBenchmark {
+
+    private static final int DISTINCT_TOKEN_COUNT = 50_000;
+
+    private JWTFilter jwtFilter;
+    private MockHttpServletRequest repeatedTokenRequest;
+    private List<MockHttpServletRequest> distinctTokenRequests;
+    private int distinctTokenIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        TokenProperty tokenProperty = new TokenProperty(
+            "ahRhwlglftmrkwkfehlaussksmsdjraksrmadmfqjfrjtdlrhdkwnwlflsmswlqdptjgodqhrgkrptkftndlTDmfrjtdlek",
+            3600000L,
+            1209600000L
+        );
+        TokenRepository tokenRepository = new NoBlacklistTokenRepository();
+        JWTHandler jwtHandler = new JWTHandler(tokenProperty);
+        JWTGenerator jwtGenerator = new JWTGenerator(tokenProperty, tokenRepository);
+        jwtFilter = new JWTFilter(jwtHandler, new TokenProcessor(jwtHandler, jwtGenerator, tokenRepository));
+
+        repeatedTokenRequest = request(accessToken(jwtGenerator));
+        distinctTokenRequests = IntStream.range(0, DISTINCT_TOKEN_COUNT)
+            .mapToObj(i -> request(accessToken(jwtGenerator)))
+            .toList();
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void cachedToken() throws ServletException, IOException {
+        jwtFilter.doFilterInternal(repeatedTokenRequest, new MockHttpServletResponse(), new MockFilterChain());
+    }
+
+    @Benchmark
+    public void uncachedToken() throws ServletException, IOException {
+        MockHttpServletRequest request = distinctTokenRequests.get(distinctTokenIndex);
+        distinctTokenIndex = (distinctTokenIndex + 1) % DISTINCT_TOKEN_COUNT;
+        jwtFilter.doFilterInternal(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+
+    private String accessToken(JWTGenerator jwtGenerator) {
+        return jwtGenerator.generate(new UserParam(UUID.randomUUID(), UserRoleApiType.USER), new Date())
+            .accessToken();
+    }
+
+    private MockHttpServletRequest request(String accessToken) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + accessToken);
+        return request;
+    }
+
+    private static class NoBlacklistTokenRepository implements TokenRepository {
+
+        @Override
+        public void saveBlacklistAccessToken(UUID userId, String accessToken) {
+        }
+
+        @Override
+        public void saveRefreshToken(UUID userId, String refreshToken) {
+        }
+
+        @Override
+        public Optional<String> getExistRefreshToken(String userId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public boolean existAccessTokenInBlacklist(UUID userId, String accessToken) {
+            return false;
+        }
+
+        @Override
+        public boolean deleteRefreshToken(UUID userId) {
+            return false;
+        }
+    }
+}
@@ -1,12 +1,13 @@
 package org.example.config;
 
+import org.example.property.CursorProperty;
 import org.example.property.TokenProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
-@EnableConfigurationProperties(TokenProperty.class)
+@EnableConfigurationProperties({TokenProperty.class, CursorProperty.class})
 @ComponentScan(basePackages = "org.example")
 public class CommonApiConfig {
 
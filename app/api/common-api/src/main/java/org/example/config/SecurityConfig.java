@@ -113,6 +113,7 @@ public class SecurityConfig {
             antMatcher(HttpMethod.GET, "/api/v1/shows/{showId}"),
             antMatcher(HttpMethod.GET, "/api/v1/artists/search/**"),
             antMatcher(HttpMethod.GET, "/api/v1/shows/search/**"),
+            antMatcher(HttpMethod.GET, "/api/v1/search/suggest"),
             antMatcher(HttpMethod.GET, "/api/v1/artists/filter"),
             antMatcher(HttpMethod.GET, "/api/v1/artists/filter-total-count"),
             antMatcher(HttpMethod.GET, "/api/v1/artists/unsubscriptions")
@@ -0,0 +1,101 @@
+package org.example.cursor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.example.cursor.error.CursorError;
+import org.example.dto.response.CursorApiResponse;
+import org.example.exception.BusinessException;
+import org.example.property.CursorProperty;
+import org.example.vo.CursorApiType;
+import org.springframework.stereotype.Component;
+
+/**
+ * 정렬 키 값(타입, ID, 정렬 값)을 담은 커서를 base64url(payload).base64url(HMAC-SHA256) 형태로
+ * 서명합니다. 다음 페이지 요청 시 커서 값만으로 keyset 조건을 만들 수 있어
+ * 커서 데이터를 다시 조회하는 쿼리가 필요하지 않습니다.
+ */
+@Component
+public class CursorCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String TOKEN_DELIMITER = ".";
+    private static final String PAYLOAD_DELIMITER = "|";
+
+    private final SecretKeySpec secretKey;
+
+    public CursorCodec(CursorProperty cursorProperty) {
+        this.secretKey = new SecretKeySpec(
+            cursorProperty.secretKey().getBytes(StandardCharsets.UTF_8),
+            ALGORITHM
+        );
+    }
+
+    public CursorApiResponse sign(CursorApiType type, CursorApiResponse cursor) {
+        if (cursor.id() == null) {
+            return CursorApiResponse.noneCursor();
+        }
+
+        return CursorApiResponse.toOpaqueCursor(
+            cursor.id(),
+            cursor.value(),
+            encode(type, cursor.id(), cursor.value())
+        );
+    }
+
+    public String encode(CursorApiType type, Object id, Object value) {
+        String payload = String.join(
+            PAYLOAD_DELIMITER,
+            type.name(),
+            String.valueOf(id),
+            value == null ? "" : String.valueOf(value)
+        );
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+
+        return encodeBase64(payloadBytes) + TOKEN_DELIMITER + encodeBase64(mac(payloadBytes));
+    }
+
+    public OpaqueCursor decode(String token) {
+        int delimiterIndex = token.indexOf(TOKEN_DELIMITER);
+        if (delimiterIndex < 0) {
+            throw new BusinessException(CursorError.INVALID_CURSOR);
+        }
+
+        try {
+            byte[] payloadBytes = Base64.getUrlDecoder().decode(token.substring(0, delimiterIndex));
+            byte[] signature = Base64.getUrlDecoder().decode(token.substring(delimiterIndex + 1));
+
+            if (!MessageDigest.isEqual(mac(payloadBytes), signature)) {
+                throw new BusinessException(CursorError.INVALID_CURSOR);
+            }
+
+            String[] fields = new String(payloadBytes, StandardCharsets.UTF_8)
+                .split("\\" + PAYLOAD_DELIMITER, -1);
+
+            return new OpaqueCursor(
+                CursorApiType.valueOf(fields[0]),
+                fields[1],
+                fields[2].isEmpty() ? null : fields[2]
+            );
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new BusinessException(CursorError.INVALID_CURSOR);
+        }
+    }
+
+    private byte[] mac(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(secretKey);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String encodeBase64(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.cursor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.example.cursor.error.CursorError;
+import org.example.exception.BusinessException;
+import org.example.vo.CursorApiType;
+
+/**
+ * 서명 검증을 마친 커서의 정렬 키 값입니다.
+ * 최초 조회처럼 커서가 없으면 모든 값이 null 인 커서로 취급합니다.
+ */
+public record OpaqueCursor(
+    CursorApiType type,
+    String id,
+    String value
+) {
+
+    private static final OpaqueCursor NONE = new OpaqueCursor(null, null, null);
+
+    public static OpaqueCursor verify(OpaqueCursor cursor, CursorApiType expectedType) {
+        if (cursor == null) {
+            return NONE;
+        }
+
+        if (cursor.type() != expectedType) {
+            throw new BusinessException(CursorError.CURSOR_TYPE_MISMATCH);
+        }
+
+        return cursor;
+    }
+
+    public UUID uuidId() {
+        return id == null ? null : UUID.fromString(id);
+    }
+
+    public Integer integerId() {
+        return id == null ? null : Integer.valueOf(id);
+    }
+
+    public Long longValue() {
+        return value == null ? null : Long.valueOf(value);
+    }
+
+    public LocalDateTime localDateTimeValue() {
+        return value == null ? null : LocalDateTime.parse(value);
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.cursor;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class OpaqueCursorConverter implements Converter<String, OpaqueCursor> {
+
+    private final CursorCodec cursorCodec;
+
+    @Override
+    public OpaqueCursor convert(String source) {
+        if (source.isBlank()) {
+            return null;
+        }
+
+        return cursorCodec.decode(source);
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.cursor.error;
+
+import org.example.exception.BusinessError;
+
+public enum CursorError implements BusinessError {
+
+    INVALID_CURSOR {
+        @Override
+        public int getHttpStatus() {
+            return 400;
+        }
+
+        @Override
+        public String getErrorCode() {
+            return "CSR-001";
+        }
+
+        @Override
+        public String getClientMessage() {
+            return "유효하지 않은 커서입니다.";
+        }
+
+        @Override
+        public String getLogMessage() {
+            return "커서 형식이 잘못되었거나 서명이 일치하지 않습니다.";
+        }
+    },
+
+    CURSOR_TYPE_MISMATCH {
+        @Override
+        public int getHttpStatus() {
+            return 400;
+        }
+
+        @Override
+        public String getErrorCode() {
+            return "CSR-002";
+        }
+
+        @Override
+        public String getClientMessage() {
+            return "유효하지 않은 커서입니다.";
+        }
+
+        @Override
+        public String getLogMessage() {
+            return "다른 목록 조회에서 발급된 커서로 요청했습니다.";
+        }
+    }
+}
@@ -9,19 +9,26 @@ public record CursorApiResponse(
     Object id,
 
     @Schema(description = "조회한 데이터의 Cursor Value")
-    Object value
+    Object value,
+
+    @Schema(description = "다음 페이지 조회 시 cursor 파라미터로 전달하는 서명된 커서")
+    String token
 ) {
 
     public static CursorApiResponse toCursorResponse(Object id, Object value) {
-        return new CursorApiResponse(id, value);
+        return new CursorApiResponse(id, value, null);
     }
 
     public static CursorApiResponse toCursorId(Object id) {
-        return new CursorApiResponse(id, null);
+        return new CursorApiResponse(id, null, null);
+    }
+
+    public static CursorApiResponse toOpaqueCursor(Object id, Object value, String token) {
+        return new CursorApiResponse(id, value, token);
     }
 
     public static CursorApiResponse noneCursor() {
-        return new CursorApiResponse(null, null);
+        return new CursorApiResponse(null, null, null);
     }
 
     public static <T> T getLastElement(List<T> list) {
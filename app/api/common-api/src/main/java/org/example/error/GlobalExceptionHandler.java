@@ -2,12 +2,15 @@ package org.example.error;
 
 import jakarta.validation.ConstraintViolationException;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.example.exception.BusinessException;
 import org.example.exception.ErrorResponse;
 import org.example.exception.GlobalError;
+import org.springframework.beans.TypeMismatchException;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -66,6 +69,11 @@ public class GlobalExceptionHandler {
     protected ResponseEntity<ErrorResponse> handleRequestArgumentNotValidException(
         MethodArgumentNotValidException e
     ) {
+        BusinessException conversionException = findConversionBusinessException(e);
+        if (conversionException != null) {
+            return handleBusinessException(conversionException);
+        }
+
         String errorId = UUID.randomUUID().toString();
         ErrorResponse response = ErrorResponse.messageCustomErrorResponseBuilder()
             .errorId(errorId)
@@ -100,6 +108,11 @@ public class GlobalExceptionHandler {
     protected ResponseEntity<ErrorResponse> handleMethodArgumentTypeMismatchException(
         MethodArgumentTypeMismatchException e
     ) {
+        BusinessException conversionException = findBusinessExceptionCause(e);
+        if (conversionException != null) {
+            return handleBusinessException(conversionException);
+        }
+
         String errorId = UUID.randomUUID().toString();
         ErrorResponse response = ErrorResponse.messageCustomErrorResponseBuilder()
             .errorId(errorId)
@@ -129,4 +142,26 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest()
             .body(response);
     }
+
+    /*
+     * 요청 파라미터 객체를 바인딩하는 중 Converter 에서 발생한 BusinessException 은 타입 변환 실패로 감싸지므로
+     * 원인을 꺼내 본래의 에러 코드로 응답합니다.
+     */
+    private BusinessException findConversionBusinessException(BindException e) {
+        return e.getFieldErrors().stream()
+            .filter(fieldError -> fieldError.contains(TypeMismatchException.class))
+            .map(fieldError -> findBusinessExceptionCause(fieldError.unwrap(TypeMismatchException.class)))
+            .filter(Objects::nonNull)
+            .findFirst()
+            .orElse(null);
+    }
+
+    private BusinessException findBusinessExceptionCause(Throwable e) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof BusinessException businessException) {
+                return businessException;
+            }
+        }
+        return null;
+    }
 }
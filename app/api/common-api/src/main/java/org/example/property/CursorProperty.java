@@ -0,0 +1,23 @@
+package org.example.property;
+
+import java.nio.charset.StandardCharsets;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "cursor")
+public record CursorProperty(
+    String secretKey
+) {
+
+    private static final int MIN_SECRET_KEY_BYTES = 32;
+
+    /*
+     * HMAC-SHA256 서명 키가 해시 출력 길이보다 짧으면 서명을 위조하기 쉬워지므로 애플리케이션 기동 시점에 거부합니다.
+     */
+    public CursorProperty {
+        if (secretKey == null || secretKey.getBytes(StandardCharsets.UTF_8).length < MIN_SECRET_KEY_BYTES) {
+            throw new IllegalArgumentException(
+                "cursor.secret-key 는 " + MIN_SECRET_KEY_BYTES + " 바이트 이상이어야 합니다."
+            );
+        }
+    }
+}
@@ -1,22 +1,65 @@
 package org.example.security.token;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwt;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import jakarta.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HexFormat;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.TimeUnit;
 import org.example.exception.BusinessException;
 import org.example.property.TokenProperty;
 import org.example.security.dto.UserParam;
 import org.example.security.error.TokenError;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Component
-@RequiredArgsConstructor
 public class JWTHandler {
 
-    private final TokenProperty tokenProperty;
+    private static final long VERIFIED_TOKEN_CACHE_MAXIMUM_SIZE = 10_000L;
+    private static final String TOKEN_DIGEST_ALGORITHM = "SHA-256";
+
+    private final JwtParser jwtParser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    @Autowired
+    public JWTHandler(TokenProperty tokenProperty) {
+        this(tokenProperty, Clock.systemUTC());
+    }
+
+    /**
+     * 서명 키와 파서는 한 번만 만들어 재사용합니다.
+     * 검증을 통과한 토큰은 만료 시각까지 캐싱하여 같은 토큰의 서명 검증과 claim 변환을 생략합니다.
+     * 블랙리스트 확인은 캐시와 관계없이 매 요청마다 TokenProcessor 에서 수행됩니다.
+     * 토큰 만료 검사와 캐시 만료는 같은 시계를 기준으로 합니다.
+     * 캐시 키는 토큰 원문이 아닌 SHA-256 다이제스트이므로 캐시에 유효한 토큰 원문이 남지 않습니다.
+     */
+    JWTHandler(TokenProperty tokenProperty, Clock clock) {
+        this.jwtParser = Jwts.parser()
+            .verifyWith(tokenProperty.getBase64URLSecretKey())
+            .clock(() -> Date.from(clock.instant()))
+            .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(VERIFIED_TOKEN_CACHE_MAXIMUM_SIZE)
+            .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+            .expireAfter(Expiry.creating(
+                (String tokenDigest, VerifiedToken verifiedToken) -> verifiedToken.timeToLive(clock.instant())
+            ))
+            .build();
+    }
 
     public String extractAccessToken(HttpServletRequest request) {
         String authorization = request.getHeader("Authorization");
@@ -39,8 +82,19 @@ public class JWTHandler {
     }
 
     public UserParam extractUserFrom(String token) {
+        String tokenDigest = digest(token);
+        VerifiedToken verifiedToken = verifiedTokens.getIfPresent(tokenDigest);
+        if (verifiedToken != null) {
+            return verifiedToken.userParam();
+        }
+
         Object payload = parsePayload(token);
-        return convertPayloadToUserParam(payload);
+        UserParam userParam = convertPayloadToUserParam(payload);
+
+        if (payload instanceof Claims claims && claims.getExpiration() != null) {
+            verifiedTokens.put(tokenDigest, new VerifiedToken(userParam, claims.getExpiration().toInstant()));
+        }
+        return userParam;
     }
 
     public UUID getUserIdFromExpiredToken(String token) {
@@ -53,6 +107,16 @@ public class JWTHandler {
         throw new BusinessException(TokenError.UNEXPIRED_TOKEN);
     }
 
+    private String digest(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance(TOKEN_DIGEST_ALGORITHM)
+                .digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     private Object parsePayload(String token) {
         try {
             return parseToken(token)
@@ -65,10 +129,7 @@ public class JWTHandler {
     }
 
     private Jwt<?, ?> parseToken(String token) {
-        return Jwts.parser()
-            .verifyWith(tokenProperty.getBase64URLSecretKey())
-            .build()
-            .parse(token);
+        return jwtParser.parse(token);
     }
 
     private UserParam convertPayloadToUserParam(Object payload) {
@@ -78,4 +139,15 @@ public class JWTHandler {
             throw new BusinessException(TokenError.INVALID_CLAIM);
         }
     }
+
+    private record VerifiedToken(
+        UserParam userParam,
+        Instant expiresAt
+    ) {
+
+        Duration timeToLive(Instant now) {
+            Duration timeToLive = Duration.between(now, expiresAt);
+            return timeToLive.isNegative() ? Duration.ZERO : timeToLive;
+        }
+    }
 }
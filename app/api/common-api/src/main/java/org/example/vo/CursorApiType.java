@@ -0,0 +1,14 @@
+package org.example.vo;
+
+public enum CursorApiType {
+    SHOW_RECENT,
+    SHOW_POPULAR,
+    SHOW_SEARCH,
+    SHOW_ALERT,
+    ARTIST_SEARCH,
+    ARTIST_SUBSCRIPTION,
+    ARTIST_UNSUBSCRIPTION,
+    GENRE,
+    GENRE_SUBSCRIPTION,
+    GENRE_UNSUBSCRIPTION
+}
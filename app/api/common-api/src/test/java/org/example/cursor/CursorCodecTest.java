@@ -0,0 +1,108 @@
+package org.example.cursor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.assertj.core.api.SoftAssertions;
+import org.example.cursor.error.CursorError;
+import org.example.dto.response.CursorApiResponse;
+import org.example.exception.BusinessException;
+import org.example.property.CursorProperty;
+import org.example.vo.CursorApiType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("커서 서명 테스트")
+class CursorCodecTest {
+
+    CursorCodec cursorCodec = new CursorCodec(new CursorProperty("cursorCodecTestSecretKeyOfThirtyTwoBytes"));
+
+    @Test
+    @DisplayName("서명한 커서를 해석하면 정렬 키 값이 그대로 반환된다.")
+    void decodeSignedCursor() {
+        //given
+        UUID id = UUID.randomUUID();
+        LocalDateTime ticketingAt = LocalDateTime.of(2024, 8, 1, 20, 0);
+        String token = cursorCodec.encode(CursorApiType.SHOW_RECENT, id, ticketingAt);
+
+        //when
+        OpaqueCursor result = OpaqueCursor.verify(cursorCodec.decode(token), CursorApiType.SHOW_RECENT);
+
+        //then
+        SoftAssertions.assertSoftly(
+            soft -> {
+                soft.assertThat(result.uuidId()).isEqualTo(id);
+                soft.assertThat(result.localDateTimeValue()).isEqualTo(ticketingAt);
+            }
+        );
+    }
+
+    @Test
+    @DisplayName("정렬 값이 없는 커서를 해석하면 정렬 값은 null 이다.")
+    void decodeCursorWithoutValue() {
+        //given
+        UUID id = UUID.randomUUID();
+        String token = cursorCodec.encode(CursorApiType.GENRE, id, null);
+
+        //when
+        OpaqueCursor result = cursorCodec.decode(token);
+
+        //then
+        SoftAssertions.assertSoftly(
+            soft -> {
+                soft.assertThat(result.uuidId()).isEqualTo(id);
+                soft.assertThat(result.value()).isNull();
+            }
+        );
+    }
+
+    @Test
+    @DisplayName("정렬 값이 변조된 커서를 해석하면 예외가 발생한다.")
+    void decodeTamperedCursor() {
+        //given
+        String token = cursorCodec.encode(CursorApiType.SHOW_POPULAR, UUID.randomUUID(), 10L);
+        String signature = token.substring(token.indexOf('.'));
+        String tamperedPayload = cursorCodec.encode(CursorApiType.SHOW_POPULAR, UUID.randomUUID(), 99999L);
+        String tamperedToken = tamperedPayload.substring(0, tamperedPayload.indexOf('.')) + signature;
+
+        //when & then
+        assertThatThrownBy(() -> cursorCodec.decode(tamperedToken))
+            .isInstanceOf(BusinessException.class)
+            .hasMessage(CursorError.INVALID_CURSOR.getClientMessage());
+    }
+
+    @Test
+    @DisplayName("다른 목록에서 발급된 커서로 요청하면 예외가 발생한다.")
+    void verifyCursorTypeMismatch() {
+        //given
+        String token = cursorCodec.encode(CursorApiType.ARTIST_SUBSCRIPTION, UUID.randomUUID(), null);
+        OpaqueCursor cursor = cursorCodec.decode(token);
+
+        //when & then
+        assertThatThrownBy(() -> OpaqueCursor.verify(cursor, CursorApiType.GENRE_SUBSCRIPTION))
+            .isInstanceOf(BusinessException.class)
+            .hasMessage(CursorError.CURSOR_TYPE_MISMATCH.getClientMessage());
+    }
+
+    @Test
+    @DisplayName("마지막 데이터가 없으면 서명하지 않고 빈 커서를 반환한다.")
+    void signNoneCursor() {
+        //when
+        CursorApiResponse result = cursorCodec.sign(CursorApiType.GENRE, CursorApiResponse.noneCursor());
+
+        //then
+        assertThat(result.token()).isNull();
+    }
+
+    @Test
+    @DisplayName("서명 키가 없거나 32 바이트보다 짧으면 커서 설정을 만들 수 없다.")
+    void rejectShortSecretKey() {
+        //when & then
+        assertThatThrownBy(() -> new CursorProperty(null))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CursorProperty("cursorCodecTestSecretKey"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
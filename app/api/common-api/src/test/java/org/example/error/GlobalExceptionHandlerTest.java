@@ -0,0 +1,73 @@
+package org.example.error;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.example.cursor.CursorCodec;
+import org.example.cursor.OpaqueCursor;
+import org.example.cursor.OpaqueCursorConverter;
+import org.example.property.CursorProperty;
+import org.example.vo.CursorApiType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@DisplayName("전역 예외 처리 테스트")
+class GlobalExceptionHandlerTest {
+
+    private final CursorCodec cursorCodec = new CursorCodec(
+        new CursorProperty("globalExceptionHandlerTestSecretKey")
+    );
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new CursorController())
+        .setControllerAdvice(new GlobalExceptionHandler())
+        .setConversionService(conversionService())
+        .build();
+
+    @Test
+    @DisplayName("서명이 변조된 커서로 요청하면 요청 파라미터 오류가 아닌 커서 오류로 응답한다.")
+    void respondInvalidCursorForTamperedCursor() throws Exception {
+        //given
+        String token = cursorCodec.encode(CursorApiType.SHOW_RECENT, "id", "value");
+        String tamperedToken = "x" + token.substring(1);
+
+        //when & then
+        mockMvc.perform(get("/cursor").param("cursor", tamperedToken))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errorCode").value("CSR-001"));
+    }
+
+    @Test
+    @DisplayName("서명이 올바른 커서로 요청하면 커서가 바인딩된다.")
+    void bindSignedCursor() throws Exception {
+        //given
+        String token = cursorCodec.encode(CursorApiType.SHOW_RECENT, "id", "value");
+
+        //when & then
+        mockMvc.perform(get("/cursor").param("cursor", token))
+            .andExpect(status().isOk());
+    }
+
+    private DefaultFormattingConversionService conversionService() {
+        DefaultFormattingConversionService conversionService = new DefaultFormattingConversionService();
+        conversionService.addConverter(new OpaqueCursorConverter(cursorCodec));
+        return conversionService;
+    }
+
+    record CursorApiRequest(OpaqueCursor cursor) {
+
+    }
+
+    @RestController
+    static class CursorController {
+
+        @GetMapping("/cursor")
+        String findByCursor(CursorApiRequest request) {
+            return request.cursor().id();
+        }
+    }
+}
@@ -4,6 +4,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.Date;
 import java.util.UUID;
 import org.example.exception.BusinessException;
@@ -76,4 +81,65 @@ class JWTHandlerTest {
             expiredAccessToken);
         assertThat(extractedUserIdFromExpiredToken).isEqualTo(userParam.userId());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("검증된 토큰으로 다시 유저 정보를 추출하면 캐싱된 유저 정보를 반환한다.")
+    void extractCachedUserParamFromVerifiedToken() {
+        //given
+        String accessToken = jwtGenerator.generate(userParam, new Date()).accessToken();
+        UserParam verifiedUserParam = jwtHandler.extractUserFrom(accessToken);
+
+        //when
+        UserParam cachedUserParam = jwtHandler.extractUserFrom(accessToken);
+
+        //then
+        assertThat(cachedUserParam).isSameAs(verifiedUserParam);
+    }
+
+    @Test
+    @DisplayName("검증되어 캐싱된 토큰이라도 만료 시각이 지나면 예외가 발생한다.")
+    void makeExceptionParsingCachedTokenAfterExpiration() {
+        //given
+        MutableClock clock = new MutableClock(Instant.now());
+        JWTHandler clockedJwtHandler = new JWTHandler(tokenProperty, clock);
+        String accessToken = jwtGenerator.generate(userParam, Date.from(clock.instant())).accessToken();
+        UserParam cachedUserParam = clockedJwtHandler.extractUserFrom(accessToken);
+
+        //when
+        clock.advance(Duration.ofMillis(tokenProperty.accessTokenExpirationSeconds()).plusSeconds(1));
+
+        //then
+        assertThat(cachedUserParam.userId()).isEqualTo(userParam.userId());
+        assertThatThrownBy(() -> clockedJwtHandler.extractUserFrom(accessToken))
+            .isInstanceOf(BusinessException.class)
+            .hasMessage(TokenError.EXPIRED_TOKEN.getClientMessage());
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -18,11 +18,13 @@ import jakarta.validation.Valid;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.example.cursor.CursorCodec;
 import org.example.dto.response.CursorApiResponse;
 import org.example.dto.response.PaginationApiResponse;
 import org.example.dto.response.SuccessResponse;
 import org.example.security.dto.AuthenticatedInfo;
 import org.example.util.ValidatorUser;
+import org.example.vo.CursorApiType;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -40,6 +42,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class ArtistController {
 
     private final ArtistService artistService;
+    private final CursorCodec cursorCodec;
 
     @ResponseStatus(HttpStatus.OK)
     @GetMapping("/unsubscriptions")
@@ -64,7 +67,7 @@ public class ArtistController {
             PaginationApiResponse.<ArtistUnsubscriptionPaginationApiParam>builder()
                 .hasNext(response.hasNext())
                 .data(data)
-                .cursor(cursor)
+                .cursor(cursorCodec.sign(CursorApiType.ARTIST_UNSUBSCRIPTION, cursor))
                 .build()
         );
     }
@@ -91,7 +94,7 @@ public class ArtistController {
             PaginationApiResponse.<ArtistSubscriptionPaginationApiParam>builder()
                 .hasNext(response.hasNext())
                 .data(data)
-                .cursor(cursor)
+                .cursor(cursorCodec.sign(CursorApiType.ARTIST_SUBSCRIPTION, cursor))
                 .build()
         );
     }
@@ -154,7 +157,7 @@ public class ArtistController {
             PaginationApiResponse.<ArtistSearchPaginationApiParam>builder()
                 .hasNext(response.hasNext())
                 .data(data)
-                .cursor(response.cursor())
+                .cursor(cursorCodec.sign(CursorApiType.ARTIST_SEARCH, response.cursor()))
                 .build()
         );
     }
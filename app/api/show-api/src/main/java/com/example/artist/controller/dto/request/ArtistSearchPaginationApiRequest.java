@@ -2,13 +2,20 @@ package com.example.artist.controller.dto.request;
 
 import com.example.artist.service.dto.request.ArtistSearchPaginationServiceRequest;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Max;
 import java.util.UUID;
+import org.example.cursor.OpaqueCursor;
+import org.example.vo.ArtistSearchSource;
+import org.example.vo.CursorApiType;
 
 public record ArtistSearchPaginationApiRequest(
 
-    @Parameter(description = "이전 페이지네이션 마지막 데이터의 cursorId / 최초 조회라면 null", example = "0")
-    Integer cursorId,
+    @Parameter(
+        description = "이전 페이지네이션 응답의 cursor.token / 최초 조회라면 null",
+        schema = @Schema(type = "string")
+    )
+    OpaqueCursor cursor,
 
     @Parameter(example = "30")
     @Max(value = 30, message = "조회하는 데이터의 최대 개수는 30입니다.")
@@ -19,21 +26,22 @@ public record ArtistSearchPaginationApiRequest(
 ) {
 
     public ArtistSearchPaginationApiRequest {
-        if (cursorId == null) {
-            cursorId = 0;
-        }
-
         if (size == null) {
             size = 30;
         }
     }
 
     public ArtistSearchPaginationServiceRequest toServiceRequest(UUID userId) {
+        OpaqueCursor verifiedCursor = OpaqueCursor.verify(cursor, CursorApiType.ARTIST_SEARCH);
+        Integer offset = verifiedCursor.integerId();
+        String source = verifiedCursor.value();
+
         return ArtistSearchPaginationServiceRequest.builder()
             .userId(userId)
-            .cursor(cursorId)
+            .cursor(offset == null ? 0 : offset)
             .size(size)
             .search(search)
+            .source(source == null ? null : ArtistSearchSource.valueOf(source))
             .build();
     }
 }
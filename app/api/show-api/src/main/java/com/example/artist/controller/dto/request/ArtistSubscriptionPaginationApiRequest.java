@@ -6,12 +6,17 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Max;
 import java.util.UUID;
+import org.example.cursor.OpaqueCursor;
+import org.example.vo.CursorApiType;
 
 @Schema
 public record ArtistSubscriptionPaginationApiRequest(
 
-    @Parameter(description = "이전 페이지네이션 마지막 데이터의 cursorId / 최초 조회라면 null")
-    UUID cursorId,
+    @Parameter(
+        description = "이전 페이지네이션 응답의 cursor.token / 최초 조회라면 null",
+        schema = @Schema(type = "string")
+    )
+    OpaqueCursor cursor,
 
     @Parameter(example = "30")
     @Max(value = 30, message = "조회하는 데이터의 최대 개수는 30입니다.")
@@ -19,10 +24,10 @@ public record ArtistSubscriptionPaginationApiRequest(
 ) {
 
     public ArtistSubscriptionPaginationApiRequest(
-        UUID cursorId,
+        OpaqueCursor cursor,
         Integer size
     ) {
-        this.cursorId = cursorId;
+        this.cursor = cursor;
         this.size = size == null ? 30 : size;
     }
 
@@ -30,7 +35,7 @@ public record ArtistSubscriptionPaginationApiRequest(
         return ArtistSubscriptionPaginationServiceRequest.builder()
             .subscriptionStatusApiType(SubscriptionStatusApiType.SUBSCRIBED)
             .size(size)
-            .cursor(cursorId)
+            .cursor(OpaqueCursor.verify(cursor, CursorApiType.ARTIST_SUBSCRIPTION).uuidId())
             .userId(userId)
             .build();
     }
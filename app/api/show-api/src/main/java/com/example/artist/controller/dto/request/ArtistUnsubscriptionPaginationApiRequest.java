@@ -3,12 +3,18 @@ package com.example.artist.controller.dto.request;
 import com.example.artist.service.dto.request.ArtistUnsubscriptionPaginationServiceRequest;
 import com.example.vo.SubscriptionStatusApiType;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Max;
 import java.util.UUID;
+import org.example.cursor.OpaqueCursor;
+import org.example.vo.CursorApiType;
 
 public record ArtistUnsubscriptionPaginationApiRequest(
-    @Parameter(description = "이전 페이지네이션 마지막 데이터의 cursorId / 최초 조회라면 null")
-    UUID cursorId,
+    @Parameter(
+        description = "이전 페이지네이션 응답의 cursor.token / 최초 조회라면 null",
+        schema = @Schema(type = "string")
+    )
+    OpaqueCursor cursor,
 
     @Parameter(example = "30")
     @Max(value = 30, message = "조회하는 데이터의 최대 개수는 30입니다.")
@@ -16,10 +22,10 @@ public record ArtistUnsubscriptionPaginationApiRequest(
 ) {
 
     public ArtistUnsubscriptionPaginationApiRequest(
-        UUID cursorId,
+        OpaqueCursor cursor,
         Integer size
     ) {
-        this.cursorId = cursorId;
+        this.cursor = cursor;
         this.size = size == null ? 30 : size;
     }
 
@@ -27,7 +33,7 @@ public record ArtistUnsubscriptionPaginationApiRequest(
         return ArtistUnsubscriptionPaginationServiceRequest.builder()
             .subscriptionStatusApiType(SubscriptionStatusApiType.UNSUBSCRIBED)
             .userId(userId)
-            .cursor(cursorId)
+            .cursor(OpaqueCursor.verify(cursor, CursorApiType.ARTIST_UNSUBSCRIPTION).uuidId())
             .size(size)
             .build();
     }
@@ -16,10 +16,15 @@ import com.example.pub.MessagePublisher;
 import com.example.pub.message.ArtistServiceMessage;
 import com.example.pub.message.ArtistSubscriptionServiceMessage;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.dto.response.CursorApiResponse;
@@ -41,7 +46,8 @@ public class ArtistService {
     private final ArtistSubscriptionUseCase artistSubscriptionUseCase;
     private final UserUseCase userUseCase;
     private final MessagePublisher messagePublisher;
-    private final ReentrantLock lock = new ReentrantLock();
+    private final ConcurrentHashMap<String, CompletableFuture<Artist>> inFlightArtistLookups =
+        new ConcurrentHashMap<>();
 
     public PaginationServiceResponse<ArtistSearchPaginationServiceParam> searchArtist(
         ArtistSearchPaginationServiceRequest request
@@ -64,7 +70,7 @@ public class ArtistService {
             .toList();
 
         return PaginationServiceResponse.of(data, response.hasNext(),
-            CursorApiResponse.toCursorId(response.offset())
+            CursorApiResponse.toCursorResponse(response.offset(), response.source())
         );
     }
 
@@ -77,7 +83,7 @@ public class ArtistService {
      * @return 구독에 성공한 아티스트 ID 목록을 담은 응답 객체
      */
     public ArtistSubscriptionServiceResponse subscribe(ArtistSubscriptionServiceRequest request) {
-        List<Artist> requestArtist = findOrCreateArtistByLock(request);
+        List<Artist> requestArtist = findOrCreateArtists(request);
         List<UUID> requestArtistIds = requestArtist.stream()
             .map(Artist::getId)
             .toList();
@@ -112,25 +118,32 @@ public class ArtistService {
             ).build();
     }
 
-    public List<Artist> findOrCreateArtistByLock(ArtistSubscriptionServiceRequest request) {
-        List<Artist> artists = new ArrayList<>();
-        boolean isLocked = false;
-        try {
-            isLocked = lock.tryLock(1500L, TimeUnit.MILLISECONDS);
-
-            if (!isLocked) {
-                log.error("Artist subscribe event: {}", request);
-                return List.of();
-            }
-            artists = artistUseCase.findOrCreateArtistBySpotifyId(request.spotifyArtistIds());
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("Thread interrupted while trying to lock for findOrCreate Artist: {}", request);
-        } finally {
-            if (isLocked) {
-                lock.unlock();
-            }
-        }
+    /**
+     * 같은 Spotify 아티스트를 동시에 요청하면 먼저 들어온 요청의 조회 결과를 함께 기다리고,
+     * 서로 다른 아티스트 요청은 서로를 기다리지 않고 병렬로 처리합니다.
+     * 여러 서버에서 동시에 생성하는 경우는 spotify_id 충돌을 무시하는 삽입으로 한 건만 저장됩니다.
+     */
+    public List<Artist> findOrCreateArtists(ArtistSubscriptionServiceRequest request) {
+        Map<String, CompletableFuture<Artist>> ownedLookups = new LinkedHashMap<>();
+        List<CompletableFuture<Artist>> joinedLookups = new ArrayList<>();
+
+        request.spotifyArtistIds().stream()
+            .distinct()
+            .forEach(spotifyId -> {
+                CompletableFuture<Artist> lookup = new CompletableFuture<>();
+                CompletableFuture<Artist> inFlightLookup = inFlightArtistLookups.putIfAbsent(spotifyId, lookup);
+                if (inFlightLookup == null) {
+                    ownedLookups.put(spotifyId, lookup);
+                } else {
+                    joinedLookups.add(inFlightLookup);
+                }
+            });
+
+        List<Artist> artists = new ArrayList<>(findOrCreateOwnedArtists(ownedLookups));
+        joinedLookups.stream()
+            .map(CompletableFuture::join)
+            .filter(Objects::nonNull)
+            .forEach(artists::add);
 
         return artists;
     }
@@ -209,6 +222,29 @@ public class ArtistService {
         );
     }
 
+    private List<Artist> findOrCreateOwnedArtists(Map<String, CompletableFuture<Artist>> ownedLookups) {
+        if (ownedLookups.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+            List<Artist> artists = artistUseCase.findOrCreateArtistBySpotifyId(
+                new ArrayList<>(ownedLookups.keySet())
+            );
+            Map<String, Artist> artistBySpotifyId = artists.stream()
+                .filter(artist -> artist.getSpotifyId() != null)
+                .collect(Collectors.toMap(Artist::getSpotifyId, Function.identity(), (first, second) -> first));
+            ownedLookups.forEach((spotifyId, lookup) -> lookup.complete(artistBySpotifyId.get(spotifyId)));
+
+            return artists;
+        } catch (RuntimeException e) {
+            ownedLookups.values().forEach(lookup -> lookup.completeExceptionally(e));
+            throw e;
+        } finally {
+            ownedLookups.forEach(inFlightArtistLookups::remove);
+        }
+    }
+
     private List<UUID> getSubscriptionArtistIds(UUID userId) {
         List<ArtistSubscription> subscriptions = artistSubscriptionUseCase.findSubscriptionList(
             userId);
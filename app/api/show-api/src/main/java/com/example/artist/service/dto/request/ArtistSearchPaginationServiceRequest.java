@@ -3,13 +3,15 @@ package com.example.artist.service.dto.request;
 import java.util.UUID;
 import lombok.Builder;
 import org.example.dto.artist.request.ArtistSearchPaginationDomainRequest;
+import org.example.vo.ArtistSearchSource;
 
 @Builder
 public record ArtistSearchPaginationServiceRequest(
     UUID userId,
     int cursor,
     int size,
-    String search
+    String search,
+    ArtistSearchSource source
 ) {
 
     public ArtistSearchPaginationDomainRequest toDomainRequest() {
@@ -18,6 +20,7 @@ public record ArtistSearchPaginationServiceRequest(
             .limit(size)
             .offset(cursor)
             .search(search)
+            .source(source)
             .build();
     }
 }
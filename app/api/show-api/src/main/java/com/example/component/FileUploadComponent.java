@@ -1,5 +1,6 @@
 package com.example.component;
 
+import com.example.component.dto.PresignedUploadComponentResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -8,4 +9,19 @@ public interface FileUploadComponent {
 
     String uploadFile(String directory, MultipartFile multipartFile);
 
+    /**
+     * 클라이언트가 API 서버를 거치지 않고 저장소에 바로 PUT 할 수 있는 서명된 URL 을 발급합니다.
+     * 업로드 시 요청 헤더의 Content-Type 은 발급할 때의 contentType 과 같아야 합니다.
+     */
+    PresignedUploadComponentResponse createPresignedUpload(
+        String directory,
+        String originalFileName,
+        String contentType
+    );
+
+    /**
+     * 서명된 URL 로 업로드한 객체가 directory 아래에 실제로 존재하는지 확인하고 객체 URL 을 반환합니다.
+     */
+    String confirmUpload(String directory, String objectKey);
+
 }
@@ -0,0 +1,13 @@
+package com.example.component;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface ImageDerivativeComponent {
+
+    /**
+     * 업로드된 이미지로 목록용 썸네일을 별도 작업 스레드에서 만들고, 완료되면 썸네일 URL 을 담아 끝납니다.
+     * 저장소 밖의 URL 이거나 작업 대기열이 가득 차면 예외로 끝나므로 호출하는 쪽은 원본 이미지를 계속 사용합니다.
+     */
+    CompletableFuture<String> createThumbnail(String imageURL);
+
+}
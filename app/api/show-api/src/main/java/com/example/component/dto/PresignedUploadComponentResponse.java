@@ -0,0 +1,13 @@
+package com.example.component.dto;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+
+@Builder
+public record PresignedUploadComponentResponse(
+    String objectKey,
+    String uploadURL,
+    LocalDateTime expiresAt
+) {
+
+}
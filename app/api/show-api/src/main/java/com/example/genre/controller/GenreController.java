@@ -18,11 +18,13 @@ import jakarta.validation.Valid;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.example.cursor.CursorCodec;
 import org.example.dto.response.CursorApiResponse;
 import org.example.dto.response.PaginationApiResponse;
 import org.example.dto.response.SuccessResponse;
 import org.example.security.dto.AuthenticatedInfo;
 import org.example.util.ValidatorUser;
+import org.example.vo.CursorApiType;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -40,6 +42,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class GenreController {
 
     private final GenreService genreService;
+    private final CursorCodec cursorCodec;
 
     @ResponseStatus(HttpStatus.OK)
     @GetMapping
@@ -62,7 +65,7 @@ public class GenreController {
             PaginationApiResponse.<GenrePaginationApiParam>builder()
                 .hasNext(response.hasNext())
                 .data(data)
-                .cursor(cursor)
+                .cursor(cursorCodec.sign(CursorApiType.GENRE, cursor))
                 .build()
         );
     }
@@ -89,7 +92,7 @@ public class GenreController {
             PaginationApiResponse.<GenreUnsubscriptionPaginationApiParam>builder()
                 .hasNext(response.hasNext())
                 .data(data)
-                .cursor(cursor)
+                .cursor(cursorCodec.sign(CursorApiType.GENRE_UNSUBSCRIPTION, cursor))
                 .build()
         );
     }
@@ -116,7 +119,7 @@ public class GenreController {
             PaginationApiResponse.<GenreSubscriptionPaginationApiParam>builder()
                 .hasNext(response.hasNext())
                 .data(data)
-                .cursor(cursor)
+                .cursor(cursorCodec.sign(CursorApiType.GENRE_SUBSCRIPTION, cursor))
                 .build()
         );
     }
@@ -3,12 +3,18 @@ package com.example.genre.controller.dto.request;
 import com.example.genre.service.dto.request.GenreUnsubscriptionPaginationServiceRequest;
 import com.example.vo.SubscriptionStatusApiType;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Max;
 import java.util.UUID;
+import org.example.cursor.OpaqueCursor;
+import org.example.vo.CursorApiType;
 
 public record GenreUnsubscriptionPaginationApiRequest(
-    @Parameter(description = "이전 페이지네이션 마지막 데이터의 cursorId / 최초 조회라면 null")
-    UUID cursorId,
+    @Parameter(
+        description = "이전 페이지네이션 응답의 cursor.token / 최초 조회라면 null",
+        schema = @Schema(type = "string")
+    )
+    OpaqueCursor cursor,
 
     @Parameter(example = "30")
     @Max(value = 30, message = "조회하는 데이터의 최대 개수는 30입니다.")
@@ -23,7 +29,7 @@ public record GenreUnsubscriptionPaginationApiRequest(
     public GenreUnsubscriptionPaginationServiceRequest toServiceRequest(UUID userId) {
         return GenreUnsubscriptionPaginationServiceRequest.builder()
             .subscriptionStatusApiType(SubscriptionStatusApiType.UNSUBSCRIBED)
-            .cursor(cursorId)
+            .cursor(OpaqueCursor.verify(cursor, CursorApiType.GENRE_UNSUBSCRIPTION).uuidId())
             .size(size)
             .userId(userId)
             .build();
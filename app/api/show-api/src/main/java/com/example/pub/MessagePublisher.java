@@ -3,12 +3,15 @@ package com.example.pub;
 import com.example.pub.message.ArtistSubscriptionServiceMessage;
 import com.example.pub.message.GenreSubscriptionServiceMessage;
 import com.example.pub.message.ShowRelationArtistAndGenreServiceMessage;
+import com.example.pub.message.ShowRelationsArtistAndGenreServiceMessage;
 import com.example.pub.message.TicketingAlertsToReserveServiceMessage;
 
 public interface MessagePublisher {
 
     void publishShow(String topic, ShowRelationArtistAndGenreServiceMessage message);
 
+    void publishShows(String topic, ShowRelationsArtistAndGenreServiceMessage message);
+
     void publishArtistSubscription(String topic, ArtistSubscriptionServiceMessage message);
 
     void publishGenreSubscription(String topic, GenreSubscriptionServiceMessage message);
@@ -0,0 +1,14 @@
+package com.example.pub.message;
+
+import java.util.List;
+
+public record ShowRelationsArtistAndGenreServiceMessage(
+    List<ShowRelationArtistAndGenreServiceMessage> shows
+) {
+
+    public static ShowRelationsArtistAndGenreServiceMessage from(
+        List<ShowRelationArtistAndGenreServiceMessage> shows
+    ) {
+        return new ShowRelationsArtistAndGenreServiceMessage(shows);
+    }
+}
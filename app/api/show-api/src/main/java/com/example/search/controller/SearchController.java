@@ -0,0 +1,36 @@
+package com.example.search.controller;
+
+import com.example.search.controller.dto.request.SearchSuggestionApiRequest;
+import com.example.search.controller.dto.response.SearchSuggestionApiResponse;
+import com.example.search.service.SearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.example.dto.response.SuccessResponse;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/search")
+@Tag(name = "검색")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping("/suggest")
+    @Operation(summary = "공연 제목, 아티스트 이름 자동완성")
+    public SuccessResponse<SearchSuggestionApiResponse> suggest(
+        @Valid @ParameterObject SearchSuggestionApiRequest request
+    ) {
+        return SuccessResponse.ok(
+            SearchSuggestionApiResponse.from(searchService.suggest(request.query(), request.size()))
+        );
+    }
+}
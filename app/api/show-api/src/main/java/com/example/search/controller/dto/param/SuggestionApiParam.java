@@ -0,0 +1,22 @@
+package com.example.search.controller.dto.param;
+
+import com.example.search.controller.vo.SuggestionApiType;
+import com.example.search.service.dto.param.SuggestionServiceParam;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.UUID;
+
+public record SuggestionApiParam(
+    @Schema(description = "공연 ID 또는 아티스트 ID")
+    UUID id,
+
+    @Schema(description = "공연 제목 또는 아티스트 이름")
+    String text,
+
+    @Schema(description = "자동완성 대상 종류")
+    SuggestionApiType type
+) {
+
+    public static SuggestionApiParam from(SuggestionServiceParam param) {
+        return new SuggestionApiParam(param.id(), param.text(), param.type());
+    }
+}
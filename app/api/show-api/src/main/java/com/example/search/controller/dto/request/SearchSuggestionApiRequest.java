@@ -0,0 +1,25 @@
+package com.example.search.controller.dto.request;
+
+import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+public record SearchSuggestionApiRequest(
+    @Parameter(description = "입력 중인 검색어", required = true)
+    String query,
+
+    @Parameter(example = "10")
+    @Min(value = 1, message = "자동완성 결과의 최소 개수는 1입니다.")
+    @Max(value = 10, message = "자동완성 결과의 최대 개수는 10입니다.")
+    Integer size
+) {
+    public SearchSuggestionApiRequest {
+        if (query == null) {
+            query = "";
+        }
+
+        if (size == null) {
+            size = 10;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.search.controller.dto.response;
+
+import com.example.search.controller.dto.param.SuggestionApiParam;
+import com.example.search.service.dto.param.SuggestionServiceParam;
+import java.util.List;
+
+public record SearchSuggestionApiResponse(
+    List<SuggestionApiParam> suggestions
+) {
+
+    public static SearchSuggestionApiResponse from(List<SuggestionServiceParam> params) {
+        return new SearchSuggestionApiResponse(
+            params.stream()
+                .map(SuggestionApiParam::from)
+                .toList()
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.search.controller.vo;
+
+import org.example.vo.SuggestionType;
+
+public enum SuggestionApiType {
+    SHOW, ARTIST;
+
+    public static SuggestionApiType from(SuggestionType suggestionType) {
+        return switch (suggestionType) {
+            case SHOW -> SHOW;
+            case ARTIST -> ARTIST;
+        };
+    }
+}
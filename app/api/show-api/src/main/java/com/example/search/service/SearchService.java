@@ -0,0 +1,20 @@
+package com.example.search.service;
+
+import com.example.search.service.dto.param.SuggestionServiceParam;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.example.usecase.SearchSuggestionUseCase;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    private final SearchSuggestionUseCase searchSuggestionUseCase;
+
+    public List<SuggestionServiceParam> suggest(String query, int size) {
+        return searchSuggestionUseCase.suggest(query, size).stream()
+            .map(SuggestionServiceParam::from)
+            .toList();
+    }
+}
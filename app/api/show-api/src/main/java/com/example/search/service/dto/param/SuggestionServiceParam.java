@@ -0,0 +1,20 @@
+package com.example.search.service.dto.param;
+
+import com.example.search.controller.vo.SuggestionApiType;
+import java.util.UUID;
+import org.example.dto.search.response.SuggestionDomainResponse;
+
+public record SuggestionServiceParam(
+    UUID id,
+    String text,
+    SuggestionApiType type
+) {
+
+    public static SuggestionServiceParam from(SuggestionDomainResponse response) {
+        return new SuggestionServiceParam(
+            response.id(),
+            response.text(),
+            SuggestionApiType.from(response.type())
+        );
+    }
+}
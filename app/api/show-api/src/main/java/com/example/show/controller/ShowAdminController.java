@@ -5,14 +5,26 @@ import com.example.artist.service.ArtistAdminService;
 import com.example.genre.controller.dto.response.GenreNameApiResponse;
 import com.example.genre.service.GenreAdminService;
 import com.example.show.controller.dto.request.ShowCreateApiForm;
+import com.example.show.controller.dto.request.ShowPosterUploadApiRequest;
 import com.example.show.controller.dto.request.ShowUpdateApiForm;
+import com.example.show.controller.dto.response.ShowImportApiResponse;
 import com.example.show.controller.dto.response.ShowInfoApiResponse;
+import com.example.show.controller.dto.response.ShowPosterUploadApiResponse;
 import com.example.show.service.ShowAdminService;
+import com.example.show.service.ShowExportService;
+import com.example.show.service.ShowImportService;
+import com.example.show.service.dto.request.ShowAdminPaginationServiceRequest;
 import com.example.show.service.dto.response.ShowInfoServiceResponse;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -20,14 +32,22 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.multipart.MultipartFile;
 
 @Controller
 @RequiredArgsConstructor
 @RequestMapping("/admin/shows")
 public class ShowAdminController {
 
+    private static final int MAX_LIST_SIZE = 100;
+
     private final ShowAdminService showAdminService;
+    private final ShowImportService showImportService;
+    private final ShowExportService showExportService;
     private final ArtistAdminService artistAdminService;
     private final GenreAdminService genreAdminService;
 
@@ -54,15 +74,50 @@ public class ShowAdminController {
         return "redirect:/admin/shows/list";
     }
 
-    @GetMapping("/list")
-    public String findAllShow(Model model) {
-        var showWithTicketingTimes = showAdminService.findShowDetailWithTicketingTimes();
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @ResponseBody
+    public ShowImportApiResponse importShows(@RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream inputStream = file.getInputStream()) {
+            return ShowImportApiResponse.from(showImportService.importShows(inputStream));
+        }
+    }
+
+    @PostMapping("/posters/presigned-upload")
+    @ResponseBody
+    public ShowPosterUploadApiResponse createPosterUpload(@Valid @RequestBody ShowPosterUploadApiRequest request) {
+        return ShowPosterUploadApiResponse.from(
+            showAdminService.createPosterUpload(request.fileName(), request.contentType())
+        );
+    }
 
-        List<ShowInfoApiResponse> shows = showWithTicketingTimes.stream()
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportShows(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"shows.ndjson\"");
+        showExportService.exportShows(response.getOutputStream());
+    }
+
+    @GetMapping("/list")
+    public String findAllShow(
+        @RequestParam(value = "cursor", required = false) UUID cursor,
+        @RequestParam(value = "size", defaultValue = "30") int size,
+        Model model
+    ) {
+        var showInfos = showAdminService.findShowInfos(
+            ShowAdminPaginationServiceRequest.builder()
+                .cursorId(cursor)
+                .size(Math.min(Math.max(size, 1), MAX_LIST_SIZE))
+                .build()
+        );
+
+        List<ShowInfoApiResponse> shows = showInfos.data().stream()
             .map(ShowInfoApiResponse::new)
             .toList();
 
         model.addAttribute("shows", shows);
+        model.addAttribute("hasNext", showInfos.hasNext());
+        model.addAttribute("nextCursor", showInfos.cursor().id());
         return "show_list_form";
     }
 
@@ -9,14 +9,14 @@ import com.example.show.service.ShowService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
-import org.example.dto.response.CursorApiResponse;
+import org.example.cursor.CursorCodec;
 import org.example.dto.response.PaginationApiResponse;
 import org.example.dto.response.SuccessResponse;
 import org.example.security.dto.AuthenticatedInfo;
 import org.example.util.ValidatorUser;
+import org.example.vo.CursorApiType;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -34,6 +34,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class ShowController {
 
     private final ShowService showService;
+    private final CursorCodec cursorCodec;
 
     @ResponseStatus(HttpStatus.OK)
     @GetMapping
@@ -46,15 +47,11 @@ public class ShowController {
             .map(ShowPaginationApiParam::from)
             .toList();
 
-        CursorApiResponse cursor = Optional.ofNullable(CursorApiResponse.getLastElement(data))
-            .map(element -> CursorApiResponse.toCursorId(element.id()))
-            .orElse(CursorApiResponse.noneCursor());
-
         return SuccessResponse.ok(
             PaginationApiResponse.<ShowPaginationApiParam>builder()
                 .data(data)
                 .hasNext(response.hasNext())
-                .cursor(cursor)
+                .cursor(cursorCodec.sign(request.sort().toCursorType(), response.cursor()))
                 .build()
         );
     }
@@ -85,15 +82,11 @@ public class ShowController {
             .map(ShowSearchPaginationApiParam::from)
             .toList();
 
-        CursorApiResponse cursor = Optional.ofNullable(CursorApiResponse.getLastElement(data))
-            .map(element -> CursorApiResponse.toCursorId(element.id()))
-            .orElse(CursorApiResponse.noneCursor());
-
         return SuccessResponse.ok(
             PaginationApiResponse.<ShowSearchPaginationApiParam>builder()
                 .hasNext(response.hasNext())
                 .data(data)
-                .cursor(cursor)
+                .cursor(cursorCodec.sign(CursorApiType.SHOW_SEARCH, response.cursor()))
                 .build()
         );
     }
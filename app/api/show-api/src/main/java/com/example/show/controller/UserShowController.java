@@ -21,11 +21,13 @@ import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.example.cursor.CursorCodec;
 import org.example.dto.response.CursorApiResponse;
 import org.example.dto.response.PaginationApiResponse;
 import org.example.dto.response.SuccessResponse;
 import org.example.dto.response.SuccessResponse.Empty;
 import org.example.security.dto.AuthenticatedInfo;
+import org.example.vo.CursorApiType;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -45,6 +47,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class UserShowController {
 
     private final UserShowService userShowService;
+    private final CursorCodec cursorCodec;
 
     @ResponseStatus(HttpStatus.OK)
     @PostMapping("/{showId}/interests")
@@ -180,7 +183,7 @@ public class UserShowController {
             PaginationApiResponse.<ShowAlertPaginationApiParam>builder()
                 .data(response)
                 .hasNext(alertShows.hasNext())
-                .cursor(cursor)
+                .cursor(cursorCodec.sign(CursorApiType.SHOW_ALERT, cursor))
                 .build()
         );
     }
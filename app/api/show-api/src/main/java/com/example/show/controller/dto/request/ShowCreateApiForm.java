@@ -2,6 +2,7 @@ package com.example.show.controller.dto.request;
 
 import com.example.show.controller.vo.TicketingApiType;
 import com.example.show.service.dto.request.ShowCreateServiceRequest;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDate;
@@ -30,9 +31,10 @@ public record ShowCreateApiForm(
     @NotNull(message = "공연 장소는 필수 요청값 입니다.")
     String location,
 
-    @NotNull(message = "공연 포스터는 필수 요청값 입니다.")
     MultipartFile post,
 
+    String posterImageKey,
+
     @NotNull(message = "공연 티켓팅 종류는 필수 요청값 입니다.")
     List<TicketingApiType> ticketingTypes,
 
@@ -58,6 +60,14 @@ public record ShowCreateApiForm(
     List<UUID> genreIds
 ) {
 
+    /**
+     * 포스터는 파일로 함께 보내거나, 서명된 URL 로 먼저 업로드한 뒤 객체 키만 보낼 수 있습니다.
+     */
+    @AssertTrue(message = "공연 포스터는 필수 요청값 입니다.")
+    public boolean isPosterPresent() {
+        return (post != null && !post.isEmpty()) || (posterImageKey != null && !posterImageKey.isBlank());
+    }
+
     public ShowCreateServiceRequest toServiceRequest() {
         return ShowCreateServiceRequest.builder()
             .title(title)
@@ -66,6 +76,7 @@ public record ShowCreateApiForm(
             .endDate(endDate)
             .location(location)
             .post(post)
+            .posterImageKey(posterImageKey)
             .priceInformation(getPriceInformation())
             .showTicketingSites(getTicketingSitesApiResponse())
             .ticketingTimes(getTicketingDatesApiResponse())
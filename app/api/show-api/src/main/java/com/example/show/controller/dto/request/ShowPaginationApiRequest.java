@@ -1,10 +1,12 @@
 package com.example.show.controller.dto.request;
 
 import com.example.show.controller.vo.ShowSortApiType;
+import com.example.show.service.dto.param.ShowPopularityCursorServiceParam;
 import com.example.show.service.dto.request.ShowPaginationServiceRequest;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Max;
-import java.util.UUID;
+import org.example.cursor.OpaqueCursor;
 import org.springdoc.core.annotations.ParameterObject;
 
 @ParameterObject
@@ -16,8 +18,11 @@ public record ShowPaginationApiRequest(
     @Parameter(required = true, description = "오픈예정 티켓만 보기")
     boolean onlyOpenSchedule,
 
-    @Parameter(description = "이전 페이지네이션 마지막 데이터의 cursorId / 최초 조회라면 null")
-    UUID cursorId,
+    @Parameter(
+        description = "이전 페이지네이션 응답의 cursor.token / 최초 조회라면 null",
+        schema = @Schema(type = "string")
+    )
+    OpaqueCursor cursor,
 
     @Parameter(example = "30")
     @Max(value = 30, message = "조회하는 데이터의 최대 개수는 30입니다.")
@@ -30,10 +35,18 @@ public record ShowPaginationApiRequest(
     }
 
     public ShowPaginationServiceRequest toServiceRequest() {
+        OpaqueCursor verifiedCursor = OpaqueCursor.verify(cursor, sort.toCursorType());
+        ShowPopularityCursorServiceParam popularityCursor = sort == ShowSortApiType.POPULAR
+            ? ShowPopularityCursorServiceParam.from(verifiedCursor.value())
+            : ShowPopularityCursorServiceParam.from(null);
+
         return ShowPaginationServiceRequest.builder()
             .sort(sort)
             .onlyOpenSchedule(onlyOpenSchedule)
-            .cursorId(cursorId)
+            .cursorId(verifiedCursor.uuidId())
+            .cursorValue(popularityCursor.score())
+            .cursorTicketingAt(sort == ShowSortApiType.RECENT ? verifiedCursor.localDateTimeValue() : null)
+            .popularitySnapshot(popularityCursor.snapshot())
             .size(size)
             .build();
     }
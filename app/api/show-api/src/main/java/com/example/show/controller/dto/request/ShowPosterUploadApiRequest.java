@@ -0,0 +1,20 @@
+package com.example.show.controller.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+
+public record ShowPosterUploadApiRequest(
+
+    @NotBlank(message = "파일 이름은 필수 요청값 입니다.")
+    @Pattern(regexp = "[^/\\\\]+\\.[A-Za-z0-9]+", message = "확장자가 있는 파일 이름이어야 합니다.")
+    @Schema(description = "업로드할 파일 이름")
+    String fileName,
+
+    @NotBlank(message = "파일 형식은 필수 요청값 입니다.")
+    @Pattern(regexp = "image/[A-Za-z0-9.+-]+", message = "이미지 파일만 업로드할 수 있습니다.")
+    @Schema(description = "업로드할 파일의 Content-Type, 업로드 요청 헤더와 같아야 합니다.")
+    String contentType
+) {
+
+}
@@ -2,12 +2,17 @@ package com.example.show.controller.dto.request;
 
 import com.example.show.service.dto.request.ShowSearchPaginationServiceRequest;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Max;
-import java.util.UUID;
+import org.example.cursor.OpaqueCursor;
+import org.example.vo.CursorApiType;
 
 public record ShowSearchPaginationApiRequest(
-    @Parameter(description = "이전 페이지네이션 마지막 데이터의 cursorId / 최초 조회라면 null")
-    UUID cursorId,
+    @Parameter(
+        description = "이전 페이지네이션 응답의 cursor.token / 최초 조회라면 null",
+        schema = @Schema(type = "string")
+    )
+    OpaqueCursor cursor,
 
     @Parameter(description = "검색어", required = true)
     String search,
@@ -24,7 +29,7 @@ public record ShowSearchPaginationApiRequest(
 
     public ShowSearchPaginationServiceRequest toServiceRequest() {
         return ShowSearchPaginationServiceRequest.builder()
-            .cursor(cursorId)
+            .cursor(OpaqueCursor.verify(cursor, CursorApiType.SHOW_SEARCH).uuidId())
             .size(size)
             .search(search)
             .build();
@@ -0,0 +1,26 @@
+package com.example.show.controller.dto.response;
+
+import com.example.show.service.dto.response.ShowImportServiceResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+public record ShowImportApiResponse(
+
+    @Schema(description = "저장한 공연 수")
+    int importedCount,
+
+    @Schema(description = "검증 혹은 저장에 실패한 공연 수")
+    int failedCount,
+
+    @Schema(description = "실패한 줄 번호와 사유 (최대 100건)")
+    List<String> errors
+) {
+
+    public static ShowImportApiResponse from(ShowImportServiceResponse response) {
+        return new ShowImportApiResponse(
+            response.importedCount(),
+            response.failedCount(),
+            response.errors()
+        );
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.show.controller.dto.response;
+
+import com.example.component.dto.PresignedUploadComponentResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+
+public record ShowPosterUploadApiResponse(
+
+    @Schema(description = "공연 등록, 수정 시 posterImageKey 로 전달하는 객체 키")
+    String objectKey,
+
+    @Schema(description = "포스터를 PUT 으로 업로드할 서명된 URL")
+    String uploadURL,
+
+    @Schema(description = "서명된 URL 만료 시간")
+    LocalDateTime expiresAt
+) {
+
+    public static ShowPosterUploadApiResponse from(PresignedUploadComponentResponse response) {
+        return new ShowPosterUploadApiResponse(
+            response.objectKey(),
+            response.uploadURL(),
+            response.expiresAt()
+        );
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.show.controller.vo;
 
+import org.example.vo.CursorApiType;
 import org.example.vo.ShowSortType;
 
 public enum ShowSortApiType {
@@ -11,4 +12,11 @@ public enum ShowSortApiType {
             case POPULAR -> ShowSortType.POPULAR;
         };
     }
+
+    public CursorApiType toCursorType() {
+        return switch (this) {
+            case RECENT -> CursorApiType.SHOW_RECENT;
+            case POPULAR -> CursorApiType.SHOW_POPULAR;
+        };
+    }
 }
@@ -2,37 +2,47 @@ package com.example.show.service;
 
 
 import com.example.component.FileUploadComponent;
+import com.example.component.ImageDerivativeComponent;
+import com.example.component.dto.PresignedUploadComponentResponse;
 import com.example.pub.MessagePublisher;
 import com.example.pub.message.ShowRelationArtistAndGenreServiceMessage;
+import com.example.show.service.dto.request.ShowAdminPaginationServiceRequest;
 import com.example.show.service.dto.request.ShowCreateServiceRequest;
 import com.example.show.service.dto.request.ShowUpdateServiceRequest;
 import com.example.show.service.dto.response.ShowInfoServiceResponse;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.dto.response.CursorApiResponse;
+import org.example.dto.response.PaginationServiceResponse;
 import org.example.dto.show.response.ShowInfoDomainResponse;
+import org.example.dto.show.response.ShowInfoPaginationDomainResponse;
 import org.example.entity.show.Show;
-import org.example.usecase.ArtistUseCase;
-import org.example.usecase.GenreUseCase;
 import org.example.usecase.ShowAdminUseCase;
 import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ShowAdminService {
 
     private final ShowAdminUseCase showAdminUseCase;
-    private final GenreUseCase genreUseCase;
-    private final ArtistUseCase artistUseCase;
     private final FileUploadComponent fileUploadComponent;
+    private final ImageDerivativeComponent imageDerivativeComponent;
     private final MessagePublisher messagePublisher;
 
     public void save(ShowCreateServiceRequest showCreateServiceRequest) {
-        String imageURL = fileUploadComponent.uploadFile("show", showCreateServiceRequest.post());
+        String imageURL = getPosterImageURL(
+            showCreateServiceRequest.post(),
+            showCreateServiceRequest.posterImageKey()
+        );
 
         Show show = showAdminUseCase.save(
             showCreateServiceRequest.toDomainRequest(imageURL)
         );
+        requestThumbnail(show.getId(), imageURL);
 
         messagePublisher.publishShow(
             "registerShow",
@@ -44,17 +54,25 @@ public class ShowAdminService {
         );
     }
 
-    public List<ShowInfoServiceResponse> findShowDetailWithTicketingTimes() {
-        var showWithTicketingTimesDomainResponses = showAdminUseCase.findShowDetailWithTicketingTimes();
-        var artistNameWithShowIdDomainResponses = artistUseCase.findArtistNamesWithShowId();
-        var genreNameWithShowIdDomainResponses = genreUseCase.findGenreNamesWithShowId();
+    public PresignedUploadComponentResponse createPosterUpload(String fileName, String contentType) {
+        return fileUploadComponent.createPresignedUpload("show", fileName, contentType);
+    }
+
+    public PaginationServiceResponse<ShowInfoServiceResponse> findShowInfos(
+        ShowAdminPaginationServiceRequest request
+    ) {
+        ShowInfoPaginationDomainResponse response = showAdminUseCase.findShowInfos(request.toDomainRequest());
 
-        return ShowInfoServiceResponse.of(
-            showWithTicketingTimesDomainResponses,
-            artistNameWithShowIdDomainResponses,
-            genreNameWithShowIdDomainResponses
-        );
+        List<ShowInfoServiceResponse> data = response.data().stream()
+            .map(ShowInfoServiceResponse::new)
+            .toList();
+        ShowInfoServiceResponse lastShow = CursorApiResponse.getLastElement(data);
 
+        return PaginationServiceResponse.of(
+            data,
+            response.hasNext(),
+            lastShow == null ? CursorApiResponse.noneCursor() : CursorApiResponse.toCursorId(lastShow.id())
+        );
     }
 
     public ShowInfoServiceResponse findShowInfo(UUID id) {
@@ -64,7 +82,10 @@ public class ShowAdminService {
     }
 
     public void updateShow(UUID id, ShowUpdateServiceRequest showUpdateServiceRequest) {
-        String imageUrl = fileUploadComponent.uploadFile("show", showUpdateServiceRequest.post());
+        String imageUrl = getPosterImageURL(
+            showUpdateServiceRequest.post(),
+            showUpdateServiceRequest.posterImageKey()
+        );
 
         var artistIdsToPublish = showAdminUseCase.getArtistIdsToAdd(
             showUpdateServiceRequest.artistIds(),
@@ -76,10 +97,13 @@ public class ShowAdminService {
             showAdminUseCase.findShowGenresByShowId(id)
         );
 
-        showAdminUseCase.updateShow(
+        Show updatedShow = showAdminUseCase.updateShow(
             id,
             showUpdateServiceRequest.toDomainRequest(imageUrl)
         );
+        if (updatedShow.getThumbnailImage() == null) {
+            requestThumbnail(id, imageUrl);
+        }
 
         if (!artistIdsToPublish.isEmpty() || !genreIdsToPublish.isEmpty()) {
             messagePublisher.publishShow(
@@ -96,4 +120,26 @@ public class ShowAdminService {
     public void deleteShow(UUID id) {
         showAdminUseCase.deleteShow(id);
     }
+
+    private String getPosterImageURL(MultipartFile post, String posterImageKey) {
+        if (posterImageKey != null && !posterImageKey.isBlank()) {
+            return fileUploadComponent.confirmUpload("show", posterImageKey);
+        }
+
+        return fileUploadComponent.uploadFile("show", post);
+    }
+
+    /*
+     * 공연이 저장된 뒤에 썸네일 생성을 요청하므로, 작업이 끝났을 때 기록할 공연 행이 항상 존재합니다.
+     * 수정 시에는 이미지가 바뀌어 썸네일이 비었거나 아직 썸네일이 없을 때만 요청합니다.
+     * 썸네일 생성에 실패하면 목록은 원본 이미지를 그대로 사용합니다.
+     */
+    private void requestThumbnail(UUID showId, String imageURL) {
+        imageDerivativeComponent.createThumbnail(imageURL)
+            .thenAccept(thumbnailURL -> showAdminUseCase.updateThumbnailImage(showId, imageURL, thumbnailURL))
+            .exceptionally(e -> {
+                log.warn("Failed to create thumbnail for show {}", showId, e);
+                return null;
+            });
+    }
 }
@@ -0,0 +1,49 @@
+package com.example.show.service;
+
+import com.example.show.service.dto.response.ShowExportRowServiceResponse;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import lombok.RequiredArgsConstructor;
+import org.example.dto.show.response.ShowInfoDomainResponse;
+import org.example.usecase.ShowAdminUseCase;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class ShowExportService {
+
+    private final ShowAdminUseCase showAdminUseCase;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 전체 공연을 한 줄에 하나씩 NDJSON 으로 출력 스트림에 바로 씁니다.
+     * 응답을 목록으로 모으지 않으므로 카탈로그 크기와 관계없이 메모리 사용량이 일정합니다.
+     */
+    public void exportShows(OutputStream outputStream) {
+        ObjectWriter writer = objectMapper.writerFor(ShowExportRowServiceResponse.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            showAdminUseCase.exportShowInfos(showInfo -> writeLine(writer, generator, showInfo));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeLine(ObjectWriter writer, JsonGenerator generator, ShowInfoDomainResponse showInfo) {
+        try {
+            writer.writeValue(generator, ShowExportRowServiceResponse.from(showInfo));
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
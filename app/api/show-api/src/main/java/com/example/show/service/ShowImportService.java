@@ -0,0 +1,162 @@
+package com.example.show.service;
+
+import com.example.pub.MessagePublisher;
+import com.example.pub.message.ShowRelationArtistAndGenreServiceMessage;
+import com.example.pub.message.ShowRelationsArtistAndGenreServiceMessage;
+import com.example.show.service.dto.request.ShowImportRowServiceRequest;
+import com.example.show.service.dto.response.ShowImportServiceResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.entity.show.Show;
+import org.example.usecase.ShowAdminUseCase;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ShowImportService {
+
+    private static final int CHUNK_SIZE = 200;
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final ShowAdminUseCase showAdminUseCase;
+    private final MessagePublisher messagePublisher;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    /**
+     * 한 줄에 공연 하나를 담은 NDJSON 을 읽으면서 CHUNK_SIZE 개씩 검증하고 저장합니다.
+     * 파일 전체를 메모리에 올리지 않으며, 청크마다 한 트랜잭션으로 저장한 뒤 연관 메시지도 한 번만 발행합니다.
+     * 형식이나 검증에 실패한 줄은 건너뛰고 줄 번호와 사유를 응답에 담습니다.
+     */
+    public ShowImportServiceResponse importShows(InputStream inputStream) {
+        ImportReport report = new ImportReport();
+        List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                ImportRow row = parse(lineNumber, line, report);
+                if (row != null) {
+                    chunk.add(row);
+                }
+
+                if (chunk.size() == CHUNK_SIZE) {
+                    saveChunk(chunk, report);
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (!chunk.isEmpty()) {
+            saveChunk(chunk, report);
+        }
+
+        return report.toResponse();
+    }
+
+    private ImportRow parse(int lineNumber, String line, ImportReport report) {
+        ShowImportRowServiceRequest request;
+        try {
+            request = objectMapper.readValue(line, ShowImportRowServiceRequest.class);
+        } catch (JsonProcessingException e) {
+            report.fail(lineNumber, "JSON 형식이 올바르지 않습니다.");
+            return null;
+        }
+
+        Set<ConstraintViolation<ShowImportRowServiceRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            report.fail(
+                lineNumber,
+                violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", "))
+            );
+            return null;
+        }
+
+        return new ImportRow(lineNumber, request);
+    }
+
+    private void saveChunk(List<ImportRow> chunk, ImportReport report) {
+        List<Show> shows;
+        try {
+            shows = showAdminUseCase.saveAll(
+                chunk.stream()
+                    .map(row -> row.request().toDomainRequest())
+                    .toList()
+            );
+        } catch (RuntimeException e) {
+            log.error("Failed to import show chunk from line {}", chunk.get(0).lineNumber(), e);
+            chunk.forEach(row -> report.fail(row.lineNumber(), "저장에 실패했습니다."));
+            return;
+        }
+
+        messagePublisher.publishShows(
+            "registerShows",
+            ShowRelationsArtistAndGenreServiceMessage.from(
+                IntStream.range(0, shows.size())
+                    .mapToObj(i -> ShowRelationArtistAndGenreServiceMessage.of(
+                        shows.get(i).getId(),
+                        chunk.get(i).request().artistIds(),
+                        chunk.get(i).request().genreIds()
+                    ))
+                    .toList()
+            )
+        );
+        report.succeed(shows.size());
+    }
+
+    private record ImportRow(
+        int lineNumber,
+        ShowImportRowServiceRequest request
+    ) {
+
+    }
+
+    private static class ImportReport {
+
+        private final List<String> errors = new ArrayList<>();
+        private int importedCount;
+        private int failedCount;
+
+        void succeed(int count) {
+            importedCount += count;
+        }
+
+        void fail(int lineNumber, String reason) {
+            failedCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(lineNumber + ": " + reason);
+            }
+        }
+
+        ShowImportServiceResponse toResponse() {
+            return new ShowImportServiceResponse(importedCount, failedCount, errors);
+        }
+    }
+}
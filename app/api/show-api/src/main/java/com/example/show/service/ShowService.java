@@ -1,6 +1,8 @@
 package com.example.show.service;
 
 import com.example.component.ViewCountComponent;
+import com.example.show.controller.vo.ShowSortApiType;
+import com.example.show.service.dto.param.ShowPopularityCursorServiceParam;
 import com.example.show.service.dto.param.ShowSearchPaginationServiceParam;
 import com.example.show.service.dto.request.ShowPaginationServiceRequest;
 import com.example.show.service.dto.request.ShowSearchPaginationServiceRequest;
@@ -8,11 +10,14 @@ import com.example.show.service.dto.response.ShowDetailServiceResponse;
 import com.example.show.service.dto.response.ShowPaginationServiceResponse;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.example.dto.event.ShowViewCountEventDto;
+import org.example.dto.response.CursorApiResponse;
 import org.example.dto.response.PaginationServiceResponse;
 import org.example.dto.show.response.ShowDetailDomainResponse;
+import org.example.dto.show.response.ShowTicketingPaginationDomainResponse;
 import org.example.usecase.InterestShowUseCase;
 import org.example.usecase.ShowUseCase;
 import org.springframework.context.ApplicationEventPublisher;
@@ -48,8 +53,11 @@ public class ShowService {
         List<ShowSearchPaginationServiceParam> data = response.data().stream()
             .map(ShowSearchPaginationServiceParam::from)
             .toList();
+        CursorApiResponse cursor = response.cursor() == null
+            ? CursorApiResponse.noneCursor()
+            : CursorApiResponse.toCursorId(response.cursor());
 
-        return PaginationServiceResponse.of(data, response.hasNext());
+        return PaginationServiceResponse.of(data, response.hasNext(), cursor);
     }
 
     public PaginationServiceResponse<ShowPaginationServiceResponse> findShows(
@@ -64,9 +72,32 @@ public class ShowService {
             )
             .toList();
 
+        CursorApiResponse cursor = request.sort() == ShowSortApiType.POPULAR
+            ? toPopularCursor(response)
+            : Optional.ofNullable(CursorApiResponse.getLastElement(data))
+                .map(element -> CursorApiResponse.toCursorResponse(element.id(), element.ticketingAt()))
+                .orElse(CursorApiResponse.noneCursor());
+
         return PaginationServiceResponse.of(
             data,
-            response.hasNext()
+            response.hasNext(),
+            cursor
+        );
+    }
+
+    /*
+     * 인기순 조회는 필터 조건으로 페이지를 채우지 못해도 마지막으로 읽은 공연까지 커서가 이어지므로
+     * 응답 데이터가 아닌 조회 결과의 커서로 만듭니다.
+     */
+    private CursorApiResponse toPopularCursor(ShowTicketingPaginationDomainResponse response) {
+        if (response.cursorId() == null) {
+            return CursorApiResponse.noneCursor();
+        }
+
+        return CursorApiResponse.toCursorResponse(
+            response.cursorId(),
+            new ShowPopularityCursorServiceParam(response.cursorValue(), response.popularitySnapshot())
+                .toCursorValue()
         );
     }
 }
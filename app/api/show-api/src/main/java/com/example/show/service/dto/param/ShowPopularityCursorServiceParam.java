@@ -0,0 +1,40 @@
+package com.example.show.service.dto.param;
+
+import org.example.cursor.error.CursorError;
+import org.example.exception.BusinessException;
+
+/**
+ * 인기순 커서 값입니다. Redis 인기순 스냅샷에서 조회한 페이지라면 "점수:스냅샷 버전",
+ * DB 조회수 정렬로 조회한 페이지라면 "조회수" 형태로 커서에 담깁니다.
+ */
+public record ShowPopularityCursorServiceParam(
+    Long score,
+    Long snapshot
+) {
+
+    private static final String DELIMITER = ":";
+
+    public static ShowPopularityCursorServiceParam from(String value) {
+        if (value == null) {
+            return new ShowPopularityCursorServiceParam(null, null);
+        }
+
+        try {
+            int delimiterIndex = value.indexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                return new ShowPopularityCursorServiceParam(Long.valueOf(value), null);
+            }
+
+            return new ShowPopularityCursorServiceParam(
+                Long.valueOf(value.substring(0, delimiterIndex)),
+                Long.valueOf(value.substring(delimiterIndex + 1))
+            );
+        } catch (NumberFormatException e) {
+            throw new BusinessException(CursorError.INVALID_CURSOR);
+        }
+    }
+
+    public String toCursorValue() {
+        return snapshot == null ? String.valueOf(score) : score + DELIMITER + snapshot;
+    }
+}
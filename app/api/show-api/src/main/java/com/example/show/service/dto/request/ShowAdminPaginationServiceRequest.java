@@ -0,0 +1,19 @@
+package com.example.show.service.dto.request;
+
+import java.util.UUID;
+import lombok.Builder;
+import org.example.dto.show.request.ShowAdminPaginationDomainRequest;
+
+@Builder
+public record ShowAdminPaginationServiceRequest(
+    UUID cursorId,
+    int size
+) {
+
+    public ShowAdminPaginationDomainRequest toDomainRequest() {
+        return ShowAdminPaginationDomainRequest.builder()
+            .cursorId(cursorId)
+            .size(size)
+            .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.show.service.dto.request;
+
+import com.example.show.controller.vo.TicketingApiType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.example.dto.show.request.ShowCreationDomainRequest;
+
+public record ShowImportRowServiceRequest(
+
+    @NotBlank(message = "공연 제목은 필수 요청값 입니다.")
+    String title,
+
+    @NotBlank(message = "공연 내용은 필수 요청값 입니다.")
+    String content,
+
+    @NotNull(message = "공연 시작 날짜는 필수 요청값 입니다.")
+    LocalDate startDate,
+
+    @NotNull(message = "공연 종료 날짜는 필수 요청값 입니다.")
+    LocalDate endDate,
+
+    @NotBlank(message = "공연 장소는 필수 요청값 입니다.")
+    String location,
+
+    @NotBlank(message = "공연 포스터 URL은 필수 요청값 입니다.")
+    String posterImageURL,
+
+    @NotNull(message = "공연 좌석별 가격은 필수 요청값 입니다.")
+    Map<String, Integer> seatPrices,
+
+    @NotNull(message = "티켓팅 예약 사이트는 필수 요청값 입니다.")
+    Map<String, String> ticketingSites,
+
+    @NotEmpty(message = "공연 티켓팅 시간은 필수 요청값 입니다.")
+    Map<TicketingApiType, LocalDateTime> ticketingTimes,
+
+    @NotNull(message = "아티스트 ID는 필수 요청값 입니다.")
+    List<UUID> artistIds,
+
+    @NotNull(message = "장르 ID는 필수 요청값 입니다.")
+    List<UUID> genreIds
+) {
+
+    public ShowCreationDomainRequest toDomainRequest() {
+        return ShowCreateServiceRequest.builder()
+            .title(title)
+            .content(content)
+            .startDate(startDate)
+            .endDate(endDate)
+            .location(location)
+            .priceInformation(seatPrices)
+            .showTicketingSites(ticketingSites)
+            .ticketingTimes(ticketingTimes)
+            .artistIds(artistIds)
+            .genreIds(genreIds)
+            .build()
+            .toDomainRequest(posterImageURL);
+    }
+}
@@ -11,6 +11,9 @@ public record ShowPaginationServiceRequest(
     ShowSortApiType sort,
     boolean onlyOpenSchedule,
     UUID cursorId,
+    Long cursorValue,
+    LocalDateTime cursorTicketingAt,
+    Long popularitySnapshot,
     int size
 ) {
 
@@ -19,6 +22,9 @@ public record ShowPaginationServiceRequest(
             .sort(sort.toDomainType())
             .onlyOpenSchedule(onlyOpenSchedule)
             .cursorId(cursorId)
+            .cursorValue(cursorValue)
+            .cursorTicketingAt(cursorTicketingAt)
+            .popularitySnapshot(popularitySnapshot)
             .size(size)
             .now(now)
             .build();
@@ -22,6 +22,7 @@ public record ShowUpdateServiceRequest(
     LocalDate endDate,
     String location,
     MultipartFile post,
+    String posterImageKey,
     Map<String, Integer> priceInformation,
     Map<String, String> showTicketingSites,
     Map<TicketingApiType, LocalDateTime> ticketingTimes,
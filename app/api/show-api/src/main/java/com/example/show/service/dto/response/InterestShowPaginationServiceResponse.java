@@ -29,7 +29,7 @@ public record InterestShowPaginationServiceResponse(
             .interestedAt(interestShow.getUpdatedAt())
             .title(show.getTitle())
             .location(show.getLocation())
-            .posterImageURL(show.getImage())
+            .posterImageURL(show.getListImage())
             .startAt(show.getStartDate())
             .endAt(show.getEndDate())
             .build();
@@ -0,0 +1,57 @@
+package com.example.show.service.dto.response;
+
+import com.example.show.controller.vo.TicketingApiType;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.Builder;
+import org.example.dto.artist.response.ArtistNameDomainResponse;
+import org.example.dto.genre.response.GenreNameDomainResponse;
+import org.example.dto.show.response.ShowInfoDomainResponse;
+import org.example.dto.show.response.ShowTicketingTimeDomainResponse;
+
+/**
+ * 공연 일괄 등록(ShowImportRowServiceRequest)과 같은 형식에 공연 ID 를 더한 내보내기 한 줄입니다.
+ */
+@Builder
+public record ShowExportRowServiceResponse(
+    UUID id,
+    String title,
+    String content,
+    LocalDate startDate,
+    LocalDate endDate,
+    String location,
+    String posterImageURL,
+    Map<String, Integer> seatPrices,
+    Map<String, String> ticketingSites,
+    Map<TicketingApiType, LocalDateTime> ticketingTimes,
+    List<UUID> artistIds,
+    List<UUID> genreIds
+) {
+
+    public static ShowExportRowServiceResponse from(ShowInfoDomainResponse showInfo) {
+        return ShowExportRowServiceResponse.builder()
+            .id(showInfo.show().id())
+            .title(showInfo.show().title())
+            .content(showInfo.show().content())
+            .startDate(showInfo.show().startDate())
+            .endDate(showInfo.show().endDate())
+            .location(showInfo.show().location())
+            .posterImageURL(showInfo.show().image())
+            .seatPrices(showInfo.show().seatPrices().getPriceBySeat())
+            .ticketingSites(showInfo.show().ticketingSites().getTicketingURLBySite())
+            .ticketingTimes(
+                showInfo.ticketingTimes().stream()
+                    .collect(Collectors.toMap(
+                        ticketingTime -> TicketingApiType.from(ticketingTime.ticketingType()),
+                        ShowTicketingTimeDomainResponse::ticketingAt
+                    ))
+            )
+            .artistIds(showInfo.artistNameResponses().stream().map(ArtistNameDomainResponse::id).toList())
+            .genreIds(showInfo.genreNameResponses().stream().map(GenreNameDomainResponse::id).toList())
+            .build();
+    }
+}
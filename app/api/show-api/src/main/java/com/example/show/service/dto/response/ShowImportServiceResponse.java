@@ -0,0 +1,11 @@
+package com.example.show.service.dto.response;
+
+import java.util.List;
+
+public record ShowImportServiceResponse(
+    int importedCount,
+    int failedCount,
+    List<String> errors
+) {
+
+}
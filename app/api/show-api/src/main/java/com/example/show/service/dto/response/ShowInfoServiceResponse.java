@@ -8,11 +8,8 @@ import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import lombok.Builder;
-import org.example.dto.artist.param.ArtistNamesWithShowIdDomainParam;
 import org.example.dto.artist.response.ArtistNameDomainResponse;
 import org.example.dto.genre.response.GenreNameDomainResponse;
-import org.example.dto.genre.response.GenreNamesWithShowIdDomainParam;
-import org.example.dto.show.param.ShowWithTicketingTimesDomainParam;
 import org.example.dto.show.response.ShowInfoDomainResponse;
 import org.example.dto.show.response.ShowTicketingTimeDomainResponse;
 
@@ -51,45 +48,6 @@ public record ShowInfoServiceResponse(
         );
     }
 
-    public static List<ShowInfoServiceResponse> of(
-        List<ShowWithTicketingTimesDomainParam> showWithTicketingTimes,
-        List<ArtistNamesWithShowIdDomainParam> artistNamesWithShowId,
-        List<GenreNamesWithShowIdDomainParam> genreNamesWithShowId
-    ) {
-        return showWithTicketingTimes.stream()
-            .map(showWithTicketingTime -> {
-                var artistNameResponses = getArtistNameResponses(
-                    artistNamesWithShowId,
-                    showWithTicketingTime
-                );
-                var genreNameResponses = getGenreNameResponses(
-                    genreNamesWithShowId,
-                    showWithTicketingTime
-                );
-
-                return new ShowInfoServiceResponse(
-                    showWithTicketingTime.show().id(),
-                    showWithTicketingTime.show().title(),
-                    showWithTicketingTime.show().content(),
-                    showWithTicketingTime.show().startDate(),
-                    showWithTicketingTime.show().endDate(),
-                    showWithTicketingTime.show().location(),
-                    showWithTicketingTime.show().image(),
-                    showWithTicketingTime.show().viewCount(),
-                    ShowSeatServiceResponse.from(showWithTicketingTime.show().seatPrices()),
-                    ShowTicketingSiteServiceResponse.from(
-                        showWithTicketingTime.show().ticketingSites()
-                    ),
-                    showWithTicketingTime.ticketingTimes().stream()
-                        .map(ShowTicketingTimeServiceParam::from)
-                        .toList(),
-                    artistNameResponses,
-                    genreNameResponses
-                );
-            })
-            .toList();
-    }
-
     private static List<ShowTicketingTimeServiceParam> toShowTicketingTimeServiceResponses(
         Set<ShowTicketingTimeDomainResponse> ticketingSites
     ) {
@@ -114,28 +72,4 @@ public record ShowInfoServiceResponse(
             .map(GenreNameServiceParam::new)
             .toList();
     }
-
-    private static List<ArtistNameServiceParam> getArtistNameResponses(
-        List<ArtistNamesWithShowIdDomainParam> artistNamesWithShowId,
-        ShowWithTicketingTimesDomainParam showWitTicketingTimes
-    ) {
-        return artistNamesWithShowId.stream()
-            .filter(
-                artistResponse -> artistResponse.showId().equals(showWitTicketingTimes.show().id()))
-            .flatMap(artistResponse -> artistResponse.artistNameDomainResponses().stream())
-            .map(ArtistNameServiceParam::new)
-            .toList();
-    }
-
-    private static List<GenreNameServiceParam> getGenreNameResponses(
-        List<GenreNamesWithShowIdDomainParam> genreNamesWithShowId,
-        ShowWithTicketingTimesDomainParam showWithTicketingTimes
-    ) {
-        return genreNamesWithShowId.stream()
-            .filter(
-                genreResponse -> genreResponse.showId().equals(showWithTicketingTimes.show().id()))
-            .flatMap(genreResponse -> genreResponse.genreNames().stream())
-            .map(GenreNameServiceParam::new)
-            .toList();
-    }
 }
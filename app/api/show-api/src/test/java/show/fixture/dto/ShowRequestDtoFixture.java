@@ -36,6 +36,22 @@ public class ShowRequestDtoFixture {
             .build();
     }
 
+    public static ShowCreateServiceRequest showCreateServiceRequest(String posterImageKey) {
+        return ShowCreateServiceRequest.builder()
+            .title("test_title")
+            .content("test_content")
+            .startDate(LocalDate.EPOCH)
+            .endDate(LocalDate.EPOCH)
+            .location("test_location")
+            .posterImageKey(posterImageKey)
+            .priceInformation(getSeatInfoApiResponse())
+            .showTicketingSites(getTicketingSites())
+            .ticketingTimes(getShowTicketingDates())
+            .artistIds(List.of(UUID.randomUUID()))
+            .genreIds(List.of(UUID.randomUUID()))
+            .build();
+    }
+
     public static ShowUpdateServiceRequest showUpdateServiceRequest() {
         return ShowUpdateServiceRequest.builder()
             .title("test_title")
@@ -2,15 +2,23 @@ package show.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.example.artist.service.ArtistService;
+import com.example.artist.service.dto.request.ArtistSubscriptionServiceRequest;
 import com.example.pub.MessagePublisher;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.example.entity.artist.Artist;
 import org.example.usecase.ArtistSubscriptionUseCase;
 import org.example.usecase.ArtistUseCase;
 import org.example.usecase.UserUseCase;
@@ -32,27 +40,72 @@ class ArtistServiceTest {
         userUseCase, messagePublisher);
 
     @Test
-    @DisplayName("전역 ReentrantLock을 사용해 아티스트 조회 혹은 생성 시 동시성 문제가 발생하지 않는다.")
-    void testFindOrCreateArtistByLock_Concurrency() throws InterruptedException {
+    @DisplayName("같은 아티스트를 동시에 조회 혹은 생성하면 한 번만 조회하고 결과를 함께 사용한다.")
+    void coalesceConcurrentFindOrCreateArtist() throws Exception {
         //given
         int executeCount = 10;
-        CountDownLatch doneSignal = new CountDownLatch(executeCount);
+        CountDownLatch requested = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(artistUseCase.findOrCreateArtistBySpotifyId(anyList())).willAnswer(invocation -> {
+            requested.countDown();
+            release.await();
+            return artists(invocation.getArgument(0));
+        });
         ExecutorService executorService = Executors.newFixedThreadPool(executeCount);
+        List<Future<List<Artist>>> results = new ArrayList<>();
 
         //when
         for (int i = 0; i < executeCount; i++) {
-            executorService.execute(() -> {
-                artistService.findOrCreateArtistByLock(
-                    ArtistRequestDtoFixture.artistSubscriptionServiceRequest(5));
-                doneSignal.countDown();
-            });
+            results.add(executorService.submit(() -> artistService.findOrCreateArtists(
+                ArtistRequestDtoFixture.artistSubscriptionServiceRequest(5)
+            )));
         }
+        requested.await();
+        Thread.sleep(100);
+        release.countDown();
 
-        doneSignal.await();
+        //then
+        for (Future<List<Artist>> result : results) {
+            assertThat(result.get()).extracting(Artist::getSpotifyId).containsExactly("spotifyId");
+        }
+        verify(artistUseCase, times(1)).findOrCreateArtistBySpotifyId(anyList());
         executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("서로 다른 아티스트를 조회 혹은 생성하는 요청은 서로를 기다리지 않고 동시에 처리한다.")
+    void findOrCreateDifferentArtistsInParallel() throws Exception {
+        //given
+        CountDownLatch bothRequested = new CountDownLatch(2);
+        given(artistUseCase.findOrCreateArtistBySpotifyId(anyList())).willAnswer(invocation -> {
+            bothRequested.countDown();
+            assertThat(bothRequested.await(1, TimeUnit.SECONDS)).isTrue();
+            return artists(invocation.getArgument(0));
+        });
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        //when
+        Future<List<Artist>> first = executorService.submit(() -> artistService.findOrCreateArtists(
+            new ArtistSubscriptionServiceRequest(List.of("first"), UUID.randomUUID())
+        ));
+        Future<List<Artist>> second = executorService.submit(() -> artistService.findOrCreateArtists(
+            new ArtistSubscriptionServiceRequest(List.of("second"), UUID.randomUUID())
+        ));
 
         //then
-        verify(artistUseCase, times(executeCount)).findOrCreateArtistBySpotifyId(anyList());
-        assertThat(doneSignal.getCount()).isZero();
+        assertThat(first.get()).extracting(Artist::getSpotifyId).containsExactly("first");
+        assertThat(second.get()).extracting(Artist::getSpotifyId).containsExactly("second");
+        verify(artistUseCase, times(2)).findOrCreateArtistBySpotifyId(anyList());
+        executorService.shutdown();
+    }
+
+    private List<Artist> artists(List<String> spotifyIds) {
+        return spotifyIds.stream()
+            .map(spotifyId -> Artist.builder()
+                .name(spotifyId)
+                .image("image")
+                .spotifyId(spotifyId)
+                .build())
+            .toList();
     }
 }
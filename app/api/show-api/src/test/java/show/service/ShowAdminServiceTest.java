@@ -2,13 +2,16 @@ package show.service;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.example.component.FileUploadComponent;
+import com.example.component.ImageDerivativeComponent;
 import com.example.pub.MessagePublisher;
 import com.example.pub.message.ShowRelationArtistAndGenreServiceMessage;
 import com.example.show.service.ShowAdminService;
@@ -16,13 +19,14 @@ import com.example.show.service.dto.request.ShowCreateServiceRequest;
 import com.example.show.service.dto.request.ShowUpdateServiceRequest;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import org.example.dto.show.request.ShowUpdateDomainRequest;
+import org.example.entity.show.Show;
 import org.example.fixture.domain.ShowArtistFixture;
 import org.example.fixture.domain.ShowFixture;
 import org.example.fixture.domain.ShowGenreFixture;
-import org.example.usecase.ArtistUseCase;
-import org.example.usecase.GenreUseCase;
 import org.example.usecase.ShowAdminUseCase;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import show.fixture.dto.ShowRequestDtoFixture;
@@ -30,19 +34,22 @@ import show.fixture.dto.ShowRequestDtoFixture;
 class ShowAdminServiceTest {
 
     private final ShowAdminUseCase showAdminUseCase = mock(ShowAdminUseCase.class);
-    private final GenreUseCase genreUseCase = mock(GenreUseCase.class);
-    private final ArtistUseCase artistUseCase = mock(ArtistUseCase.class);
     private final FileUploadComponent fileUploadComponent = mock(FileUploadComponent.class);
+    private final ImageDerivativeComponent imageDerivativeComponent = mock(ImageDerivativeComponent.class);
     private final MessagePublisher messagePublisher = mock(MessagePublisher.class);
 
     private final ShowAdminService showAdminService = new ShowAdminService(
         showAdminUseCase,
-        genreUseCase,
-        artistUseCase,
         fileUploadComponent,
+        imageDerivativeComponent,
         messagePublisher
     );
 
+    @BeforeEach
+    void setUp() {
+        given(imageDerivativeComponent.createThumbnail(any())).willReturn(new CompletableFuture<>());
+    }
+
     @Test
     @DisplayName("공연은 업로드된 이미지 URL과 함께 생성된다.")
     void showCreateWithUploadedImageUrl() {
@@ -66,6 +73,53 @@ class ShowAdminServiceTest {
         verify(showAdminUseCase, times(1)).save(any());
     }
 
+    @Test
+    @DisplayName("서명된 URL 로 업로드한 포스터 키가 있으면 파일을 업로드하지 않고 확인한 객체 URL 로 공연을 생성한다.")
+    void showCreateWithConfirmedPosterImageKey() {
+        //given
+        String posterImageKey = "show/test_image_1.jpg";
+        var showCreateServiceRequest = ShowRequestDtoFixture.showCreateServiceRequest(posterImageKey);
+        given(
+            fileUploadComponent.confirmUpload("show", posterImageKey)
+        ).willReturn("test_imageUrl");
+        given(
+            showAdminUseCase.save(any())
+        ).willReturn(ShowFixture.deafultShow());
+
+        //when
+        showAdminService.save(showCreateServiceRequest);
+
+        //then
+        verify(fileUploadComponent, times(1)).confirmUpload("show", posterImageKey);
+        verify(fileUploadComponent, never()).uploadFile(anyString(), any());
+        verify(showAdminUseCase, times(1)).save(
+            argThat(request -> request.posterImageURL().equals("test_imageUrl"))
+        );
+    }
+
+    @Test
+    @DisplayName("공연을 생성하면 저장된 공연의 이미지로 썸네일을 만들어 기록한다.")
+    void showCreateWithThumbnail() {
+        //given
+        var showCreateServiceRequest = ShowRequestDtoFixture.showCreateServiceRequest();
+        Show show = ShowFixture.deafultShow();
+        given(
+            fileUploadComponent.uploadFile("show", showCreateServiceRequest.post())
+        ).willReturn("test_imageUrl");
+        given(
+            showAdminUseCase.save(any())
+        ).willReturn(show);
+        given(
+            imageDerivativeComponent.createThumbnail("test_imageUrl")
+        ).willReturn(CompletableFuture.completedFuture("test_thumbnailUrl"));
+
+        //when
+        showAdminService.save(showCreateServiceRequest);
+
+        //then
+        verify(showAdminUseCase, times(1)).updateThumbnailImage(show.getId(), "test_imageUrl", "test_thumbnailUrl");
+    }
+
     @Test
     @DisplayName("공연 생성 후 연관된 아티스트, 장르 아이디로 메시지를 전송한다.")
     void showCreateWithPublishRelationArtistIdsAndGenreIds() {
@@ -97,6 +151,9 @@ class ShowAdminServiceTest {
                 showUpdateServiceRequest.post()
             )
         ).willReturn("test_imageUrl");
+        given(
+            showAdminUseCase.updateShow(eq(showId), any(ShowUpdateDomainRequest.class))
+        ).willReturn(ShowFixture.deafultShow());
 
         //when
         showAdminService.updateShow(showId, showUpdateServiceRequest);
@@ -106,6 +163,48 @@ class ShowAdminServiceTest {
             any(ShowUpdateDomainRequest.class));
     }
 
+    @Test
+    @DisplayName("공연 이미지가 바뀌어 썸네일이 비어 있으면 수정 후 썸네일을 다시 만든다.")
+    void showUpdateWithoutThumbnailRequestsThumbnail() {
+        //given
+        ShowUpdateServiceRequest showUpdateServiceRequest = ShowRequestDtoFixture.showUpdateServiceRequest();
+        UUID showId = UUID.randomUUID();
+        given(
+            fileUploadComponent.uploadFile("show", showUpdateServiceRequest.post())
+        ).willReturn("test_imageUrl");
+        given(
+            showAdminUseCase.updateShow(eq(showId), any(ShowUpdateDomainRequest.class))
+        ).willReturn(ShowFixture.deafultShow());
+
+        //when
+        showAdminService.updateShow(showId, showUpdateServiceRequest);
+
+        //then
+        verify(imageDerivativeComponent, times(1)).createThumbnail("test_imageUrl");
+    }
+
+    @Test
+    @DisplayName("공연 이미지가 그대로이고 썸네일이 이미 있으면 수정 후 썸네일을 다시 만들지 않는다.")
+    void showUpdateWithThumbnailSkipsThumbnail() {
+        //given
+        ShowUpdateServiceRequest showUpdateServiceRequest = ShowRequestDtoFixture.showUpdateServiceRequest();
+        UUID showId = UUID.randomUUID();
+        Show show = mock(Show.class);
+        given(show.getThumbnailImage()).willReturn("test_thumbnailUrl");
+        given(
+            fileUploadComponent.uploadFile("show", showUpdateServiceRequest.post())
+        ).willReturn("test_imageUrl");
+        given(
+            showAdminUseCase.updateShow(eq(showId), any(ShowUpdateDomainRequest.class))
+        ).willReturn(show);
+
+        //when
+        showAdminService.updateShow(showId, showUpdateServiceRequest);
+
+        //then
+        verify(imageDerivativeComponent, never()).createThumbnail(any());
+    }
+
     @Test
     @DisplayName("공연 업데이트 후 새로 연관된 아티스트, 장르 아이디로 메시지를 전송한다.")
     void showUpdateWithPublishNewRelationArtistIdsAndGenreIds() {
@@ -137,6 +236,9 @@ class ShowAdminServiceTest {
                 showGenres
             )
         ).willReturn(List.of(UUID.randomUUID()));
+        given(
+            showAdminUseCase.updateShow(eq(showId), any(ShowUpdateDomainRequest.class))
+        ).willReturn(ShowFixture.deafultShow());
 
         //when
         showAdminService.updateShow(showId, showUpdateServiceRequest);
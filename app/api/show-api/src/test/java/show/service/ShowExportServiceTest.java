@@ -0,0 +1,84 @@
+package show.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.example.show.service.ShowExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.example.dto.artist.response.ArtistNameDomainResponse;
+import org.example.dto.show.response.ShowDomainResponse;
+import org.example.dto.show.response.ShowInfoDomainResponse;
+import org.example.dto.show.response.ShowTicketingTimeDomainResponse;
+import org.example.entity.show.info.SeatPrices;
+import org.example.entity.show.info.TicketingSites;
+import org.example.usecase.ShowAdminUseCase;
+import org.example.vo.TicketingType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ShowExportServiceTest {
+
+    private final ShowAdminUseCase showAdminUseCase = mock(ShowAdminUseCase.class);
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .findAndRegisterModules()
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final ShowExportService showExportService = new ShowExportService(showAdminUseCase, objectMapper);
+
+    @Test
+    @DisplayName("공연은 한 줄에 하나씩 일괄 등록과 같은 형식의 NDJSON 으로 출력된다.")
+    void exportShowsAsNdjson() throws Exception {
+        //given
+        List<ShowInfoDomainResponse> showInfos = List.of(showInfo(), showInfo());
+        willAnswer(invocation -> {
+            Consumer<ShowInfoDomainResponse> consumer = invocation.getArgument(0);
+            showInfos.forEach(consumer);
+            return null;
+        }).given(showAdminUseCase).exportShowInfos(any());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //when
+        showExportService.exportShows(outputStream);
+
+        //then
+        List<String> lines = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(showInfos.size());
+        for (int i = 0; i < lines.size(); i++) {
+            var row = objectMapper.readTree(lines.get(i));
+            assertThat(row.get("id").asText()).isEqualTo(showInfos.get(i).show().id().toString());
+            assertThat(row.get("ticketingTimes").get("PRE").asText()).isEqualTo("2024-09-01T20:00:00");
+            assertThat(row.get("artistIds")).hasSize(1);
+        }
+    }
+
+    private ShowInfoDomainResponse showInfo() {
+        return new ShowInfoDomainResponse(
+            ShowDomainResponse.builder()
+                .id(UUID.randomUUID())
+                .title("title")
+                .content("content")
+                .startDate(LocalDate.of(2024, 10, 1))
+                .endDate(LocalDate.of(2024, 10, 2))
+                .location("location")
+                .image("image")
+                .seatPrices(new SeatPrices(Map.of("R", 100000)))
+                .ticketingSites(new TicketingSites())
+                .build(),
+            Set.of(new ArtistNameDomainResponse(UUID.randomUUID(), "artist")),
+            Set.of(),
+            Set.of(new ShowTicketingTimeDomainResponse(TicketingType.PRE, LocalDateTime.of(2024, 9, 1, 20, 0)))
+        );
+    }
+}
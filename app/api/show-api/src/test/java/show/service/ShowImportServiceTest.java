@@ -0,0 +1,116 @@
+package show.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.example.pub.MessagePublisher;
+import com.example.show.service.ShowImportService;
+import com.example.show.service.dto.response.ShowImportServiceResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.example.dto.show.request.ShowCreationDomainRequest;
+import org.example.fixture.domain.ShowFixture;
+import org.example.usecase.ShowAdminUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ShowImportServiceTest {
+
+    private static final String VALID_ROW = """
+        {"title":"title","content":"content","startDate":"2024-10-01","endDate":"2024-10-02",\
+        "location":"location","posterImageURL":"https://image.test/poster.png","seatPrices":{"R":100000},\
+        "ticketingSites":{"site":"https://ticket.test"},"ticketingTimes":{"NORMAL":"2024-09-01T20:00:00"},\
+        "artistIds":[],"genreIds":[]}""";
+
+    private final ShowAdminUseCase showAdminUseCase = mock(ShowAdminUseCase.class);
+    private final MessagePublisher messagePublisher = mock(MessagePublisher.class);
+
+    private final ShowImportService showImportService = new ShowImportService(
+        showAdminUseCase,
+        messagePublisher,
+        new ObjectMapper().findAndRegisterModules(),
+        Validation.buildDefaultValidatorFactory().getValidator()
+    );
+
+    @Test
+    @DisplayName("공연 목록은 청크 단위로 저장되고, 청크마다 연관 메시지를 한 번 발행한다.")
+    void importShowsInChunks() {
+        //given
+        int rowCount = 450;
+        given(showAdminUseCase.saveAll(anyList())).willAnswer(invocation -> {
+            List<ShowCreationDomainRequest> requests = invocation.getArgument(0);
+            return ShowFixture.shows(requests.size());
+        });
+
+        //when
+        ShowImportServiceResponse result = showImportService.importShows(ndjson(rowCount));
+
+        //then
+        assertThat(result.importedCount()).isEqualTo(rowCount);
+        assertThat(result.failedCount()).isZero();
+        verify(showAdminUseCase, times(3)).saveAll(anyList());
+        verify(messagePublisher, times(3)).publishShows(eq("registerShows"), any());
+    }
+
+    @Test
+    @DisplayName("형식이 잘못되었거나 필수값이 없는 줄은 건너뛰고 줄 번호와 함께 실패 사유를 알려준다.")
+    void reportInvalidRowsWithLineNumber() {
+        //given
+        String lines = String.join(
+            "\n",
+            VALID_ROW,
+            "{not json",
+            "",
+            VALID_ROW.replace("\"title\":\"title\"", "\"title\":\"\"")
+        );
+        given(showAdminUseCase.saveAll(anyList())).willReturn(ShowFixture.shows(1));
+
+        //when
+        ShowImportServiceResponse result = showImportService.importShows(
+            new ByteArrayInputStream(lines.getBytes(StandardCharsets.UTF_8))
+        );
+
+        //then
+        assertThat(result.importedCount()).isEqualTo(1);
+        assertThat(result.failedCount()).isEqualTo(2);
+        assertThat(result.errors()).containsExactly(
+            "2: JSON 형식이 올바르지 않습니다.",
+            "4: 공연 제목은 필수 요청값 입니다."
+        );
+    }
+
+    @Test
+    @DisplayName("청크 저장에 실패하면 해당 청크의 줄은 실패로 집계하고 메시지를 발행하지 않는다.")
+    void reportFailedChunk() {
+        //given
+        given(showAdminUseCase.saveAll(anyList())).willThrow(new IllegalStateException());
+
+        //when
+        ShowImportServiceResponse result = showImportService.importShows(ndjson(3));
+
+        //then
+        assertThat(result.importedCount()).isZero();
+        assertThat(result.failedCount()).isEqualTo(3);
+        verify(messagePublisher, never()).publishShows(anyString(), any());
+    }
+
+    private ByteArrayInputStream ndjson(int rowCount) {
+        String lines = IntStream.range(0, rowCount)
+            .mapToObj(i -> VALID_ROW)
+            .collect(Collectors.joining("\n"));
+        return new ByteArrayInputStream(lines.getBytes(StandardCharsets.UTF_8));
+    }
+}
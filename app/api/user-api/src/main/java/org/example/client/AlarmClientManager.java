@@ -2,8 +2,8 @@ package org.example.client;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.http.PooledRestClientFactory;
 import org.example.metric.InternalApiMonitored;
 import org.example.property.AlarmServerProperty;
 import org.example.service.dto.response.NotificationExistServiceResponse;
@@ -14,11 +14,21 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
 @Slf4j
-@RequiredArgsConstructor
 @Component
 public class AlarmClientManager {
 
+    private static final String POOL_NAME = "alarm";
+
     private final AlarmServerProperty alarmServerProperty;
+    private final RestClient restClient;
+
+    public AlarmClientManager(
+        AlarmServerProperty alarmServerProperty,
+        PooledRestClientFactory pooledRestClientFactory
+    ) {
+        this.alarmServerProperty = alarmServerProperty;
+        this.restClient = pooledRestClientFactory.create(POOL_NAME);
+    }
 
     @InternalApiMonitored(name = "status")
     public NotificationExistServiceResponse getNotificationExist(
@@ -26,12 +36,11 @@ public class AlarmClientManager {
     ) {
         log.info("{}/show-alarm/checked?fcmToken={}", alarmServerProperty.apiURL(), userFcmToken);
 
-        ResponseEntity<NotificationExistServiceResponse> result =
-            RestClient.create(alarmServerProperty.apiURL() + "/show-alarm/checked")
-                .get()
-                .uri("?fcmToken=" + userFcmToken)
-                .retrieve()
-                .toEntity(NotificationExistServiceResponse.class);
+        ResponseEntity<NotificationExistServiceResponse> result = restClient
+            .get()
+            .uri(alarmServerProperty.apiURL() + "/show-alarm/checked?fcmToken=" + userFcmToken)
+            .retrieve()
+            .toEntity(NotificationExistServiceResponse.class);
 
         handleApiError(result, "getNotificationExist");
         return result.getBody();
@@ -40,11 +49,11 @@ public class AlarmClientManager {
     @InternalApiMonitored(name = "list")
     public NotificationPaginationResponse getNotificationPagination(String userFcmToken,
         UUID cursorId, LocalDateTime cursorValue, int size) {
-        ResponseEntity<NotificationPaginationResponse> result =
-            RestClient.create(createNotificationsUrl(userFcmToken, cursorId, cursorValue, size))
-                .post()
-                .retrieve()
-                .toEntity(NotificationPaginationResponse.class);
+        ResponseEntity<NotificationPaginationResponse> result = restClient
+            .post()
+            .uri(createNotificationsUrl(userFcmToken, cursorId, cursorValue, size))
+            .retrieve()
+            .toEntity(NotificationPaginationResponse.class);
 
         handleApiError(result, "findNotifications");
         return result.getBody();
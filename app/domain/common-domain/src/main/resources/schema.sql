@@ -42,6 +42,7 @@ create table artist
     name       varchar(255) not null,
     image      varchar(255) not null,
     spotify_id varchar(255) not null unique,
+    searchable boolean      not null default true,
     primary key (id)
 );
 
@@ -111,6 +112,7 @@ create table show
     content           varchar(255) not null,
     location          varchar(255) not null,
     image             varchar(255) not null,
+    thumbnail_image   varchar(255),
     last_ticketing_at timestamp(3) not null,
     view_count        int          not null,
     seat_prices       jsonb        not null,
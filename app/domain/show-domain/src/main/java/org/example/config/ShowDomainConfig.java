@@ -1,6 +1,8 @@
 package org.example.config;
 
+import org.example.property.ArtistSearchProperty;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
@@ -8,6 +10,7 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 @Configuration
 @ComponentScan(basePackages = "org.example")
 @EntityScan(basePackages = "org.example.entity")
+@EnableConfigurationProperties(ArtistSearchProperty.class)
 @EnableJpaRepositories(basePackages = {
     "org.example.repository.genre",
     "org.example.repository.artist",
@@ -0,0 +1,49 @@
+package org.example.consumer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.usecase.ArtistUseCase;
+import org.example.usecase.ShowUseCase;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexInitializer {
+
+    private final ShowUseCase showUseCase;
+    private final ArtistUseCase artistUseCase;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeSearchIndexes() {
+        try {
+            showUseCase.initializeSearchIndex();
+        } catch (RuntimeException e) {
+            log.error("Failed to initialize show search index", e);
+        }
+
+        try {
+            artistUseCase.initializeSearchIndex();
+        } catch (RuntimeException e) {
+            log.error("Failed to initialize artist search index", e);
+        }
+    }
+
+    /**
+     * 다른 서버에서 전파된 공연 검색 색인 변경을 구독이 끊긴 동안 놓쳤더라도 주기적으로 DB 와 다시 맞춥니다.
+     */
+    @Scheduled(
+        initialDelayString = "${search.index.rebuild-interval-millis:600000}",
+        fixedDelayString = "${search.index.rebuild-interval-millis:600000}"
+    )
+    public void rebuildShowSearchIndex() {
+        try {
+            showUseCase.initializeSearchIndex();
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild show search index", e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.consumer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.usecase.ShowUseCase;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인기순 인덱스를 DB 조회수로 주기적으로 다시 적재하고, 목록 조회가 읽는 스냅샷을 주기적으로 새로 만듭니다.
+ * 인덱스 정리는 조회 요청이 아닌 이 스케줄에서만 수행됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShowPopularityRefresher {
+
+    private final ShowUseCase showUseCase;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializePopularity() {
+        rebuildPopularity();
+    }
+
+    @Scheduled(
+        fixedDelayString = "${show.popularity.rebuild-interval-millis:1800000}",
+        initialDelayString = "${show.popularity.rebuild-interval-millis:1800000}"
+    )
+    public void rebuildPopularity() {
+        try {
+            showUseCase.rebuildPopularity();
+            showUseCase.createPopularitySnapshot();
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild show popularity index", e);
+        }
+    }
+
+    @Scheduled(
+        fixedDelayString = "${show.popularity.snapshot-interval-millis:60000}",
+        initialDelayString = "${show.popularity.snapshot-interval-millis:60000}"
+    )
+    public void createPopularitySnapshot() {
+        try {
+            showUseCase.createPopularitySnapshot();
+        } catch (RuntimeException e) {
+            log.error("Failed to create show popularity snapshot", e);
+        }
+    }
+}
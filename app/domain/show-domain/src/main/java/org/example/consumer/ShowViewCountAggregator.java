@@ -0,0 +1,100 @@
+package org.example.consumer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.example.port.ShowPopularityPort;
+import org.example.usecase.ShowUseCase;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공연 조회수를 메모리에 누적한 뒤 주기적으로 한 번의 배치 UPDATE 로 반영합니다.
+ * 증가와 flush 는 모두 ConcurrentHashMap 의 버킷 단위 락 안에서 수행되므로
+ * flush 도중 들어온 조회수가 유실되지 않습니다.
+ */
+@Slf4j
+@Component
+public class ShowViewCountAggregator {
+
+    private final ShowUseCase showUseCase;
+    private final ShowPopularityPort showPopularityPort;
+    private final Map<UUID, LongAdder> pendingViewCounts = new ConcurrentHashMap<>();
+    private final AtomicLong lastFlushedAt = new AtomicLong(System.currentTimeMillis());
+
+    public ShowViewCountAggregator(
+        ShowUseCase showUseCase,
+        ShowPopularityPort showPopularityPort,
+        MeterRegistry meterRegistry
+    ) {
+        this.showUseCase = showUseCase;
+        this.showPopularityPort = showPopularityPort;
+
+        Gauge.builder("show.view.count.flush.lag", lastFlushedAt,
+                flushedAt -> System.currentTimeMillis() - flushedAt.get())
+            .description("마지막 조회수 flush 이후 경과 시간(ms)")
+            .register(meterRegistry);
+        Gauge.builder("show.view.count.pending", pendingViewCounts, Map::size)
+            .description("flush 대기 중인 공연 수")
+            .register(meterRegistry);
+    }
+
+    public void increase(UUID showId) {
+        pendingViewCounts.compute(showId, (key, adder) -> {
+            LongAdder viewCount = adder == null ? new LongAdder() : adder;
+            viewCount.increment();
+            return viewCount;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${show.view-count.flush-interval-millis:1000}")
+    public void flush() {
+        Map<UUID, Long> viewCountDeltas = drainPendingViewCounts();
+        if (viewCountDeltas.isEmpty()) {
+            lastFlushedAt.set(System.currentTimeMillis());
+            return;
+        }
+
+        try {
+            showUseCase.increaseViewCounts(viewCountDeltas);
+            lastFlushedAt.set(System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            log.error("Failed to flush view counts for {} shows", viewCountDeltas.size(), e);
+            viewCountDeltas.forEach(this::restore);
+            return;
+        }
+
+        showPopularityPort.increaseScores(viewCountDeltas);
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() {
+        flush();
+    }
+
+    private Map<UUID, Long> drainPendingViewCounts() {
+        Map<UUID, Long> viewCountDeltas = new HashMap<>();
+        for (UUID showId : pendingViewCounts.keySet()) {
+            LongAdder viewCount = pendingViewCounts.remove(showId);
+            if (viewCount != null) {
+                viewCountDeltas.put(showId, viewCount.sum());
+            }
+        }
+        return viewCountDeltas;
+    }
+
+    private void restore(UUID showId, long delta) {
+        pendingViewCounts.compute(showId, (key, adder) -> {
+            LongAdder viewCount = adder == null ? new LongAdder() : adder;
+            viewCount.add(delta);
+            return viewCount;
+        });
+    }
+}
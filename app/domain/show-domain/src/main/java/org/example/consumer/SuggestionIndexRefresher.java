@@ -0,0 +1,35 @@
+package org.example.consumer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.usecase.SearchSuggestionUseCase;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SuggestionIndexRefresher {
+
+    private final SearchSuggestionUseCase searchSuggestionUseCase;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeSuggestionIndex() {
+        refreshSuggestionIndex();
+    }
+
+    @Scheduled(
+        initialDelayString = "${search.suggest.refresh-interval-millis:300000}",
+        fixedDelayString = "${search.suggest.refresh-interval-millis:300000}"
+    )
+    public void refreshSuggestionIndex() {
+        try {
+            int size = searchSuggestionUseCase.rebuildSuggestionIndex();
+            log.info("Rebuilt suggestion index with {} entries", size);
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild suggestion index", e);
+        }
+    }
+}
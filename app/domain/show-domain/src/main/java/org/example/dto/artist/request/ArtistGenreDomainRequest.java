@@ -10,7 +10,8 @@ public record ArtistGenreDomainRequest(
     String name,
     String image,
     String spotifyId,
-    String genreName
+    String genreName,
+    boolean searchable
 ) {
 
     public Artist toArtist() {
@@ -18,6 +19,7 @@ public record ArtistGenreDomainRequest(
             .name(name)
             .image(image)
             .spotifyId(spotifyId)
+            .searchable(searchable)
             .build()
             .changeId(artistId);
     }
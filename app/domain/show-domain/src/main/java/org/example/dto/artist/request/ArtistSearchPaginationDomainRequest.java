@@ -2,13 +2,15 @@ package org.example.dto.artist.request;
 
 import java.util.UUID;
 import lombok.Builder;
+import org.example.vo.ArtistSearchSource;
 
 @Builder
 public record ArtistSearchPaginationDomainRequest(
     UUID userId,
     String search,
     int limit,
-    int offset
+    int offset,
+    ArtistSearchSource source
 ) {
 
 }
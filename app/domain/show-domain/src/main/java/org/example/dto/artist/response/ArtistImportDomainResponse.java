@@ -0,0 +1,8 @@
+package org.example.dto.artist.response;
+
+public record ArtistImportDomainResponse(
+    int insertedCount,
+    int skippedCount
+) {
+
+}
@@ -2,13 +2,15 @@ package org.example.dto.artist.response;
 
 import java.util.List;
 import lombok.Builder;
+import org.example.vo.ArtistSearchSource;
 
 @Builder
 public record ArtistSearchPaginationDomainResponse(
     List<ArtistSearchSimpleDomainResponse> data,
     int limit,
     int offset,
-    boolean hasNext
+    boolean hasNext,
+    ArtistSearchSource source
 ) {
 
 }
@@ -0,0 +1,13 @@
+package org.example.dto.search.response;
+
+import java.util.UUID;
+import org.example.vo.SuggestionType;
+
+public record SuggestionDomainResponse(
+    UUID id,
+    String text,
+    SuggestionType type,
+    long weight
+) {
+
+}
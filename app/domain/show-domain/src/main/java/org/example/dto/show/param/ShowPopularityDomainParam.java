@@ -0,0 +1,10 @@
+package org.example.dto.show.param;
+
+import java.util.UUID;
+
+public record ShowPopularityDomainParam(
+    UUID showId,
+    long score
+) {
+
+}
@@ -0,0 +1,13 @@
+package org.example.dto.show.param;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ShowSuggestionSourceDomainParam(
+    UUID showId,
+    String title,
+    int viewCount,
+    List<String> searchNames
+) {
+
+}
@@ -0,0 +1,12 @@
+package org.example.dto.show.request;
+
+import java.util.UUID;
+import lombok.Builder;
+
+@Builder
+public record ShowAdminPaginationDomainRequest(
+    UUID cursorId,
+    int size
+) {
+
+}
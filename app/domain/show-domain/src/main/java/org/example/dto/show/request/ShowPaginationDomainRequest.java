@@ -10,6 +10,9 @@ public record ShowPaginationDomainRequest(
     ShowSortType sort,
     boolean onlyOpenSchedule,
     UUID cursorId,
+    Long cursorValue,
+    LocalDateTime cursorTicketingAt,
+    Long popularitySnapshot,
     int size,
     LocalDateTime now
 ) {
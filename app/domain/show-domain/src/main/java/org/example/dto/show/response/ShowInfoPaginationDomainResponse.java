@@ -0,0 +1,12 @@
+package org.example.dto.show.response;
+
+import java.util.List;
+import lombok.Builder;
+
+@Builder
+public record ShowInfoPaginationDomainResponse(
+    List<ShowInfoDomainResponse> data,
+    boolean hasNext
+) {
+
+}
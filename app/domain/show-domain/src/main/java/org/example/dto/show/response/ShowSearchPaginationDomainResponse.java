@@ -1,12 +1,14 @@
 package org.example.dto.show.response;
 
 import java.util.List;
+import java.util.UUID;
 import lombok.Builder;
 
 @Builder
 public record ShowSearchPaginationDomainResponse(
     List<ShowSearchDomainResponse> data,
-    boolean hasNext
+    boolean hasNext,
+    UUID cursor
 ) {
 
 }
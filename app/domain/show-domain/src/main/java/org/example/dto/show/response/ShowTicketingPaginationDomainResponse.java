@@ -1,12 +1,16 @@
 package org.example.dto.show.response;
 
 import java.util.List;
+import java.util.UUID;
 import lombok.Builder;
 
 @Builder
 public record ShowTicketingPaginationDomainResponse(
     List<ShowTicketingDomainResponse> data,
-    boolean hasNext
+    boolean hasNext,
+    UUID cursorId,
+    Long cursorValue,
+    Long popularitySnapshot
 ) {
 
 }
@@ -25,15 +25,20 @@ public class Artist extends BaseEntity {
     @Column(name = "spotify_id", unique = true, nullable = false)
     private String spotifyId;
 
+    @Column(name = "searchable", nullable = false)
+    private boolean searchable;
+
     @Builder
     private Artist(
         String name,
         String image,
-        String spotifyId
+        String spotifyId,
+        boolean searchable
     ) {
         this.name = name;
         this.image = image;
         this.spotifyId = spotifyId;
+        this.searchable = searchable;
     }
 
     public Artist changeId(UUID id) {
@@ -43,10 +43,15 @@ public class Show extends BaseEntity {
     @Column(name = "image", nullable = false)
     private String image;
 
+    // 목록 응답용 썸네일로, 이미지를 올린 뒤 비동기로 만들어지므로 그 전까지는 비어 있습니다.
+    @Column(name = "thumbnail_image")
+    private String thumbnailImage;
+
     @Column(name = "last_ticketing_at", nullable = false)
     private LocalDateTime lastTicketingAt;
 
-    @Column(name = "view_count", nullable = false)
+    // 조회수는 ShowViewCountAggregator 가 증분 UPDATE 로만 반영하므로 엔티티 변경 감지에서 제외합니다.
+    @Column(name = "view_count", nullable = false, updatable = false)
     private int viewCount;
 
     @Enumerated
@@ -120,19 +125,22 @@ public class Show extends BaseEntity {
             .build();
     }
 
+    public String getListImage() {
+        return thumbnailImage == null ? image : thumbnailImage;
+    }
+
     public void changeShowInfo(Show updateShow) {
         this.title = updateShow.title;
         this.content = updateShow.content;
         this.startDate = updateShow.startDate;
         this.endDate = updateShow.endDate;
         this.location = updateShow.location;
+        if (!updateShow.image.equals(this.image)) {
+            this.thumbnailImage = null;
+        }
         this.image = updateShow.image;
         this.lastTicketingAt = updateShow.lastTicketingAt;
         this.seatPrices = updateShow.seatPrices;
         this.ticketingSites = updateShow.ticketingSites;
     }
-
-    public void view() {
-        this.viewCount++;
-    }
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package org.example.port;
+
+import java.util.List;
+import java.util.function.Supplier;
+import org.example.port.dto.response.ArtistSearchPortResponse;
+import org.example.port.dto.response.ArtistsDetailPortResponse;
+
+public interface ArtistSearchCachePort {
+
+    /**
+     * 같은 검색어, limit, offset 의 아티스트 검색 결과를 캐시에서 조회합니다.
+     * 신선 기간이 지난 결과는 그대로 반환하면서 loader 로 다시 조회하고, 캐시에 결과가 없을 때만 loader 를 기다립니다.
+     *
+     * @param search 검색어
+     * @param limit  조회 개수
+     * @param offset 조회 시작 위치
+     * @param loader 캐시 미스 또는 재검증 시 외부 API 로 검색하는 함수
+     * @return 아티스트 검색 결과
+     */
+    ArtistSearchPortResponse getOrLoadSearch(
+        String search,
+        int limit,
+        int offset,
+        Supplier<ArtistSearchPortResponse> loader
+    );
+
+    /**
+     * 같은 스포티파이 아티스트 ID 목록의 상세 조회 결과를 캐시에서 조회합니다.
+     *
+     * @param spotifyArtistIds 스포티파이 아티스트 ID 목록
+     * @param loader           캐시 미스 또는 재검증 시 외부 API 로 조회하는 함수
+     * @return 아티스트 상세 조회 결과
+     */
+    ArtistsDetailPortResponse getOrLoadArtists(
+        List<String> spotifyArtistIds,
+        Supplier<ArtistsDetailPortResponse> loader
+    );
+}
@@ -0,0 +1,19 @@
+package org.example.port;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.example.dto.show.response.ShowDetailDomainResponse;
+
+public interface ShowDetailCachePort {
+
+    /**
+     * 캐시에 공연 상세 정보가 없다면 loader 로 조회한 뒤 캐시에 적재합니다.
+     *
+     * @param showId 공연 ID
+     * @param loader 캐시 미스 시 DB 에서 공연 상세 정보를 조회하는 함수
+     * @return 공연 상세 정보
+     */
+    ShowDetailDomainResponse getOrLoad(UUID showId, Supplier<ShowDetailDomainResponse> loader);
+
+    void evict(UUID showId);
+}
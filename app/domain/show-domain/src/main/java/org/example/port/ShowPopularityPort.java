@@ -0,0 +1,51 @@
+package org.example.port;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.example.dto.show.param.ShowPopularityDomainParam;
+
+public interface ShowPopularityPort {
+
+    void increaseScores(Map<UUID, Long> viewCountDeltas);
+
+    /**
+     * 인기순 인덱스에 없는 공연만 주어진 점수로 추가합니다. 이미 존재하는 공연의 점수는 유지됩니다.
+     */
+    void registerIfAbsent(Map<UUID, Long> viewCounts);
+
+    void remove(UUID showId);
+
+    /**
+     * 재적재 중인 인덱스에 DB 조회수를 점수로 덮어씁니다.
+     *
+     * @param rebuildId 한 번의 재적재를 구분하는 ID
+     */
+    void stageScores(UUID rebuildId, Map<UUID, Long> viewCounts);
+
+    /**
+     * 재적재를 마친 인덱스로 인기순 인덱스를 원자적으로 교체합니다. 재적재에 포함되지 않은 공연은 인덱스에서 빠집니다.
+     */
+    void replaceWithStaged(UUID rebuildId);
+
+    /**
+     * 현재 인기순 인덱스를 새 버전의 스냅샷으로 복사하고 최신 스냅샷으로 지정합니다.
+     */
+    void createSnapshot();
+
+    /**
+     * @return 최신 스냅샷 버전 / 스냅샷이 없거나 조회할 수 없다면 null
+     */
+    Long findLatestSnapshot();
+
+    /**
+     * 스냅샷에서 (점수 내림차순, 공연 ID 내림차순) 으로 커서 다음 공연들을 조회합니다.
+     *
+     * @param snapshot    조회할 스냅샷 버전
+     * @param cursorScore 이전 페이지 마지막 공연의 점수 / 최초 조회라면 null
+     * @param cursorId    이전 페이지 마지막 공연의 ID / 최초 조회라면 null
+     * @param size        조회할 최대 개수
+     * @return 점수와 함께 정렬된 공연 ID 목록 / 스냅샷이 만료되었거나 조회할 수 없다면 null
+     */
+    List<ShowPopularityDomainParam> findRankedShows(long snapshot, Long cursorScore, UUID cursorId, int size);
+}
@@ -0,0 +1,14 @@
+package org.example.port;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 공연 검색 색인은 서버마다 메모리에 있으므로 한 서버에서 일어난 변경을 다른 서버의 색인에도 전파합니다.
+ */
+public interface ShowSearchIndexBroadcastPort {
+
+    void broadcastPut(UUID showId, List<String> names);
+
+    void broadcastRemove(UUID showId);
+}
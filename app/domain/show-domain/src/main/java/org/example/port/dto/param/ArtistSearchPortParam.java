@@ -7,6 +7,7 @@ import lombok.Builder;
 import org.example.dto.artist.request.ArtistGenreDomainRequest;
 import org.example.dto.artist.response.ArtistSearchSimpleDomainResponse;
 import org.example.entity.artist.Artist;
+import org.example.vo.ArtistFilterType;
 import org.example.vo.ArtistGenreType;
 
 @Builder
@@ -31,9 +32,18 @@ public record ArtistSearchPortParam(
             .name(name)
             .spotifyId(id)
             .image(imageURL)
+            .searchable(isSearchable())
             .build();
     }
 
+    /**
+     * 장르가 없거나 국내 아티스트 장르가 포함된 아티스트는 검색 결과에 보여주지 않습니다.
+     */
+    public boolean isSearchable() {
+        return !genres.isEmpty() && genres.stream()
+            .noneMatch(ArtistFilterType::isKoreanArtist);
+    }
+
     public ArtistGenreDomainRequest toDomainRequest(UUID artistId) {
         String mappedGenres = genres.stream()
             .map(ArtistGenreType::findByGenreClassificationName)
@@ -48,6 +58,7 @@ public record ArtistSearchPortParam(
             .image(imageURL)
             .spotifyId(id)
             .genreName(mappedGenres)
+            .searchable(isSearchable())
             .build();
     }
 }
@@ -0,0 +1,22 @@
+package org.example.property;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "artist-search")
+public record ArtistSearchProperty(
+    boolean speculativeFanOut,
+    int scanPageCount,
+    int fanOutPoolSize,
+    boolean localFirst
+) {
+
+    public ArtistSearchProperty {
+        if (scanPageCount <= 0) {
+            scanPageCount = 3;
+        }
+
+        if (fanOutPoolSize <= 0) {
+            fanOutPoolSize = 16;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.repository.artist;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.example.entity.artist.Artist;
+import org.example.entity.artist.ArtistGenre;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class ArtistJdbcRepository {
+
+    private static final String INSERT_ARTIST_IGNORING_CONFLICT_SQL =
+        "INSERT INTO artist (id, created_at, updated_at, is_deleted, name, image, spotify_id, searchable) "
+            + "VALUES (?, ?, ?, false, ?, ?, ?, ?) ON CONFLICT (spotify_id) DO NOTHING";
+    private static final String INSERT_ARTIST_GENRE_SQL =
+        "INSERT INTO artist_genre (id, created_at, updated_at, is_deleted, artist_id, genre_id) "
+            + "VALUES (?, ?, ?, false, ?, ?)";
+    private static final String FIND_ARTIST_IDS_SQL = "SELECT id FROM artist WHERE id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 같은 spotify_id 의 아티스트가 이미 있다면 저장하지 않습니다.
+     * 배치 결과의 행 수는 드라이버 설정에 따라 알 수 없을 수 있어, 저장 여부는 삽입한 ID 를 다시 조회해 판단합니다.
+     *
+     * @return 실제로 저장된 아티스트의 ID
+     */
+    public Set<UUID> insertAllIgnoringConflict(List<Artist> artists) {
+        if (artists.isEmpty()) {
+            return Set.of();
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+            INSERT_ARTIST_IGNORING_CONFLICT_SQL,
+            artists.stream()
+                .map(artist -> new Object[]{
+                    artist.getId(), now, now, artist.getName(), artist.getImage(), artist.getSpotifyId(),
+                    artist.isSearchable()
+                })
+                .toList()
+        );
+
+        return new HashSet<>(
+            jdbcTemplate.queryForList(
+                FIND_ARTIST_IDS_SQL.formatted(String.join(",", Collections.nCopies(artists.size(), "?"))),
+                UUID.class,
+                artists.stream().map(Artist::getId).toArray()
+            )
+        );
+    }
+
+    public void insertAllArtistGenres(List<ArtistGenre> artistGenres) {
+        if (artistGenres.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+            INSERT_ARTIST_GENRE_SQL,
+            artistGenres.stream()
+                .map(artistGenre -> new Object[]{
+                    artistGenre.getId(), now, now, artistGenre.getArtistId(), artistGenre.getGenreId()
+                })
+                .toList()
+        );
+    }
+}
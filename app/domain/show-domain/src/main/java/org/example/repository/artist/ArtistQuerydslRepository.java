@@ -1,6 +1,7 @@
 package org.example.repository.artist;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.example.dto.artist.request.ArtistPaginationDomainRequest;
 import org.example.dto.artist.response.ArtistDetailDomainResponse;
@@ -14,6 +15,11 @@ public interface ArtistQuerydslRepository {
 
     List<ArtistNameDomainResponse> findAllArtistName();
 
+    /**
+     * @return 삭제되지 않은 검색 가능한 아티스트의 ID 별 이름
+     */
+    Map<UUID, List<String>> findAllArtistSearchKeys();
+
     List<Artist> findAllInIds(List<UUID> ids);
 
     ArtistPaginationDomainResponse findAllWithCursorPagination(
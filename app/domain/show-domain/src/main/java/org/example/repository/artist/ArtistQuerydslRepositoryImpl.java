@@ -13,8 +13,10 @@ import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.example.dto.artist.request.ArtistPaginationDomainRequest;
 import org.example.dto.artist.response.ArtistDetailDomainResponse;
@@ -68,6 +70,20 @@ public class ArtistQuerydslRepositoryImpl implements ArtistQuerydslRepository {
             .fetch();
     }
 
+    @Override
+    public Map<UUID, List<String>> findAllArtistSearchKeys() {
+        return jpaQueryFactory
+            .select(artist.id, artist.name)
+            .from(artist)
+            .where(artist.isDeleted.isFalse().and(artist.searchable.isTrue()))
+            .fetch()
+            .stream()
+            .collect(Collectors.toMap(
+                tuple -> tuple.get(artist.id),
+                tuple -> List.of(tuple.get(artist.name))
+            ));
+    }
+
     @Override
     public List<Artist> findAllInIds(List<UUID> ids) {
         return jpaQueryFactory
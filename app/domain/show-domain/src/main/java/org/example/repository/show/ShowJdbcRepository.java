@@ -0,0 +1,36 @@
+package org.example.repository.show;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class ShowJdbcRepository {
+
+    private static final String INCREASE_VIEW_COUNT_SQL =
+        "UPDATE show SET view_count = view_count + ? WHERE id = ? AND is_deleted = false";
+    private static final String UPDATE_THUMBNAIL_IMAGE_SQL =
+        "UPDATE show SET thumbnail_image = ? WHERE id = ? AND image = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void increaseViewCounts(Map<UUID, Long> viewCountDeltas) {
+        List<Object[]> batchArgs = new ArrayList<>(viewCountDeltas.size());
+        viewCountDeltas.forEach((showId, delta) -> batchArgs.add(new Object[]{delta, showId}));
+
+        jdbcTemplate.batchUpdate(INCREASE_VIEW_COUNT_SQL, batchArgs);
+    }
+
+    /**
+     * 썸네일을 만드는 동안 이미지가 바뀌었다면 갱신하지 않습니다.
+     * 관리자의 공연 수정과 낙관적 락이 충돌하지 않도록 version 을 올리지 않고 썸네일 컬럼만 갱신합니다.
+     */
+    public boolean updateThumbnailImage(UUID showId, String image, String thumbnailImage) {
+        return jdbcTemplate.update(UPDATE_THUMBNAIL_IMAGE_SQL, thumbnailImage, showId, image) > 0;
+    }
+}
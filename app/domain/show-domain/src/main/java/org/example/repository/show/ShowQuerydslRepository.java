@@ -1,23 +1,40 @@
 package org.example.repository.show;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import org.example.dto.show.param.ShowWithTicketingTimesDomainParam;
+import java.util.function.Consumer;
+import org.example.dto.show.param.ShowPopularityDomainParam;
+import org.example.dto.show.request.ShowAdminPaginationDomainRequest;
 import org.example.dto.show.request.ShowPaginationDomainRequest;
 import org.example.dto.show.response.ShowDetailDomainResponse;
 import org.example.dto.show.response.ShowInfoDomainResponse;
+import org.example.dto.show.response.ShowInfoPaginationDomainResponse;
+import org.example.dto.show.response.ShowTicketingDomainResponse;
 import org.example.dto.show.response.ShowTicketingPaginationDomainResponse;
 
 public interface ShowQuerydslRepository {
 
     Optional<ShowDetailDomainResponse> findShowDetailById(UUID id);
 
-    List<ShowWithTicketingTimesDomainParam> findShowDetailWithTicketingTimes();
+    ShowInfoPaginationDomainResponse findShowInfos(ShowAdminPaginationDomainRequest request);
+
+    void forEachShowInfo(int fetchSize, Consumer<ShowInfoDomainResponse> consumer);
 
     ShowTicketingPaginationDomainResponse findShows(ShowPaginationDomainRequest request);
 
+    List<ShowTicketingDomainResponse> findShowTicketingsByIds(
+        List<UUID> showIds,
+        ShowPaginationDomainRequest request
+    );
+
+    /**
+     * 종료되지 않은 공연의 조회수를 공연 ID 오름차순으로 커서 다음부터 size 개 조회합니다.
+     */
+    List<ShowPopularityDomainParam> findActiveViewCounts(UUID cursorId, LocalDate today, int size);
+
     Optional<ShowInfoDomainResponse> findShowInfoById(UUID id);
 
     long findTerminatedTicketingShowsCount(List<UUID> showIds, LocalDateTime now);
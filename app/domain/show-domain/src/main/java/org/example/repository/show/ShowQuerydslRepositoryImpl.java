@@ -1,7 +1,6 @@
 package org.example.repository.show;
 
 import static com.querydsl.core.group.GroupBy.groupBy;
-import static com.querydsl.core.group.GroupBy.list;
 import static com.querydsl.core.group.GroupBy.set;
 import static org.example.entity.artist.QArtist.artist;
 import static org.example.entity.genre.QGenre.genre;
@@ -16,28 +15,37 @@ import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.example.dto.artist.response.ArtistDomainResponse;
 import org.example.dto.artist.response.ArtistNameDomainResponse;
 import org.example.dto.genre.response.GenreDomainResponse;
 import org.example.dto.genre.response.GenreNameDomainResponse;
-import org.example.dto.show.param.ShowWithTicketingTimesDomainParam;
+import org.example.dto.show.param.ShowPopularityDomainParam;
+import org.example.dto.show.request.ShowAdminPaginationDomainRequest;
 import org.example.dto.show.request.ShowPaginationDomainRequest;
 import org.example.dto.show.response.ShowDetailDomainResponse;
 import org.example.dto.show.response.ShowDomainResponse;
 import org.example.dto.show.response.ShowInfoDomainResponse;
+import org.example.dto.show.response.ShowInfoPaginationDomainResponse;
 import org.example.dto.show.response.ShowTicketingDomainResponse;
 import org.example.dto.show.response.ShowTicketingPaginationDomainResponse;
 import org.example.dto.show.response.ShowTicketingTimeDomainResponse;
-import org.example.entity.show.Show;
 import org.example.util.SliceUtil;
+import org.example.vo.ShowSortType;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
 
@@ -49,90 +57,189 @@ public class ShowQuerydslRepositoryImpl implements ShowQuerydslRepository {
 
     @Override
     public Optional<ShowDetailDomainResponse> findShowDetailById(UUID id) {
-        return Optional.ofNullable(
-            createShowJoinArtistAndGenreQuery()
-                .where(show.id.eq(id))
-                .transform(
-                    groupBy(show.id).as(getShowDetailConstructor())
-                )
-                .get(id)
-        );
+        return findShowDomainResponseById(id)
+            .map(showDomainResponse -> {
+                List<UUID> showIds = List.of(id);
+                return ShowDetailDomainResponse.builder()
+                    .show(showDomainResponse)
+                    .artists(findArtistsByShowIds(showIds).getOrDefault(id, Set.of()))
+                    .genres(findGenresByShowIds(showIds).getOrDefault(id, Set.of()))
+                    .showTicketingTimes(
+                        findTicketingTimesByShowIds(showIds).getOrDefault(id, Set.of())
+                    )
+                    .build();
+            });
+    }
+
+    @Override
+    public Optional<ShowInfoDomainResponse> findShowInfoById(UUID id) {
+        return findShowDomainResponseById(id)
+            .map(showDomainResponse -> {
+                List<UUID> showIds = List.of(id);
+                return new ShowInfoDomainResponse(
+                    showDomainResponse,
+                    findArtistNamesByShowIds(showIds).getOrDefault(id, Set.of()),
+                    findGenreNamesByShowIds(showIds).getOrDefault(id, Set.of()),
+                    findTicketingTimesByShowIds(showIds).getOrDefault(id, Set.of())
+                );
+            });
+    }
+
+    /*
+     * 페이지에 해당하는 공연만 ID 순으로 keyset 조회한 뒤, 그 공연 ID 들에 대해서만 연관 데이터를 조회해
+     * 공연 ID 를 키로 하는 맵에서 꺼내 조립합니다.
+     */
+    @Override
+    public ShowInfoPaginationDomainResponse findShowInfos(ShowAdminPaginationDomainRequest request) {
+        BooleanExpression wherePredicate = show.isDeleted.isFalse();
+        if (request.cursorId() != null) {
+            wherePredicate = wherePredicate.and(show.id.gt(request.cursorId()));
+        }
+
+        List<ShowDomainResponse> result = jpaQueryFactory
+            .select(getShowDomainConstructor())
+            .from(show)
+            .where(wherePredicate)
+            .orderBy(show.id.asc())
+            .limit(request.size() + 1)
+            .fetch();
+
+        Slice<ShowDomainResponse> slice = SliceUtil.makeSlice(request.size(), result);
+        if (slice.isEmpty()) {
+            return ShowInfoPaginationDomainResponse.builder()
+                .data(List.of())
+                .hasNext(false)
+                .build();
+        }
+
+        return ShowInfoPaginationDomainResponse.builder()
+            .data(toShowInfoDomainResponses(slice.getContent()))
+            .hasNext(slice.hasNext())
+            .build();
     }
 
+    /*
+     * 공연은 fetchSize 단위로 커서에서 읽어오고, 같은 크기로 모아 연관 데이터를 조회한 뒤 넘겨줍니다.
+     * 조회 결과는 엔티티가 아닌 DTO 이므로 영속성 컨텍스트에 쌓이지 않아 카탈로그 크기와 관계없이 메모리 사용량이 일정합니다.
+     * PostgreSQL 은 트랜잭션 안에서만 fetchSize 를 적용하므로 호출하는 쪽에서 트랜잭션을 열어야 합니다.
+     */
     @Override
-    public List<ShowWithTicketingTimesDomainParam> findShowDetailWithTicketingTimes() {
-        return jpaQueryFactory.selectFrom(show)
-            .join(showTicketingTime).on(isShowTicketingEqualShowAndIsDeletedFalse())
+    public void forEachShowInfo(int fetchSize, Consumer<ShowInfoDomainResponse> consumer) {
+        try (Stream<ShowDomainResponse> shows = jpaQueryFactory
+            .select(getShowDomainConstructor())
+            .from(show)
             .where(show.isDeleted.isFalse())
-            .transform(
-                groupBy(show.id).list(
-                    Projections.constructor(
-                        ShowWithTicketingTimesDomainParam.class,
-                        Projections.constructor(
-                            ShowDomainResponse.class,
-                            show.id,
-                            show.title,
-                            show.content,
-                            show.startDate,
-                            show.endDate,
-                            show.location,
-                            show.image,
-                            show.lastTicketingAt,
-                            show.viewCount,
-                            show.seatPrices,
-                            show.ticketingSites
-                        ),
-                        list(
-                            Projections.constructor(
-                                ShowTicketingTimeDomainResponse.class,
-                                showTicketingTime.ticketingType,
-                                showTicketingTime.ticketingAt
-                            )
-                        )
-                    )
-                )
-            );
+            .orderBy(show.id.asc())
+            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .stream()
+        ) {
+            List<ShowDomainResponse> chunk = new ArrayList<>(fetchSize);
+            shows.forEach(showDomainResponse -> {
+                chunk.add(showDomainResponse);
+                if (chunk.size() == fetchSize) {
+                    toShowInfoDomainResponses(chunk).forEach(consumer);
+                    chunk.clear();
+                }
+            });
+
+            if (!chunk.isEmpty()) {
+                toShowInfoDomainResponses(chunk).forEach(consumer);
+            }
+        }
     }
 
+    /*
+     * 인기순은 Redis 인기순 인덱스에서 조회하는 경우와 같은 모양이 되도록 공연마다 가장 빠른 티켓팅 시간 한 행만 조회합니다.
+     */
     @Override
-    public Optional<ShowInfoDomainResponse> findShowInfoById(UUID id) {
-        return Optional.ofNullable(
-            createShowJoinArtistAndGenreQuery()
-                .where(show.id.eq(id))
-                .transform(
-                    groupBy(show.id).as(getShowInfoConstructor())
-                )
-                .get(id)
+    public ShowTicketingPaginationDomainResponse findShows(ShowPaginationDomainRequest request) {
+        ConstructorExpression<ShowTicketingDomainResponse> showTicketing = Projections.constructor(
+            ShowTicketingDomainResponse.class,
+            show.id,
+            show.title,
+            show.endDate,
+            request.sort() == ShowSortType.POPULAR
+                ? showTicketingTime.ticketingAt.min()
+                : showTicketingTime.ticketingAt,
+            show.location,
+            getListImage()
         );
+
+        JPAQuery<Tuple> query = jpaQueryFactory
+            .select(showTicketing, show.viewCount)
+            .from(show)
+            .join(showTicketingTime).on(showTicketingTime.show.id.eq(show.id))
+            .where(getShowAlertsInCursorPagination(request));
+        if (request.sort() == ShowSortType.POPULAR) {
+            query.groupBy(
+                show.id, show.title, show.endDate, show.location, show.image, show.thumbnailImage, show.viewCount
+            );
+        }
+
+        List<Tuple> result = query
+            .orderBy(getOrderSpecifier(request))
+            .limit(request.size() + 1)
+            .fetch();
+
+        Slice<Tuple> slice = SliceUtil.makeSlice(request.size(), result);
+        List<ShowTicketingDomainResponse> data = slice.getContent().stream()
+            .map(tuple -> tuple.get(showTicketing))
+            .toList();
+        Tuple lastShow = slice.isEmpty() ? null : slice.getContent().get(slice.getNumberOfElements() - 1);
+
+        return ShowTicketingPaginationDomainResponse.builder()
+            .data(data)
+            .hasNext(slice.hasNext())
+            .cursorId(lastShow == null ? null : lastShow.get(showTicketing).id())
+            .cursorValue(lastShow == null ? null : lastShow.get(show.viewCount).longValue())
+            .build();
     }
 
     @Override
-    public ShowTicketingPaginationDomainResponse findShows(ShowPaginationDomainRequest request) {
-        List<ShowTicketingDomainResponse> result = jpaQueryFactory
+    public List<ShowTicketingDomainResponse> findShowTicketingsByIds(
+        List<UUID> showIds,
+        ShowPaginationDomainRequest request
+    ) {
+        return jpaQueryFactory
             .select(
                 Projections.constructor(
                     ShowTicketingDomainResponse.class,
                     show.id,
                     show.title,
                     show.endDate,
-                    showTicketingTime.ticketingAt,
+                    showTicketingTime.ticketingAt.min(),
                     show.location,
-                    show.image
+                    getListImage()
                 )
             )
             .from(show)
             .join(showTicketingTime).on(showTicketingTime.show.id.eq(show.id))
-            .where(getShowAlertsInCursorPagination(request))
-            .orderBy(getOrderSpecifier(request))
-            .limit(request.size() + 1)
+            .where(show.id.in(showIds).and(getShowFilterPredicate(request)))
+            .groupBy(show.id, show.title, show.endDate, show.location, show.image, show.thumbnailImage)
             .fetch();
+    }
 
-        Slice<ShowTicketingDomainResponse> slice = SliceUtil.makeSlice(request.size(), result);
+    @Override
+    public List<ShowPopularityDomainParam> findActiveViewCounts(UUID cursorId, LocalDate today, int size) {
+        BooleanExpression predicate = show.isDeleted.isFalse().and(show.endDate.after(today));
+        if (cursorId != null) {
+            predicate = predicate.and(show.id.gt(cursorId));
+        }
 
-        return ShowTicketingPaginationDomainResponse.builder()
-            .data(slice.getContent())
-            .hasNext(slice.hasNext())
-            .build();
+        return jpaQueryFactory
+            .select(
+                Projections.constructor(
+                    ShowPopularityDomainParam.class,
+                    show.id,
+                    show.viewCount.longValue()
+                )
+            )
+            .from(show)
+            .where(predicate)
+            .orderBy(show.id.asc())
+            .limit(size)
+            .fetch();
     }
 
     @Override
@@ -150,14 +257,11 @@ public class ShowQuerydslRepositoryImpl implements ShowQuerydslRepository {
         return result == null ? 0 : result;
     }
 
+    /*
+     * 커서에 담긴 정렬 값과 공연 ID 로 keyset 조건을 만들어 커서 데이터를 다시 조회하지 않습니다.
+     */
     private Predicate getShowAlertsInCursorPagination(ShowPaginationDomainRequest request) {
-        BooleanExpression wherePredicate = getDefaultPredicateExpression();
-
-        if (request.onlyOpenSchedule()) {
-            return wherePredicate.and(showTicketingTime.ticketingAt.after(request.now()));
-        } else {
-            wherePredicate.and(show.endDate.after(LocalDate.now()));
-        }
+        BooleanExpression wherePredicate = getShowFilterPredicate(request);
 
         if (request.cursorId() == null) {
             return wherePredicate;
@@ -165,172 +269,215 @@ public class ShowQuerydslRepositoryImpl implements ShowQuerydslRepository {
 
         switch (request.sort()) {
             case RECENT -> {
-                return wherePredicate.and(createRecentPredicate(request.cursorId()));
+                return wherePredicate.and(
+                    createRecentPredicate(request.cursorTicketingAt(), request.cursorId())
+                );
             }
             default -> {
-                return wherePredicate.and(createPopularPredicate(request.cursorId()));
+                return wherePredicate.and(
+                    createPopularPredicate(request.cursorValue(), request.cursorId())
+                );
             }
         }
     }
 
-    private BooleanExpression getDefaultPredicateExpression() {
-        return show.isDeleted.isFalse().and(showTicketingTime.isDeleted.isFalse());
-    }
+    private BooleanExpression getShowFilterPredicate(ShowPaginationDomainRequest request) {
+        BooleanExpression wherePredicate = getDefaultPredicateExpression();
 
-    private BooleanExpression createRecentPredicate(UUID cursorId) {
-        Tuple cursor = jpaQueryFactory
-            .select(showTicketingTime.id, showTicketingTime.ticketingAt)
-            .from(showTicketingTime)
-            .where(showTicketingTime.show.id.eq(cursorId))
-            .fetchFirst();
+        if (request.onlyOpenSchedule()) {
+            return wherePredicate.and(showTicketingTime.ticketingAt.after(request.now()));
+        }
 
-        LocalDateTime cursorValue = cursor.get(showTicketingTime.ticketingAt);
-        UUID cursorIdValue = cursor.get(showTicketingTime.id);
+        return wherePredicate.and(show.endDate.after(request.now().toLocalDate()));
+    }
 
-        return showTicketingTime.ticketingAt.gt(cursorValue)
-            .or(showTicketingTime.ticketingAt.eq(cursorValue)
-                .and(showTicketingTime.id.gt(cursorIdValue)));
+    private BooleanExpression getDefaultPredicateExpression() {
+        return show.isDeleted.isFalse().and(showTicketingTime.isDeleted.isFalse());
     }
 
-    private BooleanExpression createPopularPredicate(UUID cursorId) {
-        Tuple cursor = jpaQueryFactory
-            .select(show.id, show.viewCount)
-            .from(show)
-            .where(show.id.eq(cursorId))
-            .fetchFirst();
+    private BooleanExpression createRecentPredicate(LocalDateTime cursorTicketingAt, UUID cursorId) {
+        return showTicketingTime.ticketingAt.gt(cursorTicketingAt)
+            .or(showTicketingTime.ticketingAt.eq(cursorTicketingAt)
+                .and(show.id.gt(cursorId)));
+    }
 
-        Integer cursorValue = cursor.get(show.viewCount);
-        UUID cursorIdValue = cursor.get(show.id);
+    private BooleanExpression createPopularPredicate(Long cursorViewCount, UUID cursorId) {
+        int viewCount = cursorViewCount.intValue();
 
-        return show.viewCount.lt(cursorValue)
-            .or(show.viewCount.eq(cursorValue)
-                .and(show.id.gt(cursorIdValue)));
+        return show.viewCount.lt(viewCount)
+            .or(show.viewCount.eq(viewCount)
+                .and(show.id.lt(cursorId)));
     }
 
     private OrderSpecifier<?>[] getOrderSpecifier(ShowPaginationDomainRequest request) {
         return switch (request.sort()) {
             case RECENT -> new OrderSpecifier<?>[]{
                 showTicketingTime.ticketingAt.asc(),
-                showTicketingTime.id.asc()
+                show.id.asc()
             };
             default -> new OrderSpecifier<?>[]{
                 show.viewCount.desc(),
-                show.id.asc()
+                show.id.desc()
             };
         };
     }
 
-    private ConstructorExpression<ShowDetailDomainResponse> getShowDetailConstructor() {
-        return Projections.constructor(
-            ShowDetailDomainResponse.class,
-            Projections.constructor(
-                ShowDomainResponse.class,
-                show.id,
-                show.title,
-                show.content,
-                show.startDate,
-                show.endDate,
-                show.location,
-                show.image,
-                show.lastTicketingAt,
-                show.viewCount,
-                show.seatPrices,
-                show.ticketingSites
-            ),
-            set(
-                Projections.constructor(
-                    ArtistDomainResponse.class,
-                    artist.id,
-                    artist.name,
-                    artist.image
-                )
-            ),
-            set(
-                Projections.constructor(
-                    GenreDomainResponse.class,
-                    genre.id,
-                    genre.name
-                )
-            ),
-            set(
-                Projections.constructor(
-                    ShowTicketingTimeDomainResponse.class,
-                    showTicketingTime.ticketingType,
-                    showTicketingTime.ticketingAt
-                )
-            )
+    /*
+     * 공연 상세는 아티스트 x 장르 x 티켓팅 시간 만큼 행이 늘어나는 단일 조인 대신
+     * 연관관계별로 공연 ID 를 키로 하는 쿼리를 나누어 조회한 뒤 조립합니다.
+     */
+    private Optional<ShowDomainResponse> findShowDomainResponseById(UUID id) {
+        return Optional.ofNullable(
+            jpaQueryFactory
+                .select(getShowDomainConstructor())
+                .from(show)
+                .where(show.id.eq(id).and(show.isDeleted.isFalse()))
+                .fetchOne()
         );
     }
 
-    private ConstructorExpression<ShowInfoDomainResponse> getShowInfoConstructor() {
-        return Projections.constructor(
-            ShowInfoDomainResponse.class,
-            Projections.constructor(
-                ShowDomainResponse.class,
-                show.id,
-                show.title,
-                show.content,
-                show.startDate,
-                show.endDate,
-                show.location,
-                show.image,
-                show.lastTicketingAt,
-                show.viewCount,
-                show.seatPrices,
-                show.ticketingSites
-            ),
-            set(
-                Projections.constructor(
-                    ArtistNameDomainResponse.class,
-                    artist.id,
-                    artist.name
+    private List<ShowInfoDomainResponse> toShowInfoDomainResponses(List<ShowDomainResponse> shows) {
+        List<UUID> showIds = shows.stream()
+            .map(ShowDomainResponse::id)
+            .toList();
+        Map<UUID, Set<ArtistNameDomainResponse>> artistNames = findArtistNamesByShowIds(showIds);
+        Map<UUID, Set<GenreNameDomainResponse>> genreNames = findGenreNamesByShowIds(showIds);
+        Map<UUID, Set<ShowTicketingTimeDomainResponse>> ticketingTimes = findTicketingTimesByShowIds(showIds);
+
+        return shows.stream()
+            .map(showDomainResponse -> new ShowInfoDomainResponse(
+                showDomainResponse,
+                artistNames.getOrDefault(showDomainResponse.id(), Set.of()),
+                genreNames.getOrDefault(showDomainResponse.id(), Set.of()),
+                ticketingTimes.getOrDefault(showDomainResponse.id(), Set.of())
+            ))
+            .toList();
+    }
+
+    private Map<UUID, Set<ArtistDomainResponse>> findArtistsByShowIds(List<UUID> showIds) {
+        return jpaQueryFactory
+            .from(showArtist)
+            .join(artist).on(isArtistIdEqualShowArtistAndIsDeletedFalse())
+            .where(showArtist.showId.in(showIds).and(showArtist.isDeleted.isFalse()))
+            .transform(
+                groupBy(showArtist.showId).as(
+                    set(
+                        Projections.constructor(
+                            ArtistDomainResponse.class,
+                            artist.id,
+                            artist.name,
+                            artist.image
+                        )
+                    )
                 )
-            ),
-            set(
-                Projections.constructor(
-                    GenreNameDomainResponse.class,
-                    genre.id,
-                    genre.name
+            );
+    }
+
+    private Map<UUID, Set<ArtistNameDomainResponse>> findArtistNamesByShowIds(List<UUID> showIds) {
+        return jpaQueryFactory
+            .from(showArtist)
+            .join(artist).on(isArtistIdEqualShowArtistAndIsDeletedFalse())
+            .where(showArtist.showId.in(showIds).and(showArtist.isDeleted.isFalse()))
+            .transform(
+                groupBy(showArtist.showId).as(
+                    set(
+                        Projections.constructor(
+                            ArtistNameDomainResponse.class,
+                            artist.id,
+                            artist.name
+                        )
+                    )
                 )
-            ),
-            set(
-                Projections.constructor(
-                    ShowTicketingTimeDomainResponse.class,
-                    showTicketingTime.ticketingType,
-                    showTicketingTime.ticketingAt
+            );
+    }
+
+    private Map<UUID, Set<GenreDomainResponse>> findGenresByShowIds(List<UUID> showIds) {
+        return jpaQueryFactory
+            .from(showGenre)
+            .join(genre).on(isGenreIdEqualShowGenreAndIsDeletedFalse())
+            .where(showGenre.showId.in(showIds).and(showGenre.isDeleted.isFalse()))
+            .transform(
+                groupBy(showGenre.showId).as(
+                    set(
+                        Projections.constructor(
+                            GenreDomainResponse.class,
+                            genre.id,
+                            genre.name
+                        )
+                    )
                 )
-            )
-        );
+            );
     }
 
-    private JPAQuery<Show> createShowJoinArtistAndGenreQuery() {
+    private Map<UUID, Set<GenreNameDomainResponse>> findGenreNamesByShowIds(List<UUID> showIds) {
         return jpaQueryFactory
-            .selectFrom(show)
-            .join(showArtist).on(isShowArtistEqualShowIdAndIsDeletedFalse())
-            .join(artist).on(isArtistIdEqualShowArtistAndIsDeletedFalse())
-            .join(showGenre).on(isShowGenreEqualShowIdAndIsDeletedFalse())
+            .from(showGenre)
             .join(genre).on(isGenreIdEqualShowGenreAndIsDeletedFalse())
-            .join(showTicketingTime).on(isShowTicketingEqualShowAndIsDeletedFalse())
-            .where(show.isDeleted.isFalse());
+            .where(showGenre.showId.in(showIds).and(showGenre.isDeleted.isFalse()))
+            .transform(
+                groupBy(showGenre.showId).as(
+                    set(
+                        Projections.constructor(
+                            GenreNameDomainResponse.class,
+                            genre.id,
+                            genre.name
+                        )
+                    )
+                )
+            );
     }
 
-    private BooleanExpression isShowArtistEqualShowIdAndIsDeletedFalse() {
-        return showArtist.showId.eq(show.id).and(showArtist.isDeleted.isFalse());
+    private Map<UUID, Set<ShowTicketingTimeDomainResponse>> findTicketingTimesByShowIds(
+        List<UUID> showIds
+    ) {
+        return jpaQueryFactory
+            .from(showTicketingTime)
+            .where(
+                showTicketingTime.show.id.in(showIds)
+                    .and(showTicketingTime.isDeleted.isFalse())
+            )
+            .transform(
+                groupBy(showTicketingTime.show.id).as(
+                    set(
+                        Projections.constructor(
+                            ShowTicketingTimeDomainResponse.class,
+                            showTicketingTime.ticketingType,
+                            showTicketingTime.ticketingAt
+                        )
+                    )
+                )
+            );
     }
 
-    private BooleanExpression isArtistIdEqualShowArtistAndIsDeletedFalse() {
-        return artist.id.eq(showArtist.artistId).and(artist.isDeleted.isFalse());
+    private ConstructorExpression<ShowDomainResponse> getShowDomainConstructor() {
+        return Projections.constructor(
+            ShowDomainResponse.class,
+            show.id,
+            show.title,
+            show.content,
+            show.startDate,
+            show.endDate,
+            show.location,
+            show.image,
+            show.lastTicketingAt,
+            show.viewCount,
+            show.seatPrices,
+            show.ticketingSites
+        );
     }
 
-    private BooleanExpression isShowGenreEqualShowIdAndIsDeletedFalse() {
-        return showGenre.showId.eq(show.id).and(showGenre.isDeleted.isFalse());
+    /*
+     * 목록 응답에는 썸네일이 만들어졌다면 썸네일을, 아니면 원본 이미지를 내려줍니다.
+     */
+    private StringExpression getListImage() {
+        return show.thumbnailImage.coalesce(show.image);
     }
 
-    private BooleanExpression isGenreIdEqualShowGenreAndIsDeletedFalse() {
-        return genre.id.eq(showGenre.genreId).and(genre.isDeleted.isFalse());
+    private BooleanExpression isArtistIdEqualShowArtistAndIsDeletedFalse() {
+        return artist.id.eq(showArtist.artistId).and(artist.isDeleted.isFalse());
     }
 
-    private BooleanExpression isShowTicketingEqualShowAndIsDeletedFalse() {
-        return showTicketingTime.show.id.eq(show.id).and(showTicketingTime.isDeleted.isFalse());
+    private BooleanExpression isGenreIdEqualShowGenreAndIsDeletedFalse() {
+        return genre.id.eq(showGenre.genreId).and(genre.isDeleted.isFalse());
     }
 }
@@ -1,9 +1,20 @@
 package org.example.repository.show.showsearch;
 
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.example.dto.show.param.ShowSuggestionSourceDomainParam;
 import org.example.dto.show.request.ShowSearchPaginationDomainRequest;
+import org.example.dto.show.response.ShowSearchDomainResponse;
 import org.example.dto.show.response.ShowSearchPaginationDomainResponse;
 
 public interface ShowSearchQuerydslRepository {
 
     ShowSearchPaginationDomainResponse searchShow(ShowSearchPaginationDomainRequest request);
+
+    List<ShowSearchDomainResponse> findShowSearchesByShowIds(List<UUID> showIds);
+
+    Map<UUID, List<String>> findAllShowSearchNames();
+
+    List<ShowSuggestionSourceDomainParam> findAllShowSuggestionSources();
 }
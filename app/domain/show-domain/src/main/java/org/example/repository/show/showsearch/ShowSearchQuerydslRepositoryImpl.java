@@ -1,15 +1,20 @@
 package org.example.repository.show.showsearch;
 
+import static com.querydsl.core.group.GroupBy.groupBy;
+import static com.querydsl.core.group.GroupBy.list;
 import static org.example.entity.show.QShow.show;
 import static org.example.entity.show.QShowSearch.showSearch;
 
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.example.dto.show.param.ShowSuggestionSourceDomainParam;
 import org.example.dto.show.request.ShowSearchPaginationDomainRequest;
 import org.example.dto.show.response.ShowSearchDomainResponse;
 import org.example.dto.show.response.ShowSearchPaginationDomainResponse;
@@ -27,22 +32,15 @@ public class ShowSearchQuerydslRepositoryImpl implements ShowSearchQuerydslRepos
     public ShowSearchPaginationDomainResponse searchShow(
         ShowSearchPaginationDomainRequest request
     ) {
-        List<ShowSearchDomainResponse> result = jpaQueryFactory.select(
-                Projections.constructor(
-                    ShowSearchDomainResponse.class,
-                    show.id,
-                    show.title,
-                    show.startDate,
-                    show.endDate,
-                    show.location,
-                    show.image
-                )
-            )
+        List<ShowSearchDomainResponse> result = jpaQueryFactory
+            .selectDistinct(getShowSearchConstructor())
             .from(showSearch)
             .join(showSearch.show, show)
             .where(showSearch.name.like("%" + request.search() + "%")
                 .and(getDefaultPredicateInCursorPagination(request.cursor()))
             )
+            .orderBy(show.id.asc())
+            .limit(request.size() + 1)
             .fetch();
 
         Slice<ShowSearchDomainResponse> showSearchDomainSlices = SliceUtil.makeSlice(
@@ -50,12 +48,64 @@ public class ShowSearchQuerydslRepositoryImpl implements ShowSearchQuerydslRepos
             result
         );
 
+        List<ShowSearchDomainResponse> data = showSearchDomainSlices.getContent();
+
         return ShowSearchPaginationDomainResponse.builder()
-            .data(showSearchDomainSlices.getContent())
+            .data(data)
             .hasNext(showSearchDomainSlices.hasNext())
+            .cursor(data.isEmpty() ? null : data.get(data.size() - 1).id())
             .build();
     }
 
+    @Override
+    public List<ShowSearchDomainResponse> findShowSearchesByShowIds(List<UUID> showIds) {
+        return jpaQueryFactory
+            .select(getShowSearchConstructor())
+            .from(show)
+            .where(show.id.in(showIds).and(show.isDeleted.isFalse()))
+            .fetch();
+    }
+
+    @Override
+    public Map<UUID, List<String>> findAllShowSearchNames() {
+        return jpaQueryFactory
+            .from(showSearch)
+            .join(showSearch.show, show)
+            .where(showSearch.isDeleted.isFalse().and(show.isDeleted.isFalse()))
+            .transform(groupBy(show.id).as(list(showSearch.name)));
+    }
+
+    @Override
+    public List<ShowSuggestionSourceDomainParam> findAllShowSuggestionSources() {
+        return jpaQueryFactory
+            .from(showSearch)
+            .join(showSearch.show, show)
+            .where(showSearch.isDeleted.isFalse().and(show.isDeleted.isFalse()))
+            .transform(
+                groupBy(show.id).list(
+                    Projections.constructor(
+                        ShowSuggestionSourceDomainParam.class,
+                        show.id,
+                        show.title,
+                        show.viewCount,
+                        list(showSearch.name)
+                    )
+                )
+            );
+    }
+
+    private ConstructorExpression<ShowSearchDomainResponse> getShowSearchConstructor() {
+        return Projections.constructor(
+            ShowSearchDomainResponse.class,
+            show.id,
+            show.title,
+            show.startDate,
+            show.endDate,
+            show.location,
+            show.thumbnailImage.coalesce(show.image)
+        );
+    }
+
     private Predicate getDefaultPredicateInCursorPagination(UUID cursor) {
         BooleanExpression defaultPredicate = show.isDeleted.isFalse()
             .and(showSearch.isDeleted.isFalse());
@@ -39,7 +39,7 @@ public class ShowTicketingTimeQuerydslRepositoryImpl implements
                     show.startDate,
                     show.endDate,
                     show.location,
-                    show.image,
+                    show.thumbnailImage.coalesce(show.image),
                     showTicketingTime.id,
                     showTicketingTime.ticketingAt
                 )
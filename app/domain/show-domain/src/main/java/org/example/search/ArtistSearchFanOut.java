@@ -0,0 +1,202 @@
+package org.example.search;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.example.port.dto.param.ArtistSearchPortParam;
+import org.example.port.dto.response.ArtistSearchPortResponse;
+import org.example.property.ArtistSearchProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 아티스트 검색을 고정된 크기의 페이지 단위로 최대 scanPageCount 페이지까지 조회해 offset 순서대로 합칩니다.
+ * 페이지는 pageSize 의 배수 offset 에서 시작하므로 요청마다 크기가 달라도 같은 페이지 캐시를 공유합니다.
+ * speculativeFanOut 이 켜져 있으면 첫 페이지만으로 부족한 것이 확실하거나 첫 페이지가 가득 찬 채 끝났을 때
+ * 다음 페이지들을 동시에 요청하고, 필요한 수만큼 아티스트가 모이면 남은 요청은 취소합니다.
+ * 꺼져 있으면 같은 페이지들을 한 페이지씩 차례로 요청합니다.
+ */
+@Slf4j
+@Component
+public class ArtistSearchFanOut {
+
+    private static final int QUEUE_CAPACITY_PER_THREAD = 16;
+
+    private final boolean speculative;
+    private final int pageCount;
+    private final ThreadPoolExecutor executor;
+
+    public ArtistSearchFanOut(ArtistSearchProperty artistSearchProperty) {
+        this.speculative = artistSearchProperty.speculativeFanOut();
+        this.pageCount = artistSearchProperty.scanPageCount();
+
+        int poolSize = artistSearchProperty.fanOutPoolSize();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(poolSize * QUEUE_CAPACITY_PER_THREAD),
+            runnable -> {
+                Thread thread = new Thread(runnable, "artist-search-fan-out-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    /**
+     * @param offset        검색 시작 위치
+     * @param pageSize      한 페이지의 크기
+     * @param requiredCount 모아야 하는 아티스트 수
+     * @param pageLoader    pageSize 의 배수인 offset 을 받아 pageSize 만큼 검색하는 함수
+     * @param filter        결과에 포함할 아티스트 조건
+     * @return offset 순서를 유지한 아티스트 목록과 다음 검색 위치, 다음 페이지 존재 여부
+     */
+    public ScanResult scan(
+        int offset,
+        int pageSize,
+        int requiredCount,
+        IntFunction<ArtistSearchPortResponse> pageLoader,
+        Predicate<ArtistSearchPortParam> filter
+    ) {
+        int firstPageOffset = offset - offset % pageSize;
+        if (!speculative) {
+            return collect(
+                offset,
+                firstPageOffset,
+                pageSize,
+                requiredCount,
+                page -> pageLoader.apply(firstPageOffset + page * pageSize),
+                filter
+            );
+        }
+
+        List<Future<ArtistSearchPortResponse>> pages = new ArrayList<>(pageCount);
+        int requiredEnd = offset + requiredCount;
+        int minimumPageCount = Math.min(
+            pageCount,
+            Math.max(1, (requiredEnd - firstPageOffset + pageSize - 1) / pageSize)
+        );
+        submitPages(pages, minimumPageCount, firstPageOffset, pageSize, pageLoader);
+
+        try {
+            return collect(
+                offset,
+                firstPageOffset,
+                pageSize,
+                requiredCount,
+                page -> {
+                    if (page == pages.size()) {
+                        submitPages(pages, pageCount, firstPageOffset, pageSize, pageLoader);
+                    }
+                    return await(pages.get(page));
+                },
+                filter
+            );
+        } finally {
+            pages.forEach(page -> page.cancel(true));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void submitPages(
+        List<Future<ArtistSearchPortResponse>> pages,
+        int untilPage,
+        int offset,
+        int pageSize,
+        IntFunction<ArtistSearchPortResponse> pageLoader
+    ) {
+        for (int page = pages.size(); page < untilPage; page++) {
+            int pageOffset = offset + page * pageSize;
+            pages.add(executor.submit(() -> pageLoader.apply(pageOffset)));
+        }
+    }
+
+    /**
+     * 페이지를 차례로 받아 offset 이전의 아티스트는 건너뛰고, 필요한 수가 모이면 그 아티스트 바로 다음을 다음 검색 위치로 정합니다.
+     * 첫 페이지 이후의 페이지 요청이 실패하면 그때까지 모은 아티스트와 실패한 페이지의 offset 을 반환합니다.
+     */
+    private ScanResult collect(
+        int offset,
+        int firstPageOffset,
+        int pageSize,
+        int requiredCount,
+        IntFunction<ArtistSearchPortResponse> pageFetcher,
+        Predicate<ArtistSearchPortParam> filter
+    ) {
+        List<ArtistSearchPortParam> artists = new ArrayList<>(requiredCount);
+        int pageOffset = firstPageOffset;
+        boolean hasNext = false;
+        for (int page = 0; page < pageCount; page++) {
+            ArtistSearchPortResponse response;
+            try {
+                response = pageFetcher.apply(page);
+            } catch (RuntimeException e) {
+                if (page == 0) {
+                    throw e;
+                }
+                log.warn("Artist search page failed at offset {}", pageOffset, e);
+                return new ScanResult(artists, pageOffset, true);
+            }
+
+            List<ArtistSearchPortParam> pageArtists = response.artists();
+            for (int index = Math.max(0, offset - pageOffset); index < pageArtists.size(); index++) {
+                ArtistSearchPortParam artist = pageArtists.get(index);
+                if (!filter.test(artist)) {
+                    continue;
+                }
+
+                artists.add(artist);
+                if (artists.size() >= requiredCount) {
+                    boolean remainsInPage = index < pageArtists.size() - 1;
+                    return new ScanResult(artists, pageOffset + index + 1, remainsInPage || response.hasNext());
+                }
+            }
+
+            pageOffset += pageArtists.size();
+            hasNext = response.hasNext();
+            if (!hasNext || pageArtists.size() < pageSize) {
+                break;
+            }
+        }
+
+        return new ScanResult(artists, Math.max(offset, pageOffset), hasNext);
+    }
+
+    private ArtistSearchPortResponse await(Future<ArtistSearchPortResponse> page) {
+        try {
+            return page.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for artist search page", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public record ScanResult(
+        List<ArtistSearchPortParam> artists,
+        int nextOffset,
+        boolean hasNext
+    ) {
+
+    }
+}
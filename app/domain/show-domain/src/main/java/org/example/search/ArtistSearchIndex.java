@@ -0,0 +1,11 @@
+package org.example.search;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 저장된 아티스트 이름(Artist.name)의 검색 색인입니다.
+ */
+@Component
+public class ArtistSearchIndex extends HangulSearchIndex {
+
+}
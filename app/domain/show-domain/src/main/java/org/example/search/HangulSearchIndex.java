@@ -0,0 +1,108 @@
+package org.example.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.example.util.HangulNormalizer;
+
+/**
+ * 이름마다 자모 분해 키와 초성 키를 만들어 각각의 n-gram 색인에 넣습니다.
+ * 초성만 입력한 검색어("ㅇㅇㅅ")는 초성 색인에서, 그 외 검색어는 자모 분해 후 자모 색인에서 찾으므로
+ * 입력 중인 글자("오아싯")도 완성된 이름과 일치합니다.
+ */
+public abstract class HangulSearchIndex {
+
+    private final Object mutationLock = new Object();
+    private volatile Indexes indexes = new Indexes(new NGramIndex(), new NGramIndex());
+    private volatile boolean ready = false;
+    private List<Consumer<Indexes>> mutationsDuringRebuild;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 새 색인을 만든 뒤 한 번에 교체합니다. 이름을 읽기 시작한 뒤 들어온 추가/삭제는 기록해 두었다가
+     * 교체 직전에 새 색인에 다시 적용하므로 재생성 도중의 변경이 유실되지 않습니다.
+     */
+    public synchronized void rebuild(Supplier<? extends Map<UUID, ? extends Collection<String>>> namesLoader) {
+        synchronized (mutationLock) {
+            mutationsDuringRebuild = new ArrayList<>();
+        }
+
+        Indexes newIndexes = new Indexes(new NGramIndex(), new NGramIndex());
+        try {
+            namesLoader.get().forEach(newIndexes::put);
+        } catch (RuntimeException e) {
+            synchronized (mutationLock) {
+                mutationsDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        synchronized (mutationLock) {
+            mutationsDuringRebuild.forEach(mutation -> mutation.accept(newIndexes));
+            mutationsDuringRebuild = null;
+            indexes = newIndexes;
+            ready = true;
+        }
+    }
+
+    public void put(UUID id, Collection<String> names) {
+        mutate(current -> current.put(id, names));
+    }
+
+    public void remove(UUID id) {
+        mutate(current -> current.remove(id));
+    }
+
+    /**
+     * @param query  검색어
+     * @param cursor 이전 페이지 마지막 ID / 최초 조회라면 null
+     * @param limit  반환할 최대 ID 수
+     * @return (일치 등급, 일치한 키의 길이, ID) 오름차순으로 정렬된 커서 다음 ID 목록
+     */
+    public List<UUID> search(String query, UUID cursor, int limit) {
+        String normalized = HangulNormalizer.normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+
+        Indexes current = indexes;
+        if (HangulNormalizer.isChoseongOnly(normalized)) {
+            return current.choseong().search(normalized, cursor, limit);
+        }
+
+        return current.jamo().search(HangulNormalizer.toJamo(normalized), cursor, limit);
+    }
+
+    private void mutate(Consumer<Indexes> mutation) {
+        synchronized (mutationLock) {
+            mutation.accept(indexes);
+            if (mutationsDuringRebuild != null) {
+                mutationsDuringRebuild.add(mutation);
+            }
+        }
+    }
+
+    private record Indexes(NGramIndex jamo, NGramIndex choseong) {
+
+        void put(UUID id, Collection<String> names) {
+            List<String> normalizedNames = names.stream()
+                .map(HangulNormalizer::normalize)
+                .toList();
+
+            jamo.put(id, normalizedNames.stream().map(HangulNormalizer::toJamo).toList());
+            choseong.put(id, normalizedNames.stream().map(HangulNormalizer::toChoseong).toList());
+        }
+
+        void remove(UUID id) {
+            jamo.remove(id);
+            choseong.remove(id);
+        }
+    }
+}
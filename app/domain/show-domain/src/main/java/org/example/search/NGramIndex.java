@@ -0,0 +1,150 @@
+package org.example.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검색 키의 1~3-gram 역색인입니다.
+ * 검색어의 n-gram 중 가장 짧은 posting 만 후보로 읽고 실제 포함 여부를 확인한 뒤
+ * (일치 등급, 일치한 키의 길이, ID) 순으로 정렬하므로 ID 커서만으로 keyset 페이지네이션이 가능합니다.
+ * 같은 등급이라면 검색어가 차지하는 비율이 큰, 더 짧은 키가 앞에 옵니다.
+ */
+final class NGramIndex {
+
+    private static final int MAX_GRAM_SIZE = 3;
+    private static final int EXACT_MATCH = 0;
+    private static final int PREFIX_MATCH = 1;
+    private static final int CONTAINS_MATCH = 2;
+    private static final MatchScore UNKNOWN_CURSOR_SCORE = new MatchScore(CONTAINS_MATCH, 0);
+
+    private final Map<String, Set<UUID>> idsByGram = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<String>> keysById = new ConcurrentHashMap<>();
+
+    void put(UUID id, Collection<String> keys) {
+        remove(id);
+
+        Set<String> indexedKeys = ConcurrentHashMap.newKeySet();
+        indexedKeys.addAll(keys);
+        keysById.put(id, indexedKeys);
+
+        for (String gram : toGrams(indexedKeys)) {
+            idsByGram.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    void remove(UUID id) {
+        Set<String> keys = keysById.remove(id);
+        if (keys == null) {
+            return;
+        }
+
+        for (String gram : toGrams(keys)) {
+            idsByGram.computeIfPresent(gram, (key, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    List<UUID> search(String query, UUID cursor, int limit) {
+        Map<UUID, MatchScore> matchScores = new HashMap<>();
+        for (UUID id : findSmallestPosting(query)) {
+            MatchScore matchScore = matchScore(id, query);
+            if (matchScore != null) {
+                matchScores.put(id, matchScore);
+            }
+        }
+
+        if (matchScores.isEmpty()) {
+            return List.of();
+        }
+
+        Comparator<UUID> rankOrder = Comparator.<UUID, MatchScore>comparing(matchScores::get)
+            .thenComparing(Comparator.naturalOrder());
+        List<UUID> ranked = new ArrayList<>(matchScores.keySet());
+        ranked.sort(rankOrder);
+
+        int from = 0;
+        if (cursor != null) {
+            MatchScore cursorScore = matchScore(cursor, query);
+            matchScores.put(cursor, cursorScore == null ? UNKNOWN_CURSOR_SCORE : cursorScore);
+            from = upperBound(ranked, cursor, rankOrder);
+        }
+
+        return List.copyOf(ranked.subList(from, Math.min(ranked.size(), from + limit)));
+    }
+
+    private Set<UUID> findSmallestPosting(String query) {
+        int gramSize = Math.min(MAX_GRAM_SIZE, query.length());
+        Set<UUID> smallest = Set.of();
+        for (int i = 0; i + gramSize <= query.length(); i++) {
+            Set<UUID> posting = idsByGram.getOrDefault(query.substring(i, i + gramSize), Set.of());
+            if (i == 0 || posting.size() < smallest.size()) {
+                smallest = posting;
+            }
+        }
+        return smallest;
+    }
+
+    /**
+     * @return 가장 잘 일치하는 키의 점수 / 일치하는 키가 없다면 null
+     */
+    private MatchScore matchScore(UUID id, String query) {
+        MatchScore best = null;
+        for (String key : keysById.getOrDefault(id, Set.of())) {
+            MatchScore score = key.equals(query) ? new MatchScore(EXACT_MATCH, key.length())
+                : key.startsWith(query) ? new MatchScore(PREFIX_MATCH, key.length())
+                : key.contains(query) ? new MatchScore(CONTAINS_MATCH, key.length())
+                : null;
+            if (score != null && (best == null || score.compareTo(best) < 0)) {
+                best = score;
+            }
+        }
+        return best;
+    }
+
+    private int upperBound(List<UUID> ranked, UUID cursor, Comparator<UUID> rankOrder) {
+        int low = 0;
+        int high = ranked.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (rankOrder.compare(ranked.get(mid), cursor) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static Set<String> toGrams(Collection<String> keys) {
+        Set<String> grams = new HashSet<>();
+        for (String key : keys) {
+            for (int gramSize = 1; gramSize <= MAX_GRAM_SIZE; gramSize++) {
+                for (int i = 0; i + gramSize <= key.length(); i++) {
+                    grams.add(key.substring(i, i + gramSize));
+                }
+            }
+        }
+        return grams;
+    }
+
+    private record MatchScore(int matchType, int keyLength) implements Comparable<MatchScore> {
+
+        private static final Comparator<MatchScore> ORDER = Comparator.comparingInt(MatchScore::matchType)
+            .thenComparingInt(MatchScore::keyLength);
+
+        @Override
+        public int compareTo(MatchScore other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
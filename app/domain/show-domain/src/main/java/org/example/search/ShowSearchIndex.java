@@ -0,0 +1,11 @@
+package org.example.search;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 공연 검색어(ShowSearch.name)의 검색 색인입니다.
+ */
+@Component
+public class ShowSearchIndex extends HangulSearchIndex {
+
+}
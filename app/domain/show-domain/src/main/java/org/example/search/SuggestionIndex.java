@@ -0,0 +1,23 @@
+package org.example.search;
+
+import java.util.List;
+import org.example.dto.search.response.SuggestionDomainResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * 현재 자동완성 트라이를 보관합니다.
+ * 트라이는 백그라운드에서 통째로 다시 만든 뒤 참조만 교체하므로 조회 중인 요청은 항상 완성된 트라이를 읽습니다.
+ */
+@Component
+public class SuggestionIndex {
+
+    private volatile SuggestionTrie trie = SuggestionTrie.empty();
+
+    public void swap(SuggestionTrie newTrie) {
+        trie = newTrie;
+    }
+
+    public List<SuggestionDomainResponse> suggest(String query, int limit) {
+        return trie.suggest(query, limit);
+    }
+}
@@ -0,0 +1,181 @@
+package org.example.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.example.dto.search.response.SuggestionDomainResponse;
+import org.example.util.HangulNormalizer;
+
+/**
+ * 자동완성용 불변 접두사 트라이입니다.
+ * 노드마다 자식 문자를 정렬된 배열로 두고 그 접두사로 시작하는 후보 중 가중치 상위 k 개를 미리 계산해 두므로
+ * 조회는 검색어 길이만큼의 이진 탐색만 수행합니다.
+ * 이름마다 자모 분해 키와 초성 키를 함께 넣어 입력 중인 글자("오아싯")와 초성("ㅇㅇㅅ")도 일치합니다.
+ */
+public final class SuggestionTrie {
+
+    private static final Comparator<SuggestionDomainResponse> WEIGHT_ORDER = Comparator
+        .comparingLong(SuggestionDomainResponse::weight).reversed()
+        .thenComparing(SuggestionDomainResponse::text);
+
+    private static final SuggestionTrie EMPTY = new SuggestionTrie(Node.EMPTY, 0);
+
+    private final Node root;
+    private final int size;
+
+    private SuggestionTrie(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    public static SuggestionTrie empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder(int topK) {
+        return new Builder(topK);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public List<SuggestionDomainResponse> suggest(String query, int limit) {
+        String normalized = HangulNormalizer.normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        String key = HangulNormalizer.isChoseongOnly(normalized)
+            ? normalized
+            : HangulNormalizer.toJamo(normalized);
+
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+
+        if (node == null) {
+            return List.of();
+        }
+
+        SuggestionDomainResponse[] topK = node.topK;
+        return List.of(Arrays.copyOf(topK, Math.min(limit, topK.length)));
+    }
+
+    private static final class Node {
+
+        private static final Node EMPTY = new Node(
+            new char[0],
+            new Node[0],
+            new SuggestionDomainResponse[0]
+        );
+
+        private final char[] labels;
+        private final Node[] children;
+        private final SuggestionDomainResponse[] topK;
+
+        private Node(char[] labels, Node[] children, SuggestionDomainResponse[] topK) {
+            this.labels = labels;
+            this.children = children;
+            this.topK = topK;
+        }
+
+        private Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index < 0 ? null : children[index];
+        }
+    }
+
+    public static final class Builder {
+
+        private final int topK;
+        private final MutableNode root = new MutableNode();
+        private int size = 0;
+
+        private Builder(int topK) {
+            this.topK = topK;
+        }
+
+        public Builder add(SuggestionDomainResponse suggestion, Collection<String> names) {
+            Set<String> keys = new LinkedHashSet<>();
+            for (String name : names) {
+                String normalized = HangulNormalizer.normalize(name);
+                if (normalized.isEmpty()) {
+                    continue;
+                }
+                keys.add(HangulNormalizer.toJamo(normalized));
+                keys.add(HangulNormalizer.toChoseong(normalized));
+            }
+
+            if (keys.isEmpty()) {
+                return this;
+            }
+
+            for (String key : keys) {
+                MutableNode node = root;
+                for (int i = 0; i < key.length(); i++) {
+                    node = node.children.computeIfAbsent(key.charAt(i), label -> new MutableNode());
+                    node.offer(suggestion, topK);
+                }
+            }
+            size++;
+            return this;
+        }
+
+        public SuggestionTrie build() {
+            return new SuggestionTrie(root.freeze(), size);
+        }
+    }
+
+    private static final class MutableNode {
+
+        private final Map<Character, MutableNode> children = new HashMap<>();
+        private final List<SuggestionDomainResponse> topK = new ArrayList<>();
+
+        /**
+         * 가중치 내림차순을 유지하며 상위 k 개만 남깁니다. 한 후보의 여러 키가 같은 노드를 지나도 한 번만 담습니다.
+         */
+        private void offer(SuggestionDomainResponse suggestion, int limit) {
+            if (topK.contains(suggestion)) {
+                return;
+            }
+
+            int index = 0;
+            while (index < topK.size() && WEIGHT_ORDER.compare(topK.get(index), suggestion) <= 0) {
+                index++;
+            }
+
+            if (index >= limit) {
+                return;
+            }
+
+            topK.add(index, suggestion);
+            if (topK.size() > limit) {
+                topK.remove(limit);
+            }
+        }
+
+        private Node freeze() {
+            char[] labels = new char[children.size()];
+            int index = 0;
+            for (char label : children.keySet()) {
+                labels[index++] = label;
+            }
+            Arrays.sort(labels);
+
+            Node[] frozenChildren = new Node[labels.length];
+            for (int i = 0; i < labels.length; i++) {
+                frozenChildren[i] = children.get(labels[i]).freeze();
+            }
+
+            return new Node(labels, frozenChildren, topK.toArray(SuggestionDomainResponse[]::new));
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package org.example.usecase;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -15,22 +20,29 @@ import org.example.dto.artist.request.ArtistGenreDomainRequest;
 import org.example.dto.artist.request.ArtistPaginationDomainRequest;
 import org.example.dto.artist.request.ArtistSearchPaginationDomainRequest;
 import org.example.dto.artist.response.ArtistDetailDomainResponse;
+import org.example.dto.artist.response.ArtistImportDomainResponse;
 import org.example.dto.artist.response.ArtistNameDomainResponse;
 import org.example.dto.artist.response.ArtistPaginationDomainResponse;
 import org.example.dto.artist.response.ArtistSearchPaginationDomainResponse;
+import org.example.dto.artist.response.ArtistSearchSimpleDomainResponse;
 import org.example.entity.artist.Artist;
 import org.example.entity.genre.Genre;
+import org.example.port.ArtistSearchCachePort;
 import org.example.port.ArtistSearchPort;
 import org.example.port.dto.param.ArtistSearchPortParam;
 import org.example.port.dto.request.ArtistSearchPortRequest;
 import org.example.port.dto.request.ArtistsDetailPortRequest;
 import org.example.port.dto.response.ArtistSearchPortResponse;
 import org.example.port.dto.response.ArtistsDetailPortResponse;
+import org.example.property.ArtistSearchProperty;
+import org.example.repository.artist.ArtistJdbcRepository;
 import org.example.repository.artist.ArtistRepository;
-import org.example.repository.artist.artistgenre.ArtistGenreRepository;
 import org.example.repository.genre.GenreRepository;
 import org.example.repository.show.showartist.ShowArtistRepository;
-import org.example.vo.ArtistFilterType;
+import org.example.search.ArtistSearchFanOut;
+import org.example.search.ArtistSearchFanOut.ScanResult;
+import org.example.search.ArtistSearchIndex;
+import org.example.vo.ArtistSearchSource;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.support.TransactionTemplate;
 
@@ -39,12 +51,20 @@ import org.springframework.transaction.support.TransactionTemplate;
 @RequiredArgsConstructor
 public class ArtistUseCase {
 
+    private static final int MAX_LOCAL_SEARCH_SIZE = 500;
+    private static final int SPOTIFY_SEARCH_PAGE_SIZE = 50;
+    private static final Pattern SPOTIFY_ID_PATTERN = Pattern.compile("[0-9A-Za-z]{22}");
+
     private final ArtistRepository artistRepository;
-    private final ArtistGenreRepository artistGenreRepository;
+    private final ArtistJdbcRepository artistJdbcRepository;
     private final ShowArtistRepository showArtistRepository;
     private final GenreRepository genreRepository;
     private final ArtistSearchPort artistSearchPort;
+    private final ArtistSearchCachePort artistSearchCachePort;
     private final TransactionTemplate transactionTemplate;
+    private final ArtistSearchIndex artistSearchIndex;
+    private final ArtistSearchFanOut artistSearchFanOut;
+    private final ArtistSearchProperty artistSearchProperty;
 
     public List<ArtistDetailDomainResponse> findAllWithGenreNames() {
         return artistRepository.findAllWithGenreNames();
@@ -54,6 +74,10 @@ public class ArtistUseCase {
         return artistRepository.findAllArtistName();
     }
 
+    public void initializeSearchIndex() {
+        artistSearchIndex.rebuild(artistRepository::findAllArtistSearchKeys);
+    }
+
     public List<ArtistNamesWithShowIdDomainParam> findArtistNamesWithShowId() {
         return showArtistRepository.findArtistNamesWithShowId();
     }
@@ -73,11 +97,14 @@ public class ArtistUseCase {
             return existArtists;
         }
 
-        ArtistsDetailPortResponse response = artistSearchPort.findArtistsBySpotifyArtistId(
-            ArtistsDetailPortRequest.builder()
-                .accessToken(artistSearchPort.getAccessToken())
-                .spotifyArtistIds(notExistSpotifyIds)
-                .build()
+        ArtistsDetailPortResponse response = artistSearchCachePort.getOrLoadArtists(
+            notExistSpotifyIds,
+            () -> artistSearchPort.findArtistsBySpotifyArtistId(
+                ArtistsDetailPortRequest.builder()
+                    .accessToken(artistSearchPort.getAccessToken())
+                    .spotifyArtistIds(notExistSpotifyIds)
+                    .build()
+            )
         );
 
         List<Artist> newArtists = response.artists().stream()
@@ -86,35 +113,65 @@ public class ArtistUseCase {
 
         saveArtists(response.artists(), newArtists);
 
-        return Stream.concat(existArtists.stream(), newArtists.stream()).toList();
+        List<Artist> savedArtists = artistRepository.findArtistsBySpotifyIdIn(
+            newArtists.stream().map(Artist::getSpotifyId).toList()
+        );
+        return Stream.concat(existArtists.stream(), savedArtists.stream()).toList();
     }
 
-    public void saveArtists(List<ArtistSearchPortParam> params, List<Artist> newArtists) {
+    /**
+     * 아티스트와 아티스트 장르를 한 트랜잭션 안에서 배치로 저장합니다.
+     * 다른 요청이 먼저 저장한 아티스트는 건너뛰며, 건너뛴 아티스트의 장르도 저장하지 않습니다.
+     */
+    public ArtistImportDomainResponse saveArtists(List<ArtistSearchPortParam> params, List<Artist> newArtists) {
         List<ArtistGenreDomainRequest> artistGenres = IntStream.range(0, params.size())
             .mapToObj(i -> params.get(i).toDomainRequest(newArtists.get(i).getId()))
             .toList();
 
-        List<Genre> existGenres = genreRepository.findAllByNameIn(
+        Map<String, Genre> genreByName = genreRepository.findAllByNameIn(
             artistGenres.stream()
                 .map(ArtistGenreDomainRequest::genreName)
+                .distinct()
                 .toList()
-        );
+        ).stream().collect(Collectors.toMap(Genre::getName, Function.identity(), (first, second) -> first));
 
+        List<Artist> artists = new ArrayList<>(artistGenres.size());
+        Map<UUID, UUID> genreIdByArtistId = new HashMap<>();
         for (ArtistGenreDomainRequest artistGenre : artistGenres) {
-            Genre genre = existGenres.stream()
-                .filter(exsistGenre -> exsistGenre.getName().equals(artistGenre.genreName()))
-                .findFirst()
-                .orElseThrow(NoSuchElementException::new);
+            Genre genre = genreByName.get(artistGenre.genreName());
+            if (genre == null) {
+                throw new NoSuchElementException(artistGenre.genreName());
+            }
 
             Artist newArtist = artistGenre.toArtist();
-
-            transactionTemplate.executeWithoutResult(
-                status -> {
-                    artistRepository.save(newArtist);
-                    artistGenreRepository.save(newArtist.toArtistGenre(genre.getId()));
-                }
-            );
+            artists.add(newArtist);
+            genreIdByArtistId.put(newArtist.getId(), genre.getId());
         }
+
+        Set<UUID> insertedArtistIds = transactionTemplate.execute(
+            status -> {
+                Set<UUID> insertedIds = artistJdbcRepository.insertAllIgnoringConflict(artists);
+                artistJdbcRepository.insertAllArtistGenres(
+                    artists.stream()
+                        .filter(artist -> insertedIds.contains(artist.getId()))
+                        .map(artist -> artist.toArtistGenre(genreIdByArtistId.get(artist.getId())))
+                        .toList()
+                );
+                return insertedIds;
+            }
+        );
+
+        artists.stream()
+            .filter(artist -> insertedArtistIds.contains(artist.getId()))
+            .filter(Artist::isSearchable)
+            .forEach(artist -> artistSearchIndex.put(artist.getId(), List.of(artist.getName())));
+
+        ArtistImportDomainResponse result = new ArtistImportDomainResponse(
+            insertedArtistIds.size(),
+            artists.size() - insertedArtistIds.size()
+        );
+        log.info("Artist import inserted: {}, skipped: {}", result.insertedCount(), result.skippedCount());
+        return result;
     }
 
     public ArtistPaginationDomainResponse findAllArtistInCursorPagination(
@@ -123,63 +180,166 @@ public class ArtistUseCase {
         return artistRepository.findAllWithCursorPagination(request);
     }
 
+    /**
+     * 이미 저장된 아티스트 중 검색어와 일치하는 아티스트가 한 페이지 이상이면 외부 API 없이 로컬 색인으로 응답합니다.
+     * 로컬 결과는 스포티파이 검색과 같은 조건으로 걸러 저장된 아티스트만 일치 점수 순으로 보여주며,
+     * 마지막 로컬 페이지의 남은 자리는 이미 보여준 아티스트를 제외한 스포티파이 결과로 채웁니다.
+     */
     public ArtistSearchPaginationDomainResponse searchArtist(
         ArtistSearchPaginationDomainRequest request
     ) {
-        int requiredLimit = request.limit();
-        int offset = request.offset();
-        boolean hasNext = false;
-        String accessToken = artistSearchPort.getAccessToken();
-        List<ArtistSearchPortParam> filteredArtists = new ArrayList<>();
-
-        for (int attempt = 0; attempt < 5 && filteredArtists.size() < requiredLimit; attempt++) {
-            ArtistSearchPortResponse response = artistSearchPort.searchArtist(
-                ArtistSearchPortRequest.builder()
-                    .accessToken(accessToken)
-                    .search(request.search())
-                    .limit(requiredLimit - filteredArtists.size())
-                    .offset(offset)
-                    .build()
-            );
+        boolean legacySpotifyCursor = request.source() == null && request.offset() > 0;
+        if (legacySpotifyCursor || !artistSearchProperty.localFirst() || !artistSearchIndex.isReady()) {
+            return searchSpotifyArtist(request, Set.of());
+        }
 
-            filteredArtists.addAll(filterKoreanArtistSearch(response));
-            offset += response.artists().size();
-            hasNext = response.hasNext();
+        List<UUID> localArtistIds = findLocalArtistIds(request.search());
+        boolean servedLocally = localArtistIds.size() >= request.limit();
+        if (request.source() == ArtistSearchSource.LOCAL || (request.source() == null && servedLocally)) {
+            return searchLocalArtist(request, localArtistIds);
+        }
 
-            if (filteredArtists.size() >= requiredLimit) {
-                break;
-            }
+        return searchSpotifyArtist(request, servedLocally ? findSpotifyIds(localArtistIds) : Set.of());
+    }
+
+    /**
+     * 색인은 검색 가능한 아티스트의 이름만 가지므로, 스포티파이 ID 는 색인이 아닌 DB 에서 정확히 일치하는 아티스트만 찾습니다.
+     */
+    private List<UUID> findLocalArtistIds(String search) {
+        List<UUID> nameMatchedIds = artistSearchIndex.search(search, null, MAX_LOCAL_SEARCH_SIZE);
+        if (!SPOTIFY_ID_PATTERN.matcher(search).matches()) {
+            return nameMatchedIds;
         }
 
-        Map<String, Artist> artistBySpotifyId = getArtistBySpotifyId(filteredArtists);
+        List<UUID> spotifyIdMatchedIds = artistRepository.findArtistsBySpotifyIdIn(List.of(search)).stream()
+            .filter(Artist::isSearchable)
+            .map(Artist::getId)
+            .toList();
+        return Stream.concat(spotifyIdMatchedIds.stream(), nameMatchedIds.stream())
+            .distinct()
+            .limit(MAX_LOCAL_SEARCH_SIZE)
+            .toList();
+    }
 
-        return ArtistSearchPaginationDomainResponse.builder()
-            .data(
-                filteredArtists.stream()
-                    .limit(requiredLimit)
-                    .map(it -> it.toDomainResponse(
-                            artistBySpotifyId.getOrDefault(
-                                it.id(),
-                                null
-                            )
-                        )
-                    ).toList()
+    private ArtistSearchPaginationDomainResponse searchLocalArtist(
+        ArtistSearchPaginationDomainRequest request,
+        List<UUID> localArtistIds
+    ) {
+        int from = Math.min(request.offset(), localArtistIds.size());
+        int to = Math.min(from + request.limit(), localArtistIds.size());
+        List<UUID> pageArtistIds = localArtistIds.subList(from, to);
+
+        Map<UUID, Artist> artistById = artistRepository.findAllInIds(pageArtistIds).stream()
+            .collect(Collectors.toMap(Artist::getId, Function.identity()));
+        List<ArtistSearchSimpleDomainResponse> localArtists = pageArtistIds.stream()
+            .map(artistById::get)
+            .filter(Objects::nonNull)
+            .map(artist -> ArtistSearchSimpleDomainResponse.builder()
+                .id(artist.getId())
+                .name(artist.getName())
+                .image(artist.getImage())
+                .spotifyId(artist.getSpotifyId())
+                .build()
             )
+            .toList();
+
+        if (to < localArtistIds.size()) {
+            return ArtistSearchPaginationDomainResponse.builder()
+                .data(localArtists)
+                .limit(request.limit())
+                .offset(to)
+                .hasNext(true)
+                .source(ArtistSearchSource.LOCAL)
+                .build();
+        }
+
+        int remainingLimit = request.limit() - localArtists.size();
+        if (remainingLimit == 0) {
+            return ArtistSearchPaginationDomainResponse.builder()
+                .data(localArtists)
+                .limit(request.limit())
+                .offset(0)
+                .hasNext(true)
+                .source(ArtistSearchSource.SPOTIFY)
+                .build();
+        }
+
+        ScanResult scanResult = scanSpotifyArtist(request.search(), 0, remainingLimit,
+            findSpotifyIds(localArtistIds));
+        return ArtistSearchPaginationDomainResponse.builder()
+            .data(Stream.concat(localArtists.stream(), toSearchResponses(scanResult.artists()).stream()).toList())
             .limit(request.limit())
-            .offset(offset)
-            .hasNext(hasNext)
+            .offset(scanResult.nextOffset())
+            .hasNext(scanResult.hasNext())
+            .source(ArtistSearchSource.SPOTIFY)
             .build();
     }
 
-    private List<ArtistSearchPortParam> filterKoreanArtistSearch(
-        ArtistSearchPortResponse response
+    private Set<String> findSpotifyIds(List<UUID> artistIds) {
+        return artistRepository.findAllInIds(artistIds).stream()
+            .map(Artist::getSpotifyId)
+            .collect(Collectors.toSet());
+    }
+
+    private ArtistSearchPaginationDomainResponse searchSpotifyArtist(
+        ArtistSearchPaginationDomainRequest request,
+        Set<String> excludedSpotifyIds
     ) {
-        return response.artists().stream()
-            .filter(artist -> !artist.genres().isEmpty() && artist.genres().stream()
-                .noneMatch(ArtistFilterType::isKoreanArtist))
+        ScanResult scanResult = scanSpotifyArtist(
+            request.search(),
+            request.offset(),
+            request.limit(),
+            excludedSpotifyIds
+        );
+
+        return ArtistSearchPaginationDomainResponse.builder()
+            .data(toSearchResponses(scanResult.artists()))
+            .limit(request.limit())
+            .offset(scanResult.nextOffset())
+            .hasNext(scanResult.hasNext())
+            .source(ArtistSearchSource.SPOTIFY)
+            .build();
+    }
+
+    private ScanResult scanSpotifyArtist(
+        String search,
+        int offset,
+        int requiredLimit,
+        Set<String> excludedSpotifyIds
+    ) {
+        return artistSearchFanOut.scan(
+            offset,
+            SPOTIFY_SEARCH_PAGE_SIZE,
+            requiredLimit,
+            pageOffset -> searchArtistPage(search, SPOTIFY_SEARCH_PAGE_SIZE, pageOffset),
+            artist -> artist.isSearchable() && !excludedSpotifyIds.contains(artist.id())
+        );
+    }
+
+    private List<ArtistSearchSimpleDomainResponse> toSearchResponses(List<ArtistSearchPortParam> artists) {
+        Map<String, Artist> artistBySpotifyId = getArtistBySpotifyId(artists);
+
+        return artists.stream()
+            .map(it -> it.toDomainResponse(artistBySpotifyId.getOrDefault(it.id(), null)))
             .toList();
     }
 
+    private ArtistSearchPortResponse searchArtistPage(String search, int limit, int offset) {
+        return artistSearchCachePort.getOrLoadSearch(
+            search,
+            limit,
+            offset,
+            () -> artistSearchPort.searchArtist(
+                ArtistSearchPortRequest.builder()
+                    .accessToken(artistSearchPort.getAccessToken())
+                    .search(search)
+                    .limit(limit)
+                    .offset(offset)
+                    .build()
+            )
+        );
+    }
+
     //Key : spotifyId
     private Map<String, Artist> getArtistBySpotifyId(List<ArtistSearchPortParam> filteredArtists) {
         List<String> spotifyIds = filteredArtists.stream().map(ArtistSearchPortParam::id).toList();
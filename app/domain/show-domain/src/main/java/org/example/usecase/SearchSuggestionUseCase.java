@@ -0,0 +1,79 @@
+package org.example.usecase;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.example.dto.artist.param.ArtistNamesWithShowIdDomainParam;
+import org.example.dto.artist.response.ArtistNameDomainResponse;
+import org.example.dto.search.response.SuggestionDomainResponse;
+import org.example.dto.show.param.ShowSuggestionSourceDomainParam;
+import org.example.repository.artist.ArtistRepository;
+import org.example.repository.show.showartist.ShowArtistRepository;
+import org.example.repository.show.showsearch.ShowSearchRepository;
+import org.example.search.SuggestionIndex;
+import org.example.search.SuggestionTrie;
+import org.example.vo.SuggestionType;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class SearchSuggestionUseCase {
+
+    public static final int MAX_SUGGESTION_SIZE = 10;
+
+    private final ShowSearchRepository showSearchRepository;
+    private final ShowArtistRepository showArtistRepository;
+    private final ArtistRepository artistRepository;
+    private final SuggestionIndex suggestionIndex;
+
+    public List<SuggestionDomainResponse> suggest(String query, int size) {
+        return suggestionIndex.suggest(query, Math.min(size, MAX_SUGGESTION_SIZE));
+    }
+
+    /**
+     * 공연은 조회수를, 아티스트는 참여한 공연들의 조회수 합을 가중치로 트라이를 새로 만든 뒤 교체합니다.
+     */
+    public int rebuildSuggestionIndex() {
+        SuggestionTrie.Builder builder = SuggestionTrie.builder(MAX_SUGGESTION_SIZE);
+
+        Map<UUID, Long> viewCountsByShowId = new HashMap<>();
+        for (ShowSuggestionSourceDomainParam source : showSearchRepository.findAllShowSuggestionSources()) {
+            viewCountsByShowId.put(source.showId(), (long) source.viewCount());
+            builder.add(
+                new SuggestionDomainResponse(
+                    source.showId(),
+                    source.title(),
+                    SuggestionType.SHOW,
+                    source.viewCount()
+                ),
+                source.searchNames()
+            );
+        }
+
+        Map<UUID, Long> weightsByArtistId = new HashMap<>();
+        for (ArtistNamesWithShowIdDomainParam param : showArtistRepository.findArtistNamesWithShowId()) {
+            long viewCount = viewCountsByShowId.getOrDefault(param.showId(), 0L);
+            for (ArtistNameDomainResponse artist : param.artistNameDomainResponses()) {
+                weightsByArtistId.merge(artist.id(), viewCount, Long::sum);
+            }
+        }
+
+        for (ArtistNameDomainResponse artist : artistRepository.findAllArtistName()) {
+            builder.add(
+                new SuggestionDomainResponse(
+                    artist.id(),
+                    artist.name(),
+                    SuggestionType.ARTIST,
+                    weightsByArtistId.getOrDefault(artist.id(), 0L)
+                ),
+                List.of(artist.name())
+            );
+        }
+
+        SuggestionTrie trie = builder.build();
+        suggestionIndex.swap(trie);
+        return trie.size();
+    }
+}
@@ -1,36 +1,56 @@
 package org.example.usecase;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.example.dto.show.param.ShowWithTicketingTimesDomainParam;
+import org.example.dto.show.request.ShowAdminPaginationDomainRequest;
 import org.example.dto.show.request.ShowCreationDomainRequest;
 import org.example.dto.show.request.ShowUpdateDomainRequest;
 import org.example.dto.show.response.ShowInfoDomainResponse;
+import org.example.dto.show.response.ShowInfoPaginationDomainResponse;
 import org.example.entity.BaseEntity;
 import org.example.entity.show.Show;
 import org.example.entity.show.ShowArtist;
 import org.example.entity.show.ShowGenre;
 import org.example.entity.show.ShowSearch;
+import org.example.entity.show.ShowTicketingTime;
 import org.example.entity.show.info.ShowTicketingTimes;
+import org.example.port.ShowDetailCachePort;
+import org.example.port.ShowPopularityPort;
+import org.example.port.ShowSearchIndexBroadcastPort;
+import org.example.repository.show.ShowJdbcRepository;
 import org.example.repository.show.ShowRepository;
 import org.example.repository.show.showartist.ShowArtistRepository;
 import org.example.repository.show.showgenre.ShowGenreRepository;
 import org.example.repository.show.showsearch.ShowSearchRepository;
 import org.example.repository.show.showticketing.ShowTicketingTimeRepository;
+import org.example.search.ShowSearchIndex;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Component
 @RequiredArgsConstructor
 public class ShowAdminUseCase {
 
+    private static final int EXPORT_FETCH_SIZE = 500;
+
     private final ShowRepository showRepository;
+    private final ShowJdbcRepository showJdbcRepository;
     private final ShowSearchRepository showSearchRepository;
     private final ShowArtistRepository showArtistRepository;
     private final ShowGenreRepository showGenreRepository;
     private final ShowTicketingTimeRepository showTicketingTimeRepository;
+    private final ShowDetailCachePort showDetailCachePort;
+    private final ShowPopularityPort showPopularityPort;
+    private final ShowSearchIndex showSearchIndex;
+    private final ShowSearchIndexBroadcastPort showSearchIndexBroadcastPort;
 
     @Transactional
     public Show save(
@@ -38,7 +58,7 @@ public class ShowAdminUseCase {
     ) {
         Show show = request.toShow();
         showRepository.save(show);
-        showSearchRepository.save(show.toShowSearch());
+        ShowSearch showSearch = showSearchRepository.save(show.toShowSearch());
 
         var showArtists = show.toShowArtist(request.artistIds());
         showArtistRepository.saveAll(showArtists);
@@ -48,12 +68,63 @@ public class ShowAdminUseCase {
 
         var showTicketingTimes = show.toShowTicketingTime(request.showTicketingTimes());
         showTicketingTimeRepository.saveAll(showTicketingTimes);
+        runAfterCommit(() -> {
+            showPopularityPort.registerIfAbsent(Map.of(show.getId(), 0L));
+            putSearchIndex(show.getId(), List.of(showSearch.getName()));
+        });
 
         return show;
     }
 
-    public List<ShowWithTicketingTimesDomainParam> findShowDetailWithTicketingTimes() {
-        return showRepository.findShowDetailWithTicketingTimes();
+    /**
+     * 여러 공연을 한 트랜잭션에서 저장합니다.
+     * 연관 데이터를 테이블별로 모아 한 번씩 saveAll 하므로 공연 수와 관계없이 테이블마다 배치 INSERT 로 저장됩니다.
+     */
+    @Transactional
+    public List<Show> saveAll(List<ShowCreationDomainRequest> requests) {
+        List<Show> shows = new ArrayList<>(requests.size());
+        List<ShowSearch> showSearches = new ArrayList<>(requests.size());
+        List<ShowArtist> showArtists = new ArrayList<>();
+        List<ShowGenre> showGenres = new ArrayList<>();
+        List<ShowTicketingTime> showTicketingTimes = new ArrayList<>();
+
+        for (ShowCreationDomainRequest request : requests) {
+            Show show = request.toShow();
+            shows.add(show);
+            showSearches.add(show.toShowSearch());
+            showArtists.addAll(show.toShowArtist(request.artistIds()));
+            showGenres.addAll(show.toShowGenre(request.genreIds()));
+            showTicketingTimes.addAll(show.toShowTicketingTime(request.showTicketingTimes()));
+        }
+
+        showRepository.saveAll(shows);
+        showSearchRepository.saveAll(showSearches);
+        showArtistRepository.saveAll(showArtists);
+        showGenreRepository.saveAll(showGenres);
+        showTicketingTimeRepository.saveAll(showTicketingTimes);
+        runAfterCommit(() -> {
+            showPopularityPort.registerIfAbsent(
+                shows.stream().collect(Collectors.toMap(Show::getId, show -> 0L))
+            );
+            for (int i = 0; i < shows.size(); i++) {
+                putSearchIndex(shows.get(i).getId(), List.of(showSearches.get(i).getName()));
+            }
+        });
+
+        return shows;
+    }
+
+    public ShowInfoPaginationDomainResponse findShowInfos(ShowAdminPaginationDomainRequest request) {
+        return showRepository.findShowInfos(request);
+    }
+
+    @Transactional(readOnly = true)
+    public void exportShowInfos(Consumer<ShowInfoDomainResponse> consumer) {
+        showRepository.forEachShowInfo(EXPORT_FETCH_SIZE, consumer);
+    }
+
+    public boolean updateThumbnailImage(UUID id, String image, String thumbnailImage) {
+        return showJdbcRepository.updateThumbnailImage(id, image, thumbnailImage);
     }
 
     public ShowInfoDomainResponse findShowInfo(UUID id) {
@@ -61,7 +132,7 @@ public class ShowAdminUseCase {
     }
 
     @Transactional
-    public void updateShow(UUID id, ShowUpdateDomainRequest request) {
+    public Show updateShow(UUID id, ShowUpdateDomainRequest request) {
         Show show = findShowOrThrowNoSuchElementException(id);
         Show updateShow = request.toShow();
 
@@ -70,6 +141,12 @@ public class ShowAdminUseCase {
         updateShowArtist(request.artistIds(), show);
         updateShowGenre(request.genreIds(), show);
         updateShowTicketingTimes(request.showTicketingTimes(), show);
+        runAfterCommit(() -> {
+            showDetailCachePort.evict(id);
+            showPopularityPort.registerIfAbsent(Map.of(id, (long) show.getViewCount()));
+        });
+
+        return show;
     }
 
     public void updateShowSearch(Show show) {
@@ -84,6 +161,7 @@ public class ShowAdminUseCase {
                 .filter(showSearch -> !newShowSearch.getName().equals(showSearch.getName()))
                 .toList();
             showSearchesToRemove.forEach(BaseEntity::softDelete);
+            runAfterCommit(() -> putSearchIndex(show.getId(), List.of(newShowSearch.getName())));
         }
     }
 
@@ -176,6 +254,12 @@ public class ShowAdminUseCase {
             show.getId()
         );
         showTicketingTimes.forEach(BaseEntity::softDelete);
+        runAfterCommit(() -> {
+            showDetailCachePort.evict(id);
+            showPopularityPort.remove(id);
+            showSearchIndex.remove(id);
+            showSearchIndexBroadcastPort.broadcastRemove(id);
+        });
     }
 
 
@@ -191,6 +275,29 @@ public class ShowAdminUseCase {
         return showSearchRepository.findAllByShowIdAndIsDeletedFalse(showId);
     }
 
+    /**
+     * 커밋 이전에 캐시를 비우면 동시에 들어온 조회 요청이 변경 전 데이터를 다시 적재할 수 있으므로
+     * 캐시와 인기순 인덱스, 검색 색인 변경은 트랜잭션 커밋 이후에 수행합니다.
+     */
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void putSearchIndex(UUID showId, List<String> names) {
+        showSearchIndex.put(showId, names);
+        showSearchIndexBroadcastPort.broadcastPut(showId, names);
+    }
+
     private Show findShowOrThrowNoSuchElementException(UUID id) {
         return showRepository.findById(id).orElseThrow(NoSuchElementException::new);
     }
@@ -1,25 +1,41 @@
 package org.example.usecase;
 
 import jakarta.transaction.Transactional;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.dto.show.param.ShowPopularityDomainParam;
 import org.example.dto.show.request.ShowAlertPaginationDomainRequest;
 import org.example.dto.show.request.ShowPaginationDomainRequest;
 import org.example.dto.show.request.ShowSearchPaginationDomainRequest;
 import org.example.dto.show.response.ShowAlertPaginationDomainResponse;
 import org.example.dto.show.response.ShowDetailDomainResponse;
+import org.example.dto.show.response.ShowSearchDomainResponse;
 import org.example.dto.show.response.ShowSearchPaginationDomainResponse;
+import org.example.dto.show.response.ShowTicketingDomainResponse;
 import org.example.dto.show.response.ShowTicketingPaginationDomainResponse;
 import org.example.entity.show.Show;
 import org.example.entity.show.ShowTicketingTime;
+import org.example.port.ShowDetailCachePort;
+import org.example.port.ShowPopularityPort;
+import org.example.repository.show.ShowJdbcRepository;
 import org.example.repository.show.ShowRepository;
 import org.example.repository.show.showsearch.ShowSearchRepository;
 import org.example.repository.show.showticketing.ShowTicketingTimeRepository;
+import org.example.search.ShowSearchIndex;
+import org.example.util.SliceUtil;
+import org.example.vo.ShowSortType;
 import org.example.vo.TicketingType;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -27,36 +43,220 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ShowUseCase {
 
+    private static final int MAX_POPULARITY_INDEX_BATCHES = 5;
+    private static final int POPULARITY_REBUILD_BATCH_SIZE = 1000;
+
     private final ShowRepository showRepository;
     private final ShowSearchRepository showSearchRepository;
     private final ShowTicketingTimeRepository showTicketingTimeRepository;
+    private final ShowDetailCachePort showDetailCachePort;
+    private final ShowJdbcRepository showJdbcRepository;
+    private final ShowPopularityPort showPopularityPort;
+    private final ShowSearchIndex showSearchIndex;
 
     public ShowDetailDomainResponse findShowDetail(UUID id) {
-        return showRepository.findShowDetailById(id).orElseThrow(NoSuchElementException::new);
+        return showDetailCachePort.getOrLoad(
+            id,
+            () -> showRepository.findShowDetailById(id).orElseThrow(NoSuchElementException::new)
+        );
     }
 
     public ShowTicketingPaginationDomainResponse findShows(ShowPaginationDomainRequest request) {
+        if (request.sort() == ShowSortType.POPULAR) {
+            return findPopularShows(request);
+        }
+
         return showRepository.findShows(request);
     }
 
+    /**
+     * 인기순 정렬은 Redis 인기순 인덱스의 스냅샷에서 (점수, 공연 ID) 커서 다음 공연 ID 들을 가져온 뒤
+     * 한 번의 IN 쿼리로 공연 정보를 채웁니다. 첫 페이지에서 고른 스냅샷 버전을 커서에 담아 다음 페이지도 같은 스냅샷에서 읽고,
+     * 스냅샷이 만료되었다면 같은 커서로 최신 스냅샷에서 이어서 읽습니다.
+     * 필터 조건으로 제외된 공연만큼 스냅샷을 최대 MAX_POPULARITY_INDEX_BATCHES 번 읽고, 그래도 페이지를 채우지 못하면
+     * 채우지 못한 페이지를 마지막으로 읽은 공연을 커서로 하여 반환합니다.
+     * 스냅샷이 없어 DB 조회수 정렬로 시작한 조회는 마지막 페이지까지 DB 조회수 정렬로 이어서 조회합니다.
+     */
+    private ShowTicketingPaginationDomainResponse findPopularShows(ShowPaginationDomainRequest request) {
+        boolean isFirstPage = request.cursorId() == null;
+        if (!isFirstPage && request.popularitySnapshot() == null) {
+            return showRepository.findShows(request);
+        }
+
+        Long snapshot = isFirstPage ? showPopularityPort.findLatestSnapshot() : request.popularitySnapshot();
+        if (snapshot == null) {
+            return showRepository.findShows(request);
+        }
+
+        int fetchSize = request.size() + 1;
+        List<ShowPopularityDomainParam> rankedShows = showPopularityPort.findRankedShows(
+            snapshot,
+            request.cursorValue(),
+            request.cursorId(),
+            fetchSize
+        );
+        if (rankedShows == null) {
+            snapshot = showPopularityPort.findLatestSnapshot();
+            rankedShows = snapshot == null ? null : showPopularityPort.findRankedShows(
+                snapshot,
+                request.cursorValue(),
+                request.cursorId(),
+                fetchSize
+            );
+        }
+        if (rankedShows == null) {
+            return showRepository.findShows(request);
+        }
+
+        List<ShowTicketingDomainResponse> shows = new ArrayList<>(fetchSize);
+        List<ShowPopularityDomainParam> rankedCursors = new ArrayList<>(fetchSize);
+        ShowPopularityDomainParam lastRankedShow = null;
+        int batchCount = 0;
+        while (!rankedShows.isEmpty()) {
+            batchCount++;
+            var showsById = showRepository.findShowTicketingsByIds(
+                    rankedShows.stream().map(ShowPopularityDomainParam::showId).toList(),
+                    request
+                ).stream()
+                .collect(Collectors.toMap(ShowTicketingDomainResponse::id, Function.identity()));
+
+            for (ShowPopularityDomainParam rankedShow : rankedShows) {
+                var show = showsById.get(rankedShow.showId());
+                if (show != null) {
+                    shows.add(show);
+                    rankedCursors.add(rankedShow);
+                }
+                lastRankedShow = rankedShow;
+                if (shows.size() == fetchSize) {
+                    break;
+                }
+            }
+
+            if (shows.size() == fetchSize || rankedShows.size() < fetchSize) {
+                break;
+            }
+
+            if (batchCount == MAX_POPULARITY_INDEX_BATCHES) {
+                return toPartialPopularShows(shows, lastRankedShow, snapshot);
+            }
+
+            rankedShows = showPopularityPort.findRankedShows(
+                snapshot,
+                lastRankedShow.score(),
+                lastRankedShow.showId(),
+                fetchSize
+            );
+            if (rankedShows == null) {
+                return toPartialPopularShows(shows, lastRankedShow, snapshot);
+            }
+        }
+
+        Slice<ShowTicketingDomainResponse> slice = SliceUtil.makeSlice(request.size(), shows);
+        List<ShowTicketingDomainResponse> data = slice.getContent();
+        ShowPopularityDomainParam lastCursor = data.isEmpty() ? null : rankedCursors.get(data.size() - 1);
+
+        return ShowTicketingPaginationDomainResponse.builder()
+            .data(data)
+            .hasNext(slice.hasNext())
+            .cursorId(lastCursor == null ? null : lastCursor.showId())
+            .cursorValue(lastCursor == null ? null : lastCursor.score())
+            .popularitySnapshot(snapshot)
+            .build();
+    }
+
+    /*
+     * 채우지 못한 페이지는 마지막으로 읽은 공연을 커서로 하여 다음 페이지에서 이어서 읽습니다.
+     */
+    private ShowTicketingPaginationDomainResponse toPartialPopularShows(
+        List<ShowTicketingDomainResponse> shows,
+        ShowPopularityDomainParam lastRankedShow,
+        long snapshot
+    ) {
+        return ShowTicketingPaginationDomainResponse.builder()
+            .data(shows)
+            .hasNext(true)
+            .cursorId(lastRankedShow.showId())
+            .cursorValue(lastRankedShow.score())
+            .popularitySnapshot(snapshot)
+            .build();
+    }
+
     public List<Show> findShowsInIds(List<UUID> showIds) {
         return showRepository.findShowsByIdInAndIsDeletedFalse(showIds);
     }
 
     @Transactional
-    public void view(UUID id) {
-        findShowWithLockOrThrowNoSuchElementException(id).view();
+    public void increaseViewCounts(Map<UUID, Long> viewCountDeltas) {
+        showJdbcRepository.increaseViewCounts(viewCountDeltas);
     }
 
-    private Show findShowWithLockOrThrowNoSuchElementException(UUID id) {
-        return showRepository.findByIdAndIsDeletedWithLock(id)
-            .orElseThrow(NoSuchElementException::new);
+    /**
+     * 종료되지 않은 공연의 DB 조회수로 인기순 인덱스를 다시 적재한 뒤 원자적으로 교체합니다.
+     * 반영하지 못한 조회수 증가분과 종료되었거나 삭제된 공연이 교체 시점에 함께 정리되며,
+     * 적재와 교체 사이에 반영된 조회수 증가분은 다음 재적재에서 다시 맞춰집니다.
+     */
+    public void rebuildPopularity() {
+        UUID rebuildId = UUID.randomUUID();
+        LocalDate today = LocalDate.now();
+        UUID cursorId = null;
+        List<ShowPopularityDomainParam> viewCounts;
+        do {
+            viewCounts = showRepository.findActiveViewCounts(cursorId, today, POPULARITY_REBUILD_BATCH_SIZE);
+            showPopularityPort.stageScores(
+                rebuildId,
+                viewCounts.stream().collect(Collectors.toMap(
+                    ShowPopularityDomainParam::showId,
+                    ShowPopularityDomainParam::score
+                ))
+            );
+            cursorId = viewCounts.isEmpty() ? cursorId : viewCounts.get(viewCounts.size() - 1).showId();
+        } while (viewCounts.size() == POPULARITY_REBUILD_BATCH_SIZE);
+
+        showPopularityPort.replaceWithStaged(rebuildId);
+    }
+
+    public void createPopularitySnapshot() {
+        showPopularityPort.createSnapshot();
+    }
+
+    public void initializeSearchIndex() {
+        showSearchIndex.rebuild(showSearchRepository::findAllShowSearchNames);
     }
 
+    /**
+     * 검색 색인에서 정렬된 공연 ID 를 가져온 뒤 한 번의 IN 쿼리로 공연 정보를 채웁니다.
+     * 다음 페이지 여부와 커서는 색인에서 읽은 ID 로 정하므로 색인에만 남아 있는 공연이 빠져도 페이지가 이어집니다.
+     * 애플리케이션 기동 직후 색인이 아직 만들어지지 않았다면 DB 검색으로 조회합니다.
+     */
     public ShowSearchPaginationDomainResponse searchShow(
         ShowSearchPaginationDomainRequest request
     ) {
-        return showSearchRepository.searchShow(request);
+        if (!showSearchIndex.isReady()) {
+            return showSearchRepository.searchShow(request);
+        }
+
+        List<UUID> showIds = showSearchIndex.search(request.search(), request.cursor(), request.size() + 1);
+        Slice<UUID> slice = SliceUtil.makeSlice(request.size(), showIds);
+        List<UUID> pageShowIds = slice.getContent();
+        if (pageShowIds.isEmpty()) {
+            return ShowSearchPaginationDomainResponse.builder()
+                .data(List.of())
+                .hasNext(false)
+                .build();
+        }
+
+        var showsById = showSearchRepository.findShowSearchesByShowIds(pageShowIds).stream()
+            .collect(Collectors.toMap(ShowSearchDomainResponse::id, Function.identity()));
+        List<ShowSearchDomainResponse> shows = pageShowIds.stream()
+            .map(showsById::get)
+            .filter(Objects::nonNull)
+            .toList();
+
+        return ShowSearchPaginationDomainResponse.builder()
+            .data(shows)
+            .hasNext(slice.hasNext())
+            .cursor(pageShowIds.get(pageShowIds.size() - 1))
+            .build();
     }
 
     public ShowAlertPaginationDomainResponse findAlertShows(
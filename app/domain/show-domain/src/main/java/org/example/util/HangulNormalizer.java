@@ -0,0 +1,134 @@
+package org.example.util;
+
+/**
+ * 검색어와 검색 대상 이름을 자모 분해 키와 초성 키로 변환합니다.
+ * 검색어 입력마다 호출되므로 정규식 없이 미리 만들어 둔 자모 표로 한 번만 순회합니다.
+ */
+public final class HangulNormalizer {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final char COMPATIBILITY_JAMO_BEGIN = 'ㄱ';
+    private static final char COMPATIBILITY_JAMO_END = 'ㅣ';
+    private static final char CONSONANT_END = 'ㅎ';
+    private static final char VOWEL_BEGIN = 'ㅏ';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final char[] CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+    private static final String[] JUNGSEONG = {
+        "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+        "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONGSEONG = {
+        "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+        "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    private static final String COMPOUND_CONSONANTS = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄ";
+    private static final String[] COMPOUND_CONSONANT_JAMO = {
+        "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ"
+    };
+    private static final String[] COMPATIBILITY_JAMO = createCompatibilityJamoTable();
+
+    private HangulNormalizer() {
+    }
+
+    public static String normalize(String input) {
+        int length = input.length();
+        int index = 0;
+        while (index < length) {
+            char c = input.charAt(index);
+            if (Character.isWhitespace(c) || Character.isUpperCase(c)) {
+                break;
+            }
+            index++;
+        }
+
+        if (index == length) {
+            return input;
+        }
+
+        StringBuilder normalized = new StringBuilder(length).append(input, 0, index);
+        for (; index < length; index++) {
+            char c = input.charAt(index);
+            if (!Character.isWhitespace(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * 음절을 입력 순서대로의 자모로 분해합니다. (예: "왔다" -> "ㅇㅗㅏㅆㄷㅏ")
+     * 겹모음과 겹받침도 나누어 입력 중인 마지막 글자가 받침으로 붙어 있어도 일치합니다.
+     */
+    public static String toJamo(String normalized) {
+        StringBuilder jamo = new StringBuilder(normalized.length() * 3);
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (isSyllable(c)) {
+                int offset = c - SYLLABLE_BEGIN;
+                jamo.append(CHOSEONG[offset / (JUNGSEONG_COUNT * JONGSEONG_COUNT)])
+                    .append(JUNGSEONG[offset % (JUNGSEONG_COUNT * JONGSEONG_COUNT) / JONGSEONG_COUNT])
+                    .append(JONGSEONG[offset % JONGSEONG_COUNT]);
+            } else if (isCompatibilityJamo(c)) {
+                jamo.append(COMPATIBILITY_JAMO[c - COMPATIBILITY_JAMO_BEGIN]);
+            } else {
+                jamo.append(c);
+            }
+        }
+        return jamo.toString();
+    }
+
+    /**
+     * 음절을 초성으로 바꾸고 그 외 문자는 그대로 둡니다. (예: "오아시스" -> "ㅇㅇㅅㅅ")
+     */
+    public static String toChoseong(String normalized) {
+        char[] choseong = new char[normalized.length()];
+        for (int i = 0; i < choseong.length; i++) {
+            char c = normalized.charAt(i);
+            choseong[i] = isSyllable(c)
+                ? CHOSEONG[(c - SYLLABLE_BEGIN) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]
+                : c;
+        }
+        return new String(choseong);
+    }
+
+    public static boolean isChoseongOnly(String normalized) {
+        if (normalized.isEmpty()) {
+            return false;
+        }
+
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c < COMPATIBILITY_JAMO_BEGIN || c > CONSONANT_END) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    private static boolean isCompatibilityJamo(char c) {
+        return c >= COMPATIBILITY_JAMO_BEGIN && c <= COMPATIBILITY_JAMO_END;
+    }
+
+    private static String[] createCompatibilityJamoTable() {
+        String[] table = new String[COMPATIBILITY_JAMO_END - COMPATIBILITY_JAMO_BEGIN + 1];
+        for (char c = COMPATIBILITY_JAMO_BEGIN; c <= COMPATIBILITY_JAMO_END; c++) {
+            table[c - COMPATIBILITY_JAMO_BEGIN] = String.valueOf(c);
+        }
+
+        for (int i = 0; i < COMPOUND_CONSONANTS.length(); i++) {
+            table[COMPOUND_CONSONANTS.charAt(i) - COMPATIBILITY_JAMO_BEGIN] = COMPOUND_CONSONANT_JAMO[i];
+        }
+
+        for (int i = 0; i < JUNGSEONG.length; i++) {
+            table[VOWEL_BEGIN + i - COMPATIBILITY_JAMO_BEGIN] = JUNGSEONG[i];
+        }
+        return table;
+    }
+}
@@ -10,7 +10,7 @@ public final class StringNormalizer {
             throw new IllegalArgumentException("잘못된 입력 값 입니다.");
         }
 
-        return input.replaceAll("\\s+", "").toLowerCase();
+        return HangulNormalizer.normalize(input);
     }
 
 }
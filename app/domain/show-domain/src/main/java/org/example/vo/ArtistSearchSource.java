@@ -0,0 +1,5 @@
+package org.example.vo;
+
+public enum ArtistSearchSource {
+    LOCAL, SPOTIFY;
+}
@@ -1,8 +1,18 @@
 package org.example;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.example.config.ShowDomainConfig;
+import org.example.fixture.port.ArtistSearchCachePortFixture;
 import org.example.fixture.port.ArtistSearchPortFixture;
+import org.example.fixture.port.ShowDetailCachePortFixture;
+import org.example.fixture.port.ShowPopularityPortFixture;
+import org.example.fixture.port.ShowSearchIndexBroadcastPortFixture;
+import org.example.port.ArtistSearchCachePort;
 import org.example.port.ArtistSearchPort;
+import org.example.port.ShowDetailCachePort;
+import org.example.port.ShowPopularityPort;
+import org.example.port.ShowSearchIndexBroadcastPort;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
@@ -15,4 +25,29 @@ public class ShowDomainTestConfiguration {
     public ArtistSearchPort artistSearchPort() {
         return new ArtistSearchPortFixture();
     }
+
+    @Bean
+    public ArtistSearchCachePort artistSearchCachePort() {
+        return new ArtistSearchCachePortFixture();
+    }
+
+    @Bean
+    public ShowDetailCachePort showDetailCachePort() {
+        return new ShowDetailCachePortFixture();
+    }
+
+    @Bean
+    public ShowPopularityPort showPopularityPort() {
+        return new ShowPopularityPortFixture();
+    }
+
+    @Bean
+    public ShowSearchIndexBroadcastPort showSearchIndexBroadcastPort() {
+        return new ShowSearchIndexBroadcastPortFixture();
+    }
+
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
 }
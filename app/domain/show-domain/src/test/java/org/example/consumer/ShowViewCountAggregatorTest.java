@@ -0,0 +1,91 @@
+package org.example.consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.example.port.ShowPopularityPort;
+import org.example.usecase.ShowUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class ShowViewCountAggregatorTest {
+
+    private final ShowUseCase showUseCase = mock(ShowUseCase.class);
+    private final ShowPopularityPort showPopularityPort = mock(ShowPopularityPort.class);
+    private final ShowViewCountAggregator showViewCountAggregator = new ShowViewCountAggregator(
+        showUseCase,
+        showPopularityPort,
+        new SimpleMeterRegistry()
+    );
+
+    @Test
+    @DisplayName("동시에 누적된 조회수는 flush 시 공연별 증분으로 한 번에 반영된다.")
+    void flushAccumulatedViewCounts() throws InterruptedException {
+        //given
+        UUID showId = UUID.randomUUID();
+        int executeCount = 200;
+        CountDownLatch doneSignal = new CountDownLatch(executeCount);
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        for (int i = 0; i < executeCount; i++) {
+            executorService.execute(() -> {
+                showViewCountAggregator.increase(showId);
+                doneSignal.countDown();
+            });
+        }
+        doneSignal.await();
+        executorService.shutdown();
+
+        //when
+        showViewCountAggregator.flush();
+
+        //then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<UUID, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(showUseCase).increaseViewCounts(captor.capture());
+        verify(showPopularityPort).increaseScores(captor.getValue());
+        assertThat(captor.getValue()).containsEntry(showId, (long) executeCount);
+    }
+
+    @Test
+    @DisplayName("누적된 조회수가 없다면 UPDATE 를 실행하지 않는다.")
+    void skipFlushWhenNothingPending() {
+        //when
+        showViewCountAggregator.flush();
+
+        //then
+        verify(showUseCase, never()).increaseViewCounts(anyMap());
+    }
+
+    @Test
+    @DisplayName("flush 에 실패한 조회수는 다음 flush 에 다시 반영된다.")
+    void restoreViewCountsWhenFlushFailed() {
+        //given
+        UUID showId = UUID.randomUUID();
+        showViewCountAggregator.increase(showId);
+        showViewCountAggregator.increase(showId);
+        doThrow(new IllegalStateException()).when(showUseCase).increaseViewCounts(anyMap());
+        showViewCountAggregator.flush();
+        reset(showUseCase);
+
+        //when
+        showViewCountAggregator.flush();
+
+        //then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<UUID, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(showUseCase).increaseViewCounts(captor.capture());
+        assertThat(captor.getValue()).containsEntry(showId, 2L);
+    }
+}
@@ -0,0 +1,368 @@
+package org.example.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.example.QueryTest;
+import org.example.dto.show.request.ShowCreationDomainRequest;
+import org.example.dto.show.request.ShowUpdateDomainRequest;
+import org.example.entity.artist.Artist;
+import org.example.entity.genre.Genre;
+import org.example.entity.show.Show;
+import org.example.entity.show.ShowTicketingTime;
+import org.example.entity.show.info.SeatPrices;
+import org.example.entity.show.info.ShowTicketingTimes;
+import org.example.entity.show.info.TicketingSites;
+import org.example.fixture.domain.ArtistFixture;
+import org.example.fixture.domain.GenreFixture;
+import org.example.fixture.domain.ShowFixture;
+import org.example.fixture.port.ArtistSearchCachePortFixture;
+import org.example.fixture.port.ArtistSearchPortFixture;
+import org.example.fixture.port.ShowDetailCachePortFixture;
+import org.example.fixture.port.ShowPopularityPortFixture;
+import org.example.fixture.port.ShowSearchIndexBroadcastPortFixture;
+import org.example.port.dto.param.ArtistSearchPortParam;
+import org.example.property.ArtistSearchProperty;
+import org.example.repository.artist.ArtistJdbcRepository;
+import org.example.repository.artist.ArtistRepository;
+import org.example.repository.artist.artistgenre.ArtistGenreRepository;
+import org.example.repository.genre.GenreRepository;
+import org.example.repository.show.ShowJdbcRepository;
+import org.example.repository.show.ShowRepository;
+import org.example.repository.show.showartist.ShowArtistRepository;
+import org.example.repository.show.showgenre.ShowGenreRepository;
+import org.example.repository.show.showsearch.ShowSearchRepository;
+import org.example.repository.show.showticketing.ShowTicketingTimeRepository;
+import org.example.search.ArtistSearchFanOut;
+import org.example.search.ArtistSearchIndex;
+import org.example.usecase.ArtistUseCase;
+import org.example.usecase.ShowAdminUseCase;
+import org.example.vo.TicketingType;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class BatchWriteStatementCountTest extends QueryTest {
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ShowRepository showRepository;
+
+    @Autowired
+    private ShowSearchRepository showSearchRepository;
+
+    @Autowired
+    private ShowArtistRepository showArtistRepository;
+
+    @Autowired
+    private ShowGenreRepository showGenreRepository;
+
+    @Autowired
+    private ShowTicketingTimeRepository showTicketingTimeRepository;
+
+    @Autowired
+    private ArtistRepository artistRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private ArtistGenreRepository artistGenreRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private ShowAdminUseCase showAdminUseCase;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        showAdminUseCase = new ShowAdminUseCase(
+            showRepository,
+            new ShowJdbcRepository(jdbcTemplate),
+            showSearchRepository,
+            showArtistRepository,
+            showGenreRepository,
+            showTicketingTimeRepository,
+            new ShowDetailCachePortFixture(),
+            new ShowPopularityPortFixture(),
+            new ShowSearchIndex(),
+            new ShowSearchIndexBroadcastPortFixture()
+        );
+    }
+
+    @ParameterizedTest(name = "{index} {displayName} relationCount={0}")
+    @ValueSource(ints = {1, 10, 50})
+    @DisplayName("공연 등록은 연관 데이터 수와 관계없이 테이블마다 한 번의 배치 INSERT 로 저장된다.")
+    void saveShowWithRelationsInBatch(int relationCount) {
+        //given
+        List<UUID> artistIds = artistRepository.saveAll(ArtistFixture.manSoloArtists(relationCount)).stream()
+            .map(Artist::getId)
+            .toList();
+        List<UUID> genreIds = genreRepository.saveAll(GenreFixture.genres(relationCount)).stream()
+            .map(Genre::getId)
+            .toList();
+        flushAndClearStatistics();
+
+        //when
+        Show show = ShowFixture.deafultShow();
+        showRepository.save(show);
+        showSearchRepository.save(show.toShowSearch());
+        showArtistRepository.saveAll(show.toShowArtist(artistIds));
+        showGenreRepository.saveAll(show.toShowGenre(genreIds));
+        showTicketingTimeRepository.saveAll(
+            Arrays.stream(TicketingType.values())
+                .map(type -> ShowTicketingTime.builder()
+                    .ticketingType(type)
+                    .ticketingAt(LocalDateTime.now())
+                    .show(show)
+                    .build()
+                )
+                .toList()
+        );
+        testEntityManager.flush();
+
+        //then
+        int tableCount = 5;
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(tableCount);
+        assertThat(statistics.getEntityInsertCount())
+            .isEqualTo(2L + relationCount * 2L + TicketingType.values().length);
+    }
+
+    @ParameterizedTest(name = "{index} {displayName} artistCount={0}")
+    @ValueSource(ints = {1, 10, 50})
+    @DisplayName("여러 엔티티의 변경은 한 번의 배치 UPDATE 로 반영된다.")
+    void updateEntitiesInBatch(int artistCount) {
+        //given
+        List<Artist> artists = artistRepository.saveAll(ArtistFixture.manSoloArtists(artistCount));
+        flushAndClearStatistics();
+
+        //when
+        artists.forEach(Artist::softDelete);
+        testEntityManager.flush();
+
+        //then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(artistCount);
+    }
+
+    @ParameterizedTest(name = "{index} {displayName} relationCount={0}")
+    @ValueSource(ints = {1, 10, 50})
+    @DisplayName("공연 등록 유스케이스는 연관 데이터 수와 관계없이 테이블마다 한 번의 배치 INSERT 로 저장한다.")
+    void saveShowThroughUseCaseInBatch(int relationCount) {
+        //given
+        ShowCreationDomainRequest request = showCreationRequest("test_title", relationCount);
+
+        //when
+        long statementCount = countStatements(() -> showAdminUseCase.save(request));
+
+        //then
+        int tableCount = 5;
+        assertThat(statementCount).isEqualTo(tableCount);
+    }
+
+    @Test
+    @DisplayName("여러 공연 등록 유스케이스는 공연 수와 관계없이 테이블마다 한 번의 배치 INSERT 로 저장한다.")
+    void saveAllShowsThroughUseCaseInBatch() {
+        //given
+        List<ShowCreationDomainRequest> singleRequest = List.of(showCreationRequest("single", 3));
+        List<ShowCreationDomainRequest> manyRequests = IntStream.range(0, 10)
+            .mapToObj(i -> showCreationRequest("many" + i, 3))
+            .toList();
+
+        //when
+        long singleStatementCount = countStatements(() -> showAdminUseCase.saveAll(singleRequest));
+        long manyStatementCount = countStatements(() -> showAdminUseCase.saveAll(manyRequests));
+
+        //then
+        int tableCount = 5;
+        assertThat(singleStatementCount).isEqualTo(tableCount);
+        assertThat(manyStatementCount).isEqualTo(tableCount);
+    }
+
+    @Test
+    @DisplayName("공연 수정 유스케이스가 보내는 문장 수는 바뀌는 연관 데이터 수와 관계없다.")
+    void updateShowThroughUseCaseInBatch() {
+        //given
+        Show fewRelationShow = showAdminUseCase.save(showCreationRequest("few", 1));
+        ShowUpdateDomainRequest fewRelationUpdate = showUpdateRequest("few_updated", 1);
+        Show manyRelationShow = showAdminUseCase.save(showCreationRequest("many", 50));
+        ShowUpdateDomainRequest manyRelationUpdate = showUpdateRequest("many_updated", 50);
+
+        //when
+        long fewStatementCount = countStatements(
+            () -> showAdminUseCase.updateShow(fewRelationShow.getId(), fewRelationUpdate)
+        );
+        long manyStatementCount = countStatements(
+            () -> showAdminUseCase.updateShow(manyRelationShow.getId(), manyRelationUpdate)
+        );
+
+        //then
+        assertThat(manyStatementCount).isEqualTo(fewStatementCount);
+    }
+
+    @Test
+    @DisplayName("공연 삭제 유스케이스가 보내는 문장 수는 삭제되는 연관 데이터 수와 관계없다.")
+    void deleteShowThroughUseCaseInBatch() {
+        //given
+        Show fewRelationShow = showAdminUseCase.save(showCreationRequest("few", 1));
+        Show manyRelationShow = showAdminUseCase.save(showCreationRequest("many", 50));
+
+        //when
+        long fewStatementCount = countStatements(() -> showAdminUseCase.deleteShow(fewRelationShow.getId()));
+        long manyStatementCount = countStatements(() -> showAdminUseCase.deleteShow(manyRelationShow.getId()));
+
+        //then
+        assertThat(manyStatementCount).isEqualTo(fewStatementCount);
+    }
+
+    @Test
+    @DisplayName("아티스트 저장 유스케이스는 50명을 장르 조회 한 번과 테이블마다 한 번의 배치 INSERT 로 저장한다.")
+    void saveArtistsThroughUseCaseInBatch() {
+        //given
+        genreRepository.save(Genre.builder().name("pop").build());
+        JdbcTemplate countingJdbcTemplate = spy(jdbcTemplate);
+        ArtistSearchProperty artistSearchProperty = new ArtistSearchProperty(false, 3, 1, false);
+        ArtistUseCase artistUseCase = new ArtistUseCase(
+            artistRepository,
+            new ArtistJdbcRepository(countingJdbcTemplate),
+            showArtistRepository,
+            genreRepository,
+            new ArtistSearchPortFixture(),
+            new ArtistSearchCachePortFixture(),
+            transactionTemplate,
+            new ArtistSearchIndex(),
+            new ArtistSearchFanOut(artistSearchProperty),
+            artistSearchProperty
+        );
+        List<ArtistSearchPortParam> params = IntStream.range(0, 50)
+            .mapToObj(i -> ArtistSearchPortParam.builder()
+                .id("spotify" + i)
+                .name("artist" + i)
+                .genres(List.of("britpop"))
+                .imageURL("image")
+                .build())
+            .toList();
+        List<Artist> newArtists = params.stream().map(ArtistSearchPortParam::toArtist).toList();
+
+        //when
+        long statementCount = countStatements(() -> artistUseCase.saveArtists(params, newArtists));
+
+        //then
+        assertThat(statementCount).isEqualTo(1);
+        verify(countingJdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+        verify(countingJdbcTemplate, times(1)).queryForList(anyString(), eq(UUID.class), any(Object[].class));
+        assertThat(artistGenreRepository.count()).isEqualTo(params.size());
+    }
+
+    /**
+     * @return writePath 가 보낸 JPA 문장 수 (JdbcTemplate 으로 보낸 문장은 포함하지 않습니다)
+     */
+    private long countStatements(Runnable writePath) {
+        testEntityManager.flush();
+        testEntityManager.clear();
+        statistics.clear();
+
+        writePath.run();
+        testEntityManager.flush();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private ShowCreationDomainRequest showCreationRequest(String title, int relationCount) {
+        return ShowCreationDomainRequest.builder()
+            .title(title)
+            .content("test_content")
+            .startDate(LocalDate.EPOCH)
+            .endDate(LocalDate.EPOCH)
+            .location("test_location")
+            .posterImageURL("test_image")
+            .showSeats(new SeatPrices())
+            .showTicketingSites(new TicketingSites())
+            .showTicketingTimes(showTicketingTimes())
+            .artistIds(saveArtistIds(relationCount))
+            .genreIds(saveGenreIds(relationCount))
+            .build();
+    }
+
+    private ShowUpdateDomainRequest showUpdateRequest(String title, int relationCount) {
+        return ShowUpdateDomainRequest.builder()
+            .title(title)
+            .content("test_content")
+            .startDate(LocalDate.EPOCH)
+            .endDate(LocalDate.EPOCH)
+            .location("test_location")
+            .posterImageURL("test_image")
+            .showSeats(new SeatPrices())
+            .showTicketingSites(new TicketingSites())
+            .showTicketingTimes(showTicketingTimes())
+            .artistIds(saveArtistIds(relationCount))
+            .genreIds(saveGenreIds(relationCount))
+            .build();
+    }
+
+    private ShowTicketingTimes showTicketingTimes() {
+        ShowTicketingTimes showTicketingTimes = new ShowTicketingTimes();
+        Arrays.stream(TicketingType.values())
+            .forEach(type -> showTicketingTimes.saveTicketingTimes(type, LocalDateTime.now()));
+        return showTicketingTimes;
+    }
+
+    private List<UUID> saveArtistIds(int count) {
+        List<Artist> artists = IntStream.range(0, count)
+            .mapToObj(i -> Artist.builder()
+                .name("artist" + i)
+                .image("image" + i)
+                .spotifyId(UUID.randomUUID().toString())
+                .build())
+            .toList();
+        return artistRepository.saveAll(artists).stream()
+            .map(Artist::getId)
+            .toList();
+    }
+
+    private List<UUID> saveGenreIds(int count) {
+        List<Genre> genres = IntStream.range(0, count)
+            .mapToObj(i -> Genre.builder()
+                .name(UUID.randomUUID().toString())
+                .build())
+            .toList();
+        return genreRepository.saveAll(genres).stream()
+            .map(Genre::getId)
+            .toList();
+    }
+
+    private void flushAndClearStatistics() {
+        testEntityManager.flush();
+        statistics.clear();
+    }
+}
@@ -0,0 +1,174 @@
+package org.example.repository.artist;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.example.QueryTest;
+import org.example.entity.artist.Artist;
+import org.example.entity.genre.Genre;
+import org.example.fixture.domain.GenreFixture;
+import org.example.repository.artist.artistgenre.ArtistGenreRepository;
+import org.example.repository.genre.GenreRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Import(ArtistJdbcRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ArtistJdbcRepositoryTest extends QueryTest {
+
+    private static final int ARTIST_COUNT = 50;
+
+    @Autowired
+    private ArtistJdbcRepository artistJdbcRepository;
+
+    @Autowired
+    private ArtistRepository artistRepository;
+
+    @Autowired
+    private ArtistGenreRepository artistGenreRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Genre genre;
+
+    @BeforeEach
+    void setUp() {
+        genre = genreRepository.save(GenreFixture.genres(1).get(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        artistGenreRepository.deleteAllInBatch();
+        artistRepository.deleteAllInBatch();
+        genreRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("아티스트 50명과 장르를 한 트랜잭션에서 테이블마다 한 번의 배치로 저장한다.")
+    void insertArtistsInSingleBatch() {
+        //given
+        JdbcTemplate countingJdbcTemplate = spy(jdbcTemplate);
+        ArtistJdbcRepository batchRepository = new ArtistJdbcRepository(countingJdbcTemplate);
+        List<Artist> artists = artists("batch");
+
+        //when
+        Set<UUID> insertedIds = transactionTemplate.execute(
+            status -> {
+                Set<UUID> ids = batchRepository.insertAllIgnoringConflict(artists);
+                batchRepository.insertAllArtistGenres(
+                    artists.stream().map(artist -> artist.toArtistGenre(genre.getId())).toList()
+                );
+                return ids;
+            }
+        );
+
+        //then
+        verify(countingJdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+        verify(countingJdbcTemplate, times(1)).queryForList(anyString(), eq(UUID.class), any(Object[].class));
+        assertThat(insertedIds).hasSize(ARTIST_COUNT);
+        assertThat(artistRepository.count()).isEqualTo(ARTIST_COUNT);
+        assertThat(artistGenreRepository.count()).isEqualTo(ARTIST_COUNT);
+    }
+
+    @Test
+    @DisplayName("아티스트 50명을 배치로 저장하면 아티스트마다 트랜잭션을 여는 방식보다 빠르게 같은 행을 저장한다.")
+    void compareBatchInsertWithTransactionPerArtist() {
+        //given
+        insertPerArtist(artists("warm-up-per-artist"));
+        insertInBatch(artists("warm-up-batch"));
+
+        //when
+        long perArtistNanos = measureNanos(() -> insertPerArtist(artists("per-artist")));
+        long batchNanos = measureNanos(() -> insertInBatch(artists("batch")));
+
+        //then
+        System.out.printf(
+            "artistCount=%d transactionPerArtist=%.3fms batch=%.3fms%n",
+            ARTIST_COUNT,
+            perArtistNanos / 1_000_000.0,
+            batchNanos / 1_000_000.0
+        );
+        assertThat(batchNanos).isLessThan(perArtistNanos);
+        assertThat(artistRepository.count()).isEqualTo(ARTIST_COUNT * 4L);
+        assertThat(artistGenreRepository.count()).isEqualTo(ARTIST_COUNT * 4L);
+    }
+
+    @Test
+    @DisplayName("이미 저장된 spotifyId 의 아티스트는 건너뛰고 새 아티스트만 저장한다.")
+    void skipConflictingSpotifyId() {
+        //given
+        List<Artist> savedArtists = artists("artist").subList(0, 20);
+        artistJdbcRepository.insertAllIgnoringConflict(savedArtists);
+
+        //when
+        List<Artist> requestArtists = artists("artist");
+        Set<UUID> insertedIds = artistJdbcRepository.insertAllIgnoringConflict(requestArtists);
+
+        //then
+        assertThat(insertedIds).hasSize(ARTIST_COUNT - savedArtists.size());
+        assertThat(artistRepository.count()).isEqualTo(ARTIST_COUNT);
+    }
+
+    private void insertPerArtist(List<Artist> artists) {
+        for (Artist artist : artists) {
+            transactionTemplate.executeWithoutResult(
+                status -> {
+                    artistRepository.save(artist);
+                    artistGenreRepository.save(artist.toArtistGenre(genre.getId()));
+                }
+            );
+        }
+    }
+
+    private void insertInBatch(List<Artist> artists) {
+        transactionTemplate.executeWithoutResult(
+            status -> {
+                artistJdbcRepository.insertAllIgnoringConflict(artists);
+                artistJdbcRepository.insertAllArtistGenres(
+                    artists.stream().map(artist -> artist.toArtistGenre(genre.getId())).toList()
+                );
+            }
+        );
+    }
+
+    private long measureNanos(Runnable task) {
+        long startedAt = System.nanoTime();
+        task.run();
+        return System.nanoTime() - startedAt;
+    }
+
+    private List<Artist> artists(String spotifyIdPrefix) {
+        return IntStream.range(0, ARTIST_COUNT)
+            .mapToObj(i -> Artist.builder()
+                .name("artist" + i)
+                .image("image" + i)
+                .spotifyId(spotifyIdPrefix + i)
+                .build())
+            .toList();
+    }
+}
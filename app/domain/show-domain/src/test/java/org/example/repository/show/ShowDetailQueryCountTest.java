@@ -0,0 +1,157 @@
+package org.example.repository.show;
+
+import static org.example.entity.artist.QArtist.artist;
+import static org.example.entity.genre.QGenre.genre;
+import static org.example.entity.show.QShow.show;
+import static org.example.entity.show.QShowArtist.showArtist;
+import static org.example.entity.show.QShowGenre.showGenre;
+import static org.example.entity.show.QShowTicketingTime.showTicketingTime;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.assertj.core.api.SoftAssertions;
+import org.example.QueryTest;
+import org.example.entity.artist.Artist;
+import org.example.entity.genre.Genre;
+import org.example.entity.show.Show;
+import org.example.entity.show.ShowTicketingTime;
+import org.example.fixture.domain.ArtistFixture;
+import org.example.fixture.domain.GenreFixture;
+import org.example.fixture.domain.ShowArtistFixture;
+import org.example.fixture.domain.ShowFixture;
+import org.example.fixture.domain.ShowGenreFixture;
+import org.example.repository.artist.ArtistRepository;
+import org.example.repository.genre.GenreRepository;
+import org.example.repository.show.showartist.ShowArtistRepository;
+import org.example.repository.show.showgenre.ShowGenreRepository;
+import org.example.repository.show.showticketing.ShowTicketingTimeRepository;
+import org.example.vo.TicketingType;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+class ShowDetailQueryCountTest extends QueryTest {
+
+    private static final int GENRE_COUNT = 3;
+    private static final int RELATION_QUERY_COUNT = 4;
+
+    @Autowired
+    private JPAQueryFactory jpaQueryFactory;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ShowRepository showRepository;
+
+    @Autowired
+    private ArtistRepository artistRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private ShowArtistRepository showArtistRepository;
+
+    @Autowired
+    private ShowGenreRepository showGenreRepository;
+
+    @Autowired
+    private ShowTicketingTimeRepository showTicketingTimeRepository;
+
+    @ParameterizedTest(name = "{index} {displayName} artistCount={0}")
+    @ValueSource(ints = {1, 5, 10, 20})
+    @DisplayName("공연 상세는 아티스트 수와 관계없이 연관관계별 쿼리 4번으로, 단일 조인의 곱이 아닌 합만큼의 행으로 조립된다.")
+    void findShowDetailWithMultiQueryInsteadOfJoin(int artistCount) {
+        //given
+        Show savedShow = saveShowWithRelations(artistCount);
+        UUID showId = savedShow.getId();
+        int joinRowCount = fetchWithLegacyJoin(showId).size();
+        testEntityManager.flush();
+        testEntityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        var result = showRepository.findShowDetailById(showId).orElseThrow();
+
+        //then
+        int multiQueryRowCount = 1
+            + result.artists().size()
+            + result.genres().size()
+            + result.showTicketingTimes().size();
+        SoftAssertions.assertSoftly(
+            soft -> {
+                soft.assertThat(statistics.getPrepareStatementCount()).isEqualTo(RELATION_QUERY_COUNT);
+                soft.assertThat(result.artists()).hasSize(artistCount);
+                soft.assertThat(result.genres()).hasSize(GENRE_COUNT);
+                soft.assertThat(result.showTicketingTimes()).hasSize(TicketingType.values().length);
+                soft.assertThat(joinRowCount)
+                    .isEqualTo(artistCount * GENRE_COUNT * TicketingType.values().length);
+                soft.assertThat(multiQueryRowCount)
+                    .isEqualTo(1 + artistCount + GENRE_COUNT + TicketingType.values().length);
+            }
+        );
+    }
+
+    private Show saveShowWithRelations(int artistCount) {
+        Show savedShow = showRepository.save(ShowFixture.deafultShow());
+
+        List<Artist> artists = artistRepository.saveAll(ArtistFixture.manSoloArtists(artistCount));
+        showArtistRepository.saveAll(
+            ShowArtistFixture.showArtists(
+                artists.stream().map(savedArtist -> savedShow.getId()).toList(),
+                artists.stream().map(Artist::getId).toList(),
+                artistCount
+            )
+        );
+
+        List<Genre> genres = genreRepository.saveAll(GenreFixture.genres(GENRE_COUNT));
+        showGenreRepository.saveAll(
+            ShowGenreFixture.showGenres(
+                genres.stream().map(savedGenre -> savedShow.getId()).toList(),
+                genres.stream().map(Genre::getId).toList(),
+                GENRE_COUNT
+            )
+        );
+
+        showTicketingTimeRepository.saveAll(
+            Arrays.stream(TicketingType.values())
+                .map(type -> ShowTicketingTime.builder()
+                    .ticketingType(type)
+                    .ticketingAt(LocalDateTime.now())
+                    .show(savedShow)
+                    .build()
+                )
+                .toList()
+        );
+
+        return savedShow;
+    }
+
+    private List<UUID> fetchWithLegacyJoin(UUID showId) {
+        return jpaQueryFactory
+            .select(show.id)
+            .from(show)
+            .join(showArtist).on(showArtist.showId.eq(show.id).and(showArtist.isDeleted.isFalse()))
+            .join(artist).on(artist.id.eq(showArtist.artistId).and(artist.isDeleted.isFalse()))
+            .join(showGenre).on(showGenre.showId.eq(show.id).and(showGenre.isDeleted.isFalse()))
+            .join(genre).on(genre.id.eq(showGenre.genreId).and(genre.isDeleted.isFalse()))
+            .join(showTicketingTime).on(
+                showTicketingTime.show.id.eq(show.id).and(showTicketingTime.isDeleted.isFalse())
+            )
+            .where(show.id.eq(showId).and(show.isDeleted.isFalse()))
+            .fetch();
+    }
+}
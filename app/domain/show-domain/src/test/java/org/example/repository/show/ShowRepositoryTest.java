@@ -1,12 +1,28 @@
 package org.example.repository.show;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
 import org.assertj.core.api.SoftAssertions;
 import org.example.QueryTest;
+import org.example.dto.show.param.ShowPopularityDomainParam;
+import org.example.dto.show.request.ShowAdminPaginationDomainRequest;
+import org.example.dto.show.request.ShowPaginationDomainRequest;
+import org.example.dto.show.response.ShowInfoDomainResponse;
+import org.example.dto.show.response.ShowTicketingDomainResponse;
+import org.example.entity.artist.Artist;
 import org.example.entity.show.Show;
 import org.example.entity.show.ShowTicketingTime;
+import org.example.fixture.domain.ArtistFixture;
 import org.example.fixture.domain.ShowFixture;
 import org.example.fixture.domain.ShowTicketingTimeFixture;
+import org.example.repository.artist.ArtistRepository;
+import org.example.repository.show.showartist.ShowArtistRepository;
 import org.example.repository.show.showticketing.ShowTicketingTimeRepository;
+import org.example.vo.ShowSortType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,9 +35,76 @@ public class ShowRepositoryTest extends QueryTest {
     @Autowired
     private ShowTicketingTimeRepository showTicketingTimeRepository;
 
+    @Autowired
+    private ShowArtistRepository showArtistRepository;
+
+    @Autowired
+    private ArtistRepository artistRepository;
+
+    @Test
+    @DisplayName("관리자 공연 목록은 공연 ID 커서로 페이지를 나누고, 페이지의 공연에 연관 데이터를 함께 담는다.")
+    void findShowInfosWithKeysetPagination() {
+        //given
+        List<Show> shows = showRepository.saveAll(ShowFixture.shows(3));
+        shows.forEach(show -> showTicketingTimeRepository.save(ShowTicketingTimeFixture.showNormalTicketingTime(show)));
+        Artist artist = artistRepository.save(ArtistFixture.womanGroup());
+        shows.forEach(show -> showArtistRepository.saveAll(show.toShowArtist(List.of(artist.getId()))));
+
+        //when
+        var firstPage = showRepository.findShowInfos(
+            ShowAdminPaginationDomainRequest.builder()
+                .size(2)
+                .build()
+        );
+        var secondPage = showRepository.findShowInfos(
+            ShowAdminPaginationDomainRequest.builder()
+                .cursorId(firstPage.data().get(1).show().id())
+                .size(2)
+                .build()
+        );
+
+        //then
+        SoftAssertions.assertSoftly(
+            soft -> {
+                soft.assertThat(firstPage.data()).hasSize(2);
+                soft.assertThat(firstPage.hasNext()).isTrue();
+                soft.assertThat(secondPage.data()).hasSize(1);
+                soft.assertThat(secondPage.hasNext()).isFalse();
+                soft.assertThat(
+                    Stream.concat(firstPage.data().stream(), secondPage.data().stream())
+                        .map(showInfo -> showInfo.show().id())
+                ).containsExactlyInAnyOrderElementsOf(shows.stream().map(Show::getId).toList());
+                soft.assertThat(secondPage.data().get(0).artistNameResponses()).hasSize(1);
+                soft.assertThat(secondPage.data().get(0).ticketingTimes()).hasSize(1);
+            }
+        );
+    }
+
+    @Test
+    @DisplayName("전체 공연을 fetchSize 단위로 나누어 읽어도 모든 공연을 연관 데이터와 함께 한 번씩 넘겨준다.")
+    void forEachShowInfo() {
+        //given
+        List<Show> shows = showRepository.saveAll(ShowFixture.shows(5));
+        shows.forEach(show -> showTicketingTimeRepository.save(ShowTicketingTimeFixture.showPreTicketingTime(show)));
+        List<ShowInfoDomainResponse> result = new ArrayList<>();
+
+        //when
+        showRepository.forEachShowInfo(2, result::add);
+
+        //then
+        SoftAssertions.assertSoftly(
+            soft -> {
+                soft.assertThat(result)
+                    .extracting(showInfo -> showInfo.show().id())
+                    .containsExactlyInAnyOrderElementsOf(shows.stream().map(Show::getId).toList());
+                soft.assertThat(result).allSatisfy(showInfo -> assertThat(showInfo.ticketingTimes()).hasSize(1));
+            }
+        );
+    }
+
     @Test
-    @DisplayName("공연 정보들은 연관된 티켓팅 시간과 함께 가져온다.")
-    void findShowDetailWithTicketingTimes() {
+    @DisplayName("공연 ID 목록으로 공연별 가장 이른 예매 시간을 한 건씩 가져온다.")
+    void findShowTicketingsByIds() {
         //given
         Show show = ShowFixture.deafultShow();
         showRepository.save(show);
@@ -31,14 +114,76 @@ public class ShowRepositoryTest extends QueryTest {
         showTicketingTimeRepository.save(showNormalTicketingTime);
         showTicketingTimeRepository.save(showPreTicketingTime);
 
+        var request = ShowPaginationDomainRequest.builder()
+            .sort(ShowSortType.POPULAR)
+            .onlyOpenSchedule(false)
+            .size(10)
+            .now(LocalDate.EPOCH.minusDays(1).atStartOfDay())
+            .build();
+
         //when
-        var result = showRepository.findShowDetailWithTicketingTimes();
+        var result = showRepository.findShowTicketingsByIds(List.of(show.getId()), request);
 
         //then
         SoftAssertions.assertSoftly(
             soft -> {
                 soft.assertThat(result.size()).isEqualTo(1);
-                soft.assertThat(result.get(0).ticketingTimes().size()).isEqualTo(2);
+                soft.assertThat(result.get(0).id()).isEqualTo(show.getId());
+            }
+        );
+    }
+
+    @Test
+    @DisplayName("인기순 공연 목록은 예매 시간이 여러 개인 공연도 가장 이른 예매 시간 한 건으로 조회한다.")
+    void findPopularShowsOneRowPerShow() {
+        //given
+        Show show = ShowFixture.deafultShow();
+        showRepository.save(show);
+        showTicketingTimeRepository.save(ShowTicketingTimeFixture.showNormalTicketingTime(show));
+        showTicketingTimeRepository.save(ShowTicketingTimeFixture.showPreTicketingTime(show));
+
+        var request = ShowPaginationDomainRequest.builder()
+            .sort(ShowSortType.POPULAR)
+            .onlyOpenSchedule(false)
+            .size(10)
+            .now(LocalDate.EPOCH.minusDays(1).atStartOfDay())
+            .build();
+
+        //when
+        var result = showRepository.findShows(request);
+
+        //then
+        SoftAssertions.assertSoftly(
+            soft -> {
+                soft.assertThat(result.data()).extracting(ShowTicketingDomainResponse::id)
+                    .containsExactly(show.getId());
+                soft.assertThat(result.cursorId()).isEqualTo(show.getId());
+                soft.assertThat(result.hasNext()).isFalse();
+            }
+        );
+    }
+
+    @Test
+    @DisplayName("종료되지 않은 공연의 조회수를 공연 ID 커서로 나누어 조회한다.")
+    void findActiveViewCountsWithKeysetPagination() {
+        //given
+        List<Show> shows = showRepository.saveAll(ShowFixture.shows(3));
+
+        //when
+        var firstPage = showRepository.findActiveViewCounts(null, LocalDate.EPOCH.minusDays(1), 2);
+        var secondPage = showRepository.findActiveViewCounts(
+            firstPage.get(1).showId(),
+            LocalDate.EPOCH.minusDays(1),
+            2
+        );
+
+        //then
+        SoftAssertions.assertSoftly(
+            soft -> {
+                soft.assertThat(firstPage).hasSize(2);
+                soft.assertThat(Stream.concat(firstPage.stream(), secondPage.stream()))
+                    .extracting(ShowPopularityDomainParam::showId)
+                    .containsExactlyInAnyOrderElementsOf(shows.stream().map(Show::getId).toList());
             }
         );
     }
@@ -0,0 +1,228 @@
+package org.example.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import org.assertj.core.api.SoftAssertions;
+import org.example.port.dto.param.ArtistSearchPortParam;
+import org.example.port.dto.response.ArtistSearchPortResponse;
+import org.example.property.ArtistSearchProperty;
+import org.example.search.ArtistSearchFanOut.ScanResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ArtistSearchFanOutTest {
+
+    private static final int TOTAL_ARTIST_COUNT = 100;
+    private static final Predicate<ArtistSearchPortParam> EVEN_ARTIST = artist ->
+        Integer.parseInt(artist.id()) % 2 == 0;
+
+    private final ArtistSearchFanOut artistSearchFanOut = new ArtistSearchFanOut(
+        new ArtistSearchProperty(true, 3, 4, false)
+    );
+
+    @AfterEach
+    void tearDown() {
+        artistSearchFanOut.shutdown();
+    }
+
+    @Test
+    @DisplayName("동시에 조회한 페이지를 offset 순서대로 합쳐 필요한 수만큼 반환한다.")
+    void scanInOffsetOrder() {
+        //given
+        int offset = 0;
+        int pageSize = 10;
+
+        //when
+        ScanResult result = artistSearchFanOut.scan(offset, pageSize, 10, pageLoader(pageSize), EVEN_ARTIST);
+
+        //then
+        SoftAssertions.assertSoftly(
+            soft -> {
+                soft.assertThat(result.artists())
+                    .extracting(ArtistSearchPortParam::id)
+                    .containsExactly("0", "2", "4", "6", "8", "10", "12", "14", "16", "18");
+                soft.assertThat(result.nextOffset()).isEqualTo(19);
+                soft.assertThat(result.hasNext()).isTrue();
+            }
+        );
+    }
+
+    @Test
+    @DisplayName("검색 결과가 끝나면 다음 페이지가 없다고 반환한다.")
+    void scanUntilLastPage() {
+        //given
+        int offset = 90;
+        int pageSize = 10;
+
+        //when
+        ScanResult result = artistSearchFanOut.scan(offset, pageSize, 10, pageLoader(pageSize), EVEN_ARTIST);
+
+        //then
+        SoftAssertions.assertSoftly(
+            soft -> {
+                soft.assertThat(result.artists()).hasSize(5);
+                soft.assertThat(result.nextOffset()).isEqualTo(TOTAL_ARTIST_COUNT);
+                soft.assertThat(result.hasNext()).isFalse();
+            }
+        );
+    }
+
+    @Test
+    @DisplayName("첫 페이지에서 필요한 수만큼 모이면 다음 페이지를 요청하지 않는다.")
+    void skipSpeculativePagesWhenFirstPageIsEnough() {
+        //given
+        int pageSize = 10;
+        List<Integer> requestedOffsets = new CopyOnWriteArrayList<>();
+
+        //when
+        ScanResult result = artistSearchFanOut.scan(0, pageSize, 3, recordingLoader(pageSize, requestedOffsets),
+            EVEN_ARTIST);
+
+        //then
+        assertThat(result.artists()).hasSize(3);
+        assertThat(requestedOffsets).containsExactly(0);
+    }
+
+    @Test
+    @DisplayName("첫 페이지가 가득 차지 않은 채 끝나면 다음 페이지를 요청하지 않는다.")
+    void skipSpeculativePagesWhenFirstPageIsLast() {
+        //given
+        int pageSize = 10;
+        List<Integer> requestedOffsets = new CopyOnWriteArrayList<>();
+
+        //when
+        ScanResult result = artistSearchFanOut.scan(95, pageSize, 10, recordingLoader(pageSize, requestedOffsets),
+            EVEN_ARTIST);
+
+        //then
+        assertThat(result.hasNext()).isFalse();
+        assertThat(requestedOffsets).containsExactly(90);
+    }
+
+    @Test
+    @DisplayName("검색 시작 위치가 페이지 중간이어도 pageSize 의 배수 offset 으로 요청하고 시작 위치 이전의 아티스트는 건너뛴다.")
+    void requestAlignedPages() {
+        //given
+        int pageSize = 10;
+        List<Integer> requestedOffsets = new CopyOnWriteArrayList<>();
+
+        //when
+        ScanResult result = artistSearchFanOut.scan(13, pageSize, 3, recordingLoader(pageSize, requestedOffsets),
+            EVEN_ARTIST);
+
+        //then
+        SoftAssertions.assertSoftly(
+            soft -> {
+                soft.assertThat(result.artists())
+                    .extracting(ArtistSearchPortParam::id)
+                    .containsExactly("14", "16", "18");
+                soft.assertThat(result.nextOffset()).isEqualTo(19);
+                soft.assertThat(requestedOffsets).containsExactly(10);
+            }
+        );
+    }
+
+    @Test
+    @DisplayName("동시 요청을 끄면 같은 페이지들을 차례로 요청하고 같은 위치에서 결과를 자른다.")
+    void scanSequentiallyWithSameCut() {
+        //given
+        int pageSize = 10;
+        List<Integer> requestedOffsets = new CopyOnWriteArrayList<>();
+        ArtistSearchFanOut sequentialScan = new ArtistSearchFanOut(new ArtistSearchProperty(false, 3, 4, false));
+        ScanResult speculativeResult = artistSearchFanOut.scan(3, pageSize, 10, pageLoader(pageSize), EVEN_ARTIST);
+
+        //when
+        ScanResult result = sequentialScan.scan(3, pageSize, 10, recordingLoader(pageSize, requestedOffsets),
+            EVEN_ARTIST);
+
+        //then
+        sequentialScan.shutdown();
+        assertThat(result).isEqualTo(speculativeResult);
+        assertThat(requestedOffsets).containsExactly(0, 10, 20);
+    }
+
+    @Test
+    @DisplayName("필요한 수가 한 페이지보다 크면 필요한 페이지들을 처음부터 함께 요청한다.")
+    void requestPagesForRequiredCountUpFront() {
+        //given
+        int pageSize = 10;
+        CountDownLatch bothRequested = new CountDownLatch(2);
+        List<Boolean> requestedTogether = new CopyOnWriteArrayList<>();
+        IntFunction<ArtistSearchPortResponse> loader = pageOffset -> {
+            bothRequested.countDown();
+            try {
+                requestedTogether.add(bothRequested.await(1, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return pageLoader(pageSize).apply(pageOffset);
+        };
+
+        //when
+        ScanResult result = artistSearchFanOut.scan(0, pageSize, 20, loader, artist -> true);
+
+        //then
+        assertThat(result.artists()).hasSize(20);
+        assertThat(requestedTogether).containsExactly(true, true);
+    }
+
+    @Test
+    @DisplayName("필요한 수만큼 모이면 남은 페이지 요청을 기다리지 않고 취소한다.")
+    void cancelSurplusPages() throws InterruptedException {
+        //given
+        int pageSize = 10;
+        CountDownLatch surplusInterrupted = new CountDownLatch(1);
+        IntFunction<ArtistSearchPortResponse> loader = pageOffset -> {
+            if (pageOffset >= pageSize * 2) {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    surplusInterrupted.countDown();
+                }
+            }
+            return pageLoader(pageSize).apply(pageOffset);
+        };
+
+        //when
+        ScanResult result = artistSearchFanOut.scan(0, pageSize, 8, loader, EVEN_ARTIST);
+
+        //then
+        assertThat(result.artists()).hasSize(8);
+        assertThat(surplusInterrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private IntFunction<ArtistSearchPortResponse> recordingLoader(int pageSize, List<Integer> requestedOffsets) {
+        return pageOffset -> {
+            requestedOffsets.add(pageOffset);
+            return pageLoader(pageSize).apply(pageOffset);
+        };
+    }
+
+    private IntFunction<ArtistSearchPortResponse> pageLoader(int pageSize) {
+        return pageOffset -> {
+            int end = Math.min(pageOffset + pageSize, TOTAL_ARTIST_COUNT);
+            List<ArtistSearchPortParam> artists = IntStream.range(pageOffset, end)
+                .mapToObj(index -> ArtistSearchPortParam.builder()
+                    .id(String.valueOf(index))
+                    .name("artist" + index)
+                    .genres(List.of("pop"))
+                    .build())
+                .toList();
+
+            return ArtistSearchPortResponse.builder()
+                .artists(artists)
+                .limit(pageSize)
+                .offset(pageOffset)
+                .hasNext(end < TOTAL_ARTIST_COUNT)
+                .build();
+        };
+    }
+}
@@ -0,0 +1,140 @@
+package org.example.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ShowSearchIndexTest {
+
+    private final ShowSearchIndex showSearchIndex = new ShowSearchIndex();
+
+    @Test
+    @DisplayName("검색어를 포함하는 공연을 일치, 접두어, 포함 순으로 반환한다.")
+    void searchRankedByMatchType() {
+        //given
+        UUID exactShowId = UUID.randomUUID();
+        UUID prefixShowId = UUID.randomUUID();
+        UUID containsShowId = UUID.randomUUID();
+        UUID otherShowId = UUID.randomUUID();
+        showSearchIndex.rebuild(
+            () -> Map.of(
+                containsShowId, List.of("2024oasis내한공연"),
+                prefixShowId, List.of("oasis월드투어"),
+                exactShowId, List.of("oasis"),
+                otherShowId, List.of("blur내한공연")
+            )
+        );
+
+        //when
+        List<UUID> result = showSearchIndex.search("oasis", null, 10);
+
+        //then
+        assertThat(result).containsExactly(exactShowId, prefixShowId, containsShowId);
+    }
+
+    @Test
+    @DisplayName("같은 일치 등급이라면 검색어가 차지하는 비율이 큰 짧은 이름의 공연을 먼저 반환한다.")
+    void searchRankedByKeyLengthWithinMatchType() {
+        //given
+        UUID longerShowId = UUID.randomUUID();
+        UUID shorterShowId = UUID.randomUUID();
+        showSearchIndex.rebuild(
+            () -> Map.of(
+                longerShowId, List.of("oasis월드투어내한공연"),
+                shorterShowId, List.of("oasis내한")
+            )
+        );
+
+        //when
+        List<UUID> result = showSearchIndex.search("oasis", null, 10);
+
+        //then
+        assertThat(result).containsExactly(shorterShowId, longerShowId);
+    }
+
+    @Test
+    @DisplayName("커서 다음 순서의 공연부터 요청한 개수만큼 반환한다.")
+    void searchAfterCursor() {
+        //given
+        List<UUID> showIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID())
+            .stream()
+            .sorted()
+            .toList();
+        showIds.forEach(showId -> showSearchIndex.put(showId, List.of("뮤지컬공연")));
+
+        //when
+        List<UUID> result = showSearchIndex.search("공연", showIds.get(0), 1);
+
+        //then
+        assertThat(result).containsExactly(showIds.get(1));
+    }
+
+    @Test
+    @DisplayName("검색어가 바뀌거나 삭제된 공연은 검색되지 않는다.")
+    void searchAfterPutAndRemove() {
+        //given
+        UUID renamedShowId = UUID.randomUUID();
+        UUID deletedShowId = UUID.randomUUID();
+        showSearchIndex.put(renamedShowId, List.of("콜드플레이내한"));
+        showSearchIndex.put(deletedShowId, List.of("콜드플레이앵콜"));
+
+        //when
+        showSearchIndex.put(renamedShowId, List.of("뮤즈내한"));
+        showSearchIndex.remove(deletedShowId);
+
+        //then
+        assertThat(showSearchIndex.search("콜드플레이", null, 10)).isEmpty();
+        assertThat(showSearchIndex.search("뮤즈", null, 10)).containsExactly(renamedShowId);
+    }
+
+    @Test
+    @DisplayName("초성만 입력해도 공연을 검색할 수 있다.")
+    void searchByChoseong() {
+        //given
+        UUID showId = UUID.randomUUID();
+        showSearchIndex.put(showId, List.of("오아시스내한공연"));
+        showSearchIndex.put(UUID.randomUUID(), List.of("블러내한공연"));
+
+        //when
+        List<UUID> result = showSearchIndex.search("ㅇㅇㅅㅅ", null, 10);
+
+        //then
+        assertThat(result).containsExactly(showId);
+    }
+
+    @Test
+    @DisplayName("마지막 글자를 입력하는 중인 검색어로도 공연을 검색할 수 있다.")
+    void searchByPartialJamo() {
+        //given
+        UUID showId = UUID.randomUUID();
+        showSearchIndex.put(showId, List.of("오아시스내한공연"));
+
+        //when
+        List<UUID> result = showSearchIndex.search("오아싯", null, 10);
+
+        //then
+        assertThat(result).containsExactly(showId);
+    }
+
+    @Test
+    @DisplayName("색인을 다시 만드는 도중 추가되거나 삭제된 공연은 교체된 색인에도 반영된다.")
+    void keepMutationsDuringRebuild() {
+        //given
+        UUID addedShowId = UUID.randomUUID();
+        UUID deletedShowId = UUID.randomUUID();
+
+        //when
+        showSearchIndex.rebuild(() -> {
+            showSearchIndex.put(addedShowId, List.of("오아시스내한공연"));
+            showSearchIndex.remove(deletedShowId);
+            return Map.of(deletedShowId, List.of("오아시스앵콜공연"));
+        });
+
+        //then
+        assertThat(showSearchIndex.search("오아시스", null, 10)).containsExactly(addedShowId);
+    }
+}
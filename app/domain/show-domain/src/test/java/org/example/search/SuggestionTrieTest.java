@@ -0,0 +1,75 @@
+package org.example.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+import org.example.dto.search.response.SuggestionDomainResponse;
+import org.example.vo.SuggestionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SuggestionTrieTest {
+
+    @Test
+    @DisplayName("검색어로 시작하는 공연과 아티스트를 가중치 내림차순으로 반환한다.")
+    void suggestOrderedByWeight() {
+        //given
+        SuggestionDomainResponse show = suggestion("Oasis 내한공연", SuggestionType.SHOW, 30);
+        SuggestionDomainResponse artist = suggestion("Oasis", SuggestionType.ARTIST, 120);
+        SuggestionDomainResponse other = suggestion("Blur", SuggestionType.ARTIST, 500);
+        SuggestionTrie trie = SuggestionTrie.builder(10)
+            .add(show, List.of("oasis내한공연"))
+            .add(artist, List.of("Oasis"))
+            .add(other, List.of("Blur"))
+            .build();
+
+        //when
+        List<SuggestionDomainResponse> result = trie.suggest("oas", 10);
+
+        //then
+        assertThat(result).containsExactly(artist, show);
+    }
+
+    @Test
+    @DisplayName("입력 중인 글자와 초성으로도 자동완성된다.")
+    void suggestByPartialJamoAndChoseong() {
+        //given
+        SuggestionDomainResponse artist = suggestion("오아시스", SuggestionType.ARTIST, 10);
+        SuggestionTrie trie = SuggestionTrie.builder(10)
+            .add(artist, List.of("오아시스"))
+            .build();
+
+        //when
+        List<SuggestionDomainResponse> partialJamoResult = trie.suggest("오아싯", 10);
+        List<SuggestionDomainResponse> choseongResult = trie.suggest("ㅇㅇㅅ", 10);
+
+        //then
+        assertThat(partialJamoResult).containsExactly(artist);
+        assertThat(choseongResult).containsExactly(artist);
+    }
+
+    @Test
+    @DisplayName("노드마다 가중치 상위 k 개만 보관하고 같은 대상은 한 번만 반환한다.")
+    void suggestKeepsTopKWithoutDuplicates() {
+        //given
+        SuggestionDomainResponse first = suggestion("오아시스 월드투어", SuggestionType.SHOW, 300);
+        SuggestionDomainResponse second = suggestion("오아시스 내한공연", SuggestionType.SHOW, 200);
+        SuggestionDomainResponse third = suggestion("오아시스", SuggestionType.ARTIST, 100);
+        SuggestionTrie trie = SuggestionTrie.builder(2)
+            .add(third, List.of("오아시스"))
+            .add(first, List.of("오아시스월드투어", "오아시스투어"))
+            .add(second, List.of("오아시스내한공연"))
+            .build();
+
+        //when
+        List<SuggestionDomainResponse> result = trie.suggest("오아", 10);
+
+        //then
+        assertThat(result).containsExactly(first, second);
+    }
+
+    private SuggestionDomainResponse suggestion(String text, SuggestionType type, long weight) {
+        return new SuggestionDomainResponse(UUID.randomUUID(), text, type, weight);
+    }
+}
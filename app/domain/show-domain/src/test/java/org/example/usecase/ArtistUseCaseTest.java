@@ -0,0 +1,293 @@
+package org.example.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.assertj.core.api.SoftAssertions;
+import org.example.dto.artist.request.ArtistSearchPaginationDomainRequest;
+import org.example.dto.artist.response.ArtistSearchPaginationDomainResponse;
+import org.example.dto.artist.response.ArtistSearchSimpleDomainResponse;
+import org.example.entity.artist.Artist;
+import org.example.entity.genre.Genre;
+import org.example.port.ArtistSearchCachePort;
+import org.example.port.ArtistSearchPort;
+import org.example.port.dto.param.ArtistSearchPortParam;
+import org.example.port.dto.response.ArtistSearchPortResponse;
+import org.example.property.ArtistSearchProperty;
+import org.example.repository.artist.ArtistJdbcRepository;
+import org.example.repository.artist.ArtistRepository;
+import org.example.repository.genre.GenreRepository;
+import org.example.repository.show.showartist.ShowArtistRepository;
+import org.example.search.ArtistSearchFanOut;
+import org.example.search.ArtistSearchIndex;
+import org.example.vo.ArtistSearchSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ArtistUseCaseTest {
+
+    private static final String SEARCH = "oasis";
+    private static final int PAGE_SIZE = 2;
+
+    private final ArtistRepository artistRepository = mock(ArtistRepository.class);
+    private final ArtistJdbcRepository artistJdbcRepository = mock(ArtistJdbcRepository.class);
+    private final GenreRepository genreRepository = mock(GenreRepository.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final ArtistSearchCachePort artistSearchCachePort = mock(ArtistSearchCachePort.class);
+    private final ArtistSearchIndex artistSearchIndex = new ArtistSearchIndex();
+    private final ArtistSearchProperty artistSearchProperty = new ArtistSearchProperty(false, 3, 4, true);
+    private final ArtistUseCase artistUseCase = new ArtistUseCase(
+        artistRepository,
+        artistJdbcRepository,
+        mock(ShowArtistRepository.class),
+        genreRepository,
+        mock(ArtistSearchPort.class),
+        artistSearchCachePort,
+        transactionTemplate,
+        artistSearchIndex,
+        new ArtistSearchFanOut(artistSearchProperty),
+        artistSearchProperty
+    );
+
+    @Test
+    @DisplayName("로컬 결과가 더 남아 있으면 스포티파이 검색 없이 일치 점수 순으로 다음 로컬 커서를 넘긴다.")
+    void keepLocalCursorWhileLocalResultsRemain() {
+        //given
+        saveLocalArtists("oasis tribute", "oasis live", "oasis");
+
+        //when
+        ArtistSearchPaginationDomainResponse result = artistUseCase.searchArtist(searchRequest(0, null));
+
+        //then
+        SoftAssertions.assertSoftly(
+            soft -> {
+                soft.assertThat(result.data())
+                    .extracting(ArtistSearchSimpleDomainResponse::name)
+                    .containsExactly("oasis", "oasis live");
+                soft.assertThat(result.hasNext()).isTrue();
+                soft.assertThat(result.source()).isEqualTo(ArtistSearchSource.LOCAL);
+                soft.assertThat(result.offset()).isEqualTo(PAGE_SIZE);
+            }
+        );
+        verifyNoInteractions(artistSearchCachePort);
+    }
+
+    @Test
+    @DisplayName("마지막 로컬 페이지의 남은 자리는 스포티파이 결과로 채우고 다음 페이지 여부도 스포티파이 결과로 정한다.")
+    void fillLastLocalPageWithSpotifyResults() {
+        //given
+        saveLocalArtists("oasis", "oasis tribute", "oasis live");
+        givenSpotifyArtists("spotify-oasis", "spotify-new");
+
+        //when
+        ArtistSearchPaginationDomainResponse result = artistUseCase.searchArtist(
+            searchRequest(PAGE_SIZE, ArtistSearchSource.LOCAL)
+        );
+
+        //then
+        SoftAssertions.assertSoftly(
+            soft -> {
+                soft.assertThat(result.data())
+                    .extracting(ArtistSearchSimpleDomainResponse::spotifyId)
+                    .containsExactly("spotify-oasis-tribute", "spotify-new");
+                soft.assertThat(result.hasNext()).isFalse();
+                soft.assertThat(result.source()).isEqualTo(ArtistSearchSource.SPOTIFY);
+                soft.assertThat(result.offset()).isEqualTo(2);
+            }
+        );
+    }
+
+    @Test
+    @DisplayName("저장한 아티스트 중 검색 가능한 아티스트의 이름만 색인하므로 스포티파이 ID 의 일부로는 찾지 않는다.")
+    void indexOnlySearchableArtistNames() {
+        //given
+        List<ArtistSearchPortParam> params = List.of(
+            spotifyArtist("4Z8W4fKeB5YxbusRsdQVPb", "radiohead", List.of("britpop")),
+            spotifyArtist("3Nrfpe0tUJi4K4DXYWgMUX", "bts", List.of("k-pop")),
+            spotifyArtist("6olE6TJLqED3rqDCT0FyPh", "nirvana", List.of())
+        );
+        givenSavedAsIs();
+        artistSearchIndex.rebuild(Map::of);
+
+        //when
+        artistUseCase.saveArtists(params, params.stream().map(ArtistSearchPortParam::toArtist).toList());
+
+        //then
+        SoftAssertions.assertSoftly(
+            soft -> {
+                soft.assertThat(artistSearchIndex.search("radiohead", null, 10)).hasSize(1);
+                soft.assertThat(artistSearchIndex.search("bts", null, 10)).isEmpty();
+                soft.assertThat(artistSearchIndex.search("nirvana", null, 10)).isEmpty();
+                soft.assertThat(artistSearchIndex.search("4Z8W", null, 10)).isEmpty();
+            }
+        );
+    }
+
+    @Test
+    @DisplayName("검색어가 저장된 아티스트의 스포티파이 ID 와 정확히 같으면 로컬 결과의 맨 앞에 보여준다.")
+    void searchLocalArtistBySpotifyId() {
+        //given
+        List<Artist> artists = saveLocalArtists("oasis", "oasis live");
+        Artist spotifyIdMatched = Artist.builder()
+            .name("blur")
+            .image("image")
+            .spotifyId("7MhMgCo0Bl0Kukl93PZbYS")
+            .searchable(true)
+            .build()
+            .changeId(UUID.randomUUID());
+        given(artistRepository.findArtistsBySpotifyIdIn(List.of("7MhMgCo0Bl0Kukl93PZbYS")))
+            .willReturn(List.of(spotifyIdMatched));
+        given(artistRepository.findAllInIds(anyList())).willAnswer(invocation -> {
+            List<UUID> ids = invocation.getArgument(0);
+            return Stream.concat(artists.stream(), Stream.of(spotifyIdMatched))
+                .filter(artist -> ids.contains(artist.getId()))
+                .toList();
+        });
+        given(artistSearchCachePort.getOrLoadSearch(any(), anyInt(), anyInt(), any())).willReturn(
+            spotifyResponse(List.of())
+        );
+
+        //when
+        ArtistSearchPaginationDomainResponse result = artistUseCase.searchArtist(
+            ArtistSearchPaginationDomainRequest.builder()
+                .search("7MhMgCo0Bl0Kukl93PZbYS")
+                .limit(PAGE_SIZE)
+                .offset(0)
+                .source(ArtistSearchSource.LOCAL)
+                .build()
+        );
+
+        //then
+        assertThat(result.data())
+            .extracting(ArtistSearchSimpleDomainResponse::name)
+            .containsExactly("blur");
+    }
+
+    @Test
+    @DisplayName("로컬 결과에 이어지는 스포티파이 검색에서는 이미 보여준 아티스트를 제외한다.")
+    void excludeLocalArtistsAfterHandOff() {
+        //given
+        saveLocalArtists("oasis", "oasis tribute", "oasis live");
+        givenSpotifyArtists("spotify-oasis", "spotify-new");
+
+        //when
+        ArtistSearchPaginationDomainResponse result = artistUseCase.searchArtist(
+            searchRequest(0, ArtistSearchSource.SPOTIFY)
+        );
+
+        //then
+        assertThat(result.data())
+            .extracting(ArtistSearchSimpleDomainResponse::spotifyId)
+            .containsExactly("spotify-new");
+        assertThat(result.source()).isEqualTo(ArtistSearchSource.SPOTIFY);
+    }
+
+    @Test
+    @DisplayName("로컬 검색 결과가 한 페이지보다 적으면 처음부터 스포티파이로 검색하고 로컬 아티스트도 제외하지 않는다.")
+    void searchSpotifyWhenLocalResultsAreBelowPageSize() {
+        //given
+        saveLocalArtists("oasis");
+        givenSpotifyArtists("spotify-oasis", "spotify-new");
+
+        //when
+        ArtistSearchPaginationDomainResponse result = artistUseCase.searchArtist(searchRequest(0, null));
+
+        //then
+        assertThat(result.data())
+            .extracting(ArtistSearchSimpleDomainResponse::spotifyId)
+            .containsExactly("spotify-oasis", "spotify-new");
+        assertThat(result.source()).isEqualTo(ArtistSearchSource.SPOTIFY);
+        verify(artistRepository, never()).findAllInIds(anyList());
+    }
+
+    private List<Artist> saveLocalArtists(String... names) {
+        List<Artist> artists = List.of(names).stream()
+            .map(name -> Artist.builder()
+                .name(name)
+                .image("image")
+                .spotifyId("spotify-" + name.replace(' ', '-'))
+                .searchable(true)
+                .build()
+                .changeId(UUID.randomUUID())
+            )
+            .toList();
+        Map<UUID, List<String>> namesById = artists.stream()
+            .collect(Collectors.toMap(Artist::getId, artist -> List.of(artist.getName())));
+        artistSearchIndex.rebuild(() -> namesById);
+
+        Map<UUID, Artist> artistById = artists.stream()
+            .collect(Collectors.toMap(Artist::getId, Function.identity()));
+        given(artistRepository.findAllInIds(anyList())).willAnswer(invocation -> {
+            List<UUID> ids = invocation.getArgument(0);
+            return ids.stream().map(artistById::get).toList();
+        });
+        return artists;
+    }
+
+    private void givenSavedAsIs() {
+        given(genreRepository.findAllByNameIn(anyList())).willReturn(List.of(Genre.builder().name("pop").build()));
+        given(artistJdbcRepository.insertAllIgnoringConflict(anyList())).willAnswer(invocation -> {
+            List<Artist> artists = invocation.getArgument(0);
+            return artists.stream().map(Artist::getId).collect(Collectors.toSet());
+        });
+        given(transactionTemplate.execute(any())).willAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+    }
+
+    private ArtistSearchPortParam spotifyArtist(String spotifyId, String name, List<String> genres) {
+        return ArtistSearchPortParam.builder()
+            .id(spotifyId)
+            .name(name)
+            .genres(genres)
+            .imageURL("image")
+            .build();
+    }
+
+    private void givenSpotifyArtists(String... spotifyIds) {
+        List<ArtistSearchPortParam> artists = List.of(spotifyIds).stream()
+            .map(spotifyId -> spotifyArtist(spotifyId, spotifyId, List.of("britpop")))
+            .toList();
+        given(artistSearchCachePort.getOrLoadSearch(eq(SEARCH), anyInt(), anyInt(), any())).willReturn(
+            spotifyResponse(List.of())
+        );
+        given(artistSearchCachePort.getOrLoadSearch(eq(SEARCH), anyInt(), eq(0), any())).willReturn(
+            spotifyResponse(artists)
+        );
+    }
+
+    private ArtistSearchPortResponse spotifyResponse(List<ArtistSearchPortParam> artists) {
+        return ArtistSearchPortResponse.builder()
+            .artists(artists)
+            .limit(PAGE_SIZE)
+            .offset(0)
+            .hasNext(false)
+            .build();
+    }
+
+    private ArtistSearchPaginationDomainRequest searchRequest(int offset, ArtistSearchSource source) {
+        return ArtistSearchPaginationDomainRequest.builder()
+            .search(SEARCH)
+            .limit(PAGE_SIZE)
+            .offset(offset)
+            .source(source)
+            .build();
+    }
+}
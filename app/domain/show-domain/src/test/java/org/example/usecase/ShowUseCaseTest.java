@@ -0,0 +1,278 @@
+package org.example.usecase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.assertj.core.api.SoftAssertions;
+import org.example.dto.show.param.ShowPopularityDomainParam;
+import org.example.dto.show.request.ShowPaginationDomainRequest;
+import org.example.dto.show.request.ShowSearchPaginationDomainRequest;
+import org.example.dto.show.response.ShowSearchDomainResponse;
+import org.example.dto.show.response.ShowSearchPaginationDomainResponse;
+import org.example.dto.show.response.ShowTicketingDomainResponse;
+import org.example.dto.show.response.ShowTicketingPaginationDomainResponse;
+import org.example.port.ShowDetailCachePort;
+import org.example.port.ShowPopularityPort;
+import org.example.repository.show.ShowJdbcRepository;
+import org.example.repository.show.ShowRepository;
+import org.example.repository.show.showsearch.ShowSearchRepository;
+import org.example.repository.show.showticketing.ShowTicketingTimeRepository;
+import org.example.search.ShowSearchIndex;
+import org.example.vo.ShowSortType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class ShowUseCaseTest {
+
+    private static final int PAGE_SIZE = 3;
+    private static final long SNAPSHOT = 42L;
+
+    private final ShowRepository showRepository = mock(ShowRepository.class);
+    private final ShowPopularityPort showPopularityPort = mock(ShowPopularityPort.class);
+    private final ShowSearchRepository showSearchRepository = mock(ShowSearchRepository.class);
+    private final ShowSearchIndex showSearchIndex = mock(ShowSearchIndex.class);
+    private final ShowUseCase showUseCase = new ShowUseCase(
+        showRepository,
+        showSearchRepository,
+        mock(ShowTicketingTimeRepository.class),
+        mock(ShowDetailCachePort.class),
+        mock(ShowJdbcRepository.class),
+        showPopularityPort,
+        showSearchIndex
+    );
+
+    @Test
+    @DisplayName("인기순 스냅샷이 페이지 중간에 끝나면 DB 정렬로 채우지 않고 마지막 페이지로 응답한다.")
+    void finishPopularPageWhenSnapshotIsExhausted() {
+        //given
+        List<ShowPopularityDomainParam> rankedShows = List.of(
+            new ShowPopularityDomainParam(UUID.randomUUID(), 30L),
+            new ShowPopularityDomainParam(UUID.randomUUID(), 20L)
+        );
+        given(showPopularityPort.findLatestSnapshot()).willReturn(SNAPSHOT);
+        given(showPopularityPort.findRankedShows(SNAPSHOT, null, null, PAGE_SIZE + 1)).willReturn(rankedShows);
+        givenShowTicketings(rankedShows);
+
+        //when
+        ShowTicketingPaginationDomainResponse result = showUseCase.findShows(popularRequest(null, null, null));
+
+        //then
+        verify(showRepository, never()).findShows(any());
+        SoftAssertions.assertSoftly(
+            soft -> {
+                soft.assertThat(result.data()).extracting(ShowTicketingDomainResponse::id).containsExactly(
+                    rankedShows.get(0).showId(),
+                    rankedShows.get(1).showId()
+                );
+                soft.assertThat(result.hasNext()).isFalse();
+                soft.assertThat(result.cursorId()).isEqualTo(rankedShows.get(1).showId());
+                soft.assertThat(result.cursorValue()).isEqualTo(20L);
+                soft.assertThat(result.popularitySnapshot()).isEqualTo(SNAPSHOT);
+            }
+        );
+    }
+
+    @Test
+    @DisplayName("인기순 스냅샷에 조건에 맞지 않는 공연만 남아 있으면 정해진 횟수까지만 읽고 마지막으로 읽은 공연을 커서로 응답한다.")
+    void stopReadingSnapshotAfterMaxBatches() {
+        //given
+        given(showPopularityPort.findLatestSnapshot()).willReturn(SNAPSHOT);
+        given(showPopularityPort.findRankedShows(eq(SNAPSHOT), any(), any(), anyInt())).willAnswer(
+            invocation -> IntStream.range(0, PAGE_SIZE + 1)
+                .mapToObj(i -> new ShowPopularityDomainParam(UUID.randomUUID(), 10L))
+                .toList()
+        );
+        given(showRepository.findShowTicketingsByIds(anyList(), any())).willReturn(List.of());
+
+        //when
+        ShowTicketingPaginationDomainResponse result = showUseCase.findShows(popularRequest(null, null, null));
+
+        //then
+        verify(showPopularityPort, times(5)).findRankedShows(eq(SNAPSHOT), any(), any(), anyInt());
+        verify(showRepository, never()).findShows(any());
+        SoftAssertions.assertSoftly(
+            soft -> {
+                soft.assertThat(result.data()).isEmpty();
+                soft.assertThat(result.hasNext()).isTrue();
+                soft.assertThat(result.cursorId()).isNotNull();
+                soft.assertThat(result.popularitySnapshot()).isEqualTo(SNAPSHOT);
+            }
+        );
+    }
+
+    @Test
+    @DisplayName("인기순 스냅샷으로 페이지를 채우면 페이지 마지막 공연의 점수와 스냅샷 버전을 커서로 응답한다.")
+    void servePopularPageFromSnapshot() {
+        //given
+        List<ShowPopularityDomainParam> rankedShows = IntStream.range(0, PAGE_SIZE + 1)
+            .mapToObj(i -> new ShowPopularityDomainParam(UUID.randomUUID(), 100L - i))
+            .toList();
+        given(showPopularityPort.findLatestSnapshot()).willReturn(SNAPSHOT);
+        given(showPopularityPort.findRankedShows(SNAPSHOT, null, null, PAGE_SIZE + 1)).willReturn(rankedShows);
+        givenShowTicketings(rankedShows);
+
+        //when
+        ShowTicketingPaginationDomainResponse result = showUseCase.findShows(popularRequest(null, null, null));
+
+        //then
+        verify(showRepository, never()).findShows(any());
+        SoftAssertions.assertSoftly(
+            soft -> {
+                soft.assertThat(result.data()).hasSize(PAGE_SIZE);
+                soft.assertThat(result.hasNext()).isTrue();
+                soft.assertThat(result.cursorId()).isEqualTo(rankedShows.get(PAGE_SIZE - 1).showId());
+                soft.assertThat(result.cursorValue()).isEqualTo(98L);
+                soft.assertThat(result.popularitySnapshot()).isEqualTo(SNAPSHOT);
+            }
+        );
+    }
+
+    @Test
+    @DisplayName("커서에 담긴 스냅샷이 만료되었다면 같은 커서로 최신 스냅샷에서 이어서 조회한다.")
+    void continueOnLatestSnapshotWhenPinnedSnapshotExpired() {
+        //given
+        UUID cursorId = UUID.randomUUID();
+        List<ShowPopularityDomainParam> rankedShows = List.of(new ShowPopularityDomainParam(UUID.randomUUID(), 5L));
+        given(showPopularityPort.findRankedShows(SNAPSHOT, 7L, cursorId, PAGE_SIZE + 1)).willReturn(null);
+        given(showPopularityPort.findLatestSnapshot()).willReturn(SNAPSHOT + 1);
+        given(showPopularityPort.findRankedShows(SNAPSHOT + 1, 7L, cursorId, PAGE_SIZE + 1)).willReturn(rankedShows);
+        givenShowTicketings(rankedShows);
+
+        //when
+        ShowTicketingPaginationDomainResponse result = showUseCase.findShows(popularRequest(cursorId, 7L, SNAPSHOT));
+
+        //then
+        assertThat(result.data()).extracting(ShowTicketingDomainResponse::id)
+            .containsExactly(rankedShows.get(0).showId());
+        assertThat(result.popularitySnapshot()).isEqualTo(SNAPSHOT + 1);
+    }
+
+    @Test
+    @DisplayName("DB 조회수 정렬로 시작한 조회는 다음 페이지도 인기순 스냅샷을 읽지 않고 DB 조회수 정렬로 조회한다.")
+    void keepDatabasePhaseForDatabaseCursor() {
+        //given
+        given(showRepository.findShows(any())).willReturn(
+            ShowTicketingPaginationDomainResponse.builder()
+                .data(List.of())
+                .hasNext(false)
+                .build()
+        );
+
+        //when
+        showUseCase.findShows(popularRequest(UUID.randomUUID(), 7L, null));
+
+        //then
+        verify(showRepository).findShows(any());
+        verifyNoInteractions(showPopularityPort);
+    }
+
+    @Test
+    @DisplayName("인기순 인덱스는 DB 조회수를 정해진 개수씩 나누어 적재한 뒤 한 번에 교체한다.")
+    void rebuildPopularityInBatches() {
+        //given
+        List<ShowPopularityDomainParam> firstBatch = IntStream.range(0, 1000)
+            .mapToObj(i -> new ShowPopularityDomainParam(UUID.randomUUID(), i))
+            .toList();
+        List<ShowPopularityDomainParam> lastBatch = List.of(new ShowPopularityDomainParam(UUID.randomUUID(), 1L));
+        given(showRepository.findActiveViewCounts(isNull(), any(), eq(1000))).willReturn(firstBatch);
+        given(showRepository.findActiveViewCounts(eq(firstBatch.get(999).showId()), any(), eq(1000)))
+            .willReturn(lastBatch);
+
+        //when
+        showUseCase.rebuildPopularity();
+
+        //then
+        ArgumentCaptor<UUID> rebuildIdCaptor = ArgumentCaptor.forClass(UUID.class);
+        verify(showPopularityPort, times(2)).stageScores(rebuildIdCaptor.capture(), anyMap());
+        verify(showPopularityPort).replaceWithStaged(rebuildIdCaptor.getValue());
+        assertThat(rebuildIdCaptor.getAllValues()).containsOnly(rebuildIdCaptor.getValue());
+    }
+
+    @Test
+    @DisplayName("검색 색인에만 남아 있는 공연이 빠져도 다음 페이지 여부와 커서는 색인에서 읽은 공연 ID 로 정한다.")
+    void searchShowDecidesHasNextBeforeFilteringDeletedShows() {
+        //given
+        List<UUID> showIds = IntStream.range(0, PAGE_SIZE + 1)
+            .mapToObj(i -> UUID.randomUUID())
+            .toList();
+        given(showSearchIndex.isReady()).willReturn(true);
+        given(showSearchIndex.search("oasis", null, PAGE_SIZE + 1)).willReturn(showIds);
+        given(showSearchRepository.findShowSearchesByShowIds(showIds.subList(0, PAGE_SIZE))).willReturn(
+            List.of(showSearch(showIds.get(0)))
+        );
+
+        //when
+        ShowSearchPaginationDomainResponse result = showUseCase.searchShow(
+            ShowSearchPaginationDomainRequest.builder()
+                .search("oasis")
+                .size(PAGE_SIZE)
+                .build()
+        );
+
+        //then
+        SoftAssertions.assertSoftly(
+            soft -> {
+                soft.assertThat(result.data()).extracting(ShowSearchDomainResponse::id)
+                    .containsExactly(showIds.get(0));
+                soft.assertThat(result.hasNext()).isTrue();
+                soft.assertThat(result.cursor()).isEqualTo(showIds.get(PAGE_SIZE - 1));
+            }
+        );
+    }
+
+    private void givenShowTicketings(List<ShowPopularityDomainParam> rankedShows) {
+        given(showRepository.findShowTicketingsByIds(anyList(), any())).willReturn(
+            rankedShows.stream().map(rankedShow -> showTicketing(rankedShow.showId())).toList()
+        );
+    }
+
+    private ShowPaginationDomainRequest popularRequest(UUID cursorId, Long cursorValue, Long popularitySnapshot) {
+        return ShowPaginationDomainRequest.builder()
+            .sort(ShowSortType.POPULAR)
+            .cursorId(cursorId)
+            .cursorValue(cursorValue)
+            .popularitySnapshot(popularitySnapshot)
+            .size(PAGE_SIZE)
+            .now(LocalDateTime.now())
+            .build();
+    }
+
+    private ShowSearchDomainResponse showSearch(UUID showId) {
+        return new ShowSearchDomainResponse(
+            showId,
+            "oasis",
+            LocalDate.now(),
+            LocalDate.now().plusDays(10),
+            "location",
+            "image"
+        );
+    }
+
+    private ShowTicketingDomainResponse showTicketing(UUID showId) {
+        return new ShowTicketingDomainResponse(
+            showId,
+            "title",
+            LocalDate.now().plusDays(10),
+            LocalDateTime.now().plusDays(1),
+            "location",
+            "image"
+        );
+    }
+}
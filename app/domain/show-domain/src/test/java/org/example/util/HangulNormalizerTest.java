@@ -0,0 +1,35 @@
+package org.example.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HangulNormalizerTest {
+
+    @Test
+    @DisplayName("공백을 제거하고 소문자로 변환한다.")
+    void normalize() {
+        assertThat(HangulNormalizer.normalize(" Oasis 내한 공연 ")).isEqualTo("oasis내한공연");
+    }
+
+    @Test
+    @DisplayName("겹모음과 겹받침까지 입력 순서대로의 자모로 분해한다.")
+    void toJamo() {
+        assertThat(HangulNormalizer.toJamo("왔닭a")).isEqualTo("ㅇㅗㅏㅆㄷㅏㄹㄱa");
+    }
+
+    @Test
+    @DisplayName("음절은 초성으로 바꾸고 그 외 문자는 그대로 둔다.")
+    void toChoseong() {
+        assertThat(HangulNormalizer.toChoseong("bts월드투어")).isEqualTo("btsㅇㄷㅌㅇ");
+    }
+
+    @Test
+    @DisplayName("자음으로만 이루어진 검색어는 초성 검색어로 판단한다.")
+    void isChoseongOnly() {
+        assertThat(HangulNormalizer.isChoseongOnly("ㅇㅇㅅㅅ")).isTrue();
+        assertThat(HangulNormalizer.isChoseongOnly("ㅇㅏ")).isFalse();
+        assertThat(HangulNormalizer.isChoseongOnly("oasis")).isFalse();
+    }
+}
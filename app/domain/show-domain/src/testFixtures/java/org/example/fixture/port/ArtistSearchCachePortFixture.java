@@ -0,0 +1,30 @@
+package org.example.fixture.port;
+
+import java.util.List;
+import java.util.function.Supplier;
+import org.example.port.ArtistSearchCachePort;
+import org.example.port.dto.response.ArtistSearchPortResponse;
+import org.example.port.dto.response.ArtistsDetailPortResponse;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ArtistSearchCachePortFixture implements ArtistSearchCachePort {
+
+    @Override
+    public ArtistSearchPortResponse getOrLoadSearch(
+        String search,
+        int limit,
+        int offset,
+        Supplier<ArtistSearchPortResponse> loader
+    ) {
+        return loader.get();
+    }
+
+    @Override
+    public ArtistsDetailPortResponse getOrLoadArtists(
+        List<String> spotifyArtistIds,
+        Supplier<ArtistsDetailPortResponse> loader
+    ) {
+        return loader.get();
+    }
+}
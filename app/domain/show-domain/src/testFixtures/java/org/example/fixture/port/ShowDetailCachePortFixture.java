@@ -0,0 +1,23 @@
+package org.example.fixture.port;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.example.dto.show.response.ShowDetailDomainResponse;
+import org.example.port.ShowDetailCachePort;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ShowDetailCachePortFixture implements ShowDetailCachePort {
+
+    @Override
+    public ShowDetailDomainResponse getOrLoad(
+        UUID showId,
+        Supplier<ShowDetailDomainResponse> loader
+    ) {
+        return loader.get();
+    }
+
+    @Override
+    public void evict(UUID showId) {
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.fixture.port;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.example.dto.show.param.ShowPopularityDomainParam;
+import org.example.port.ShowPopularityPort;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ShowPopularityPortFixture implements ShowPopularityPort {
+
+    @Override
+    public void increaseScores(Map<UUID, Long> viewCountDeltas) {
+    }
+
+    @Override
+    public void registerIfAbsent(Map<UUID, Long> viewCounts) {
+    }
+
+    @Override
+    public void remove(UUID showId) {
+    }
+
+    @Override
+    public void stageScores(UUID rebuildId, Map<UUID, Long> viewCounts) {
+    }
+
+    @Override
+    public void replaceWithStaged(UUID rebuildId) {
+    }
+
+    @Override
+    public void createSnapshot() {
+    }
+
+    @Override
+    public Long findLatestSnapshot() {
+        return null;
+    }
+
+    @Override
+    public List<ShowPopularityDomainParam> findRankedShows(
+        long snapshot,
+        Long cursorScore,
+        UUID cursorId,
+        int size
+    ) {
+        return null;
+    }
+}
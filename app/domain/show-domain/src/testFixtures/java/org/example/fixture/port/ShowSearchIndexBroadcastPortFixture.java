@@ -0,0 +1,18 @@
+package org.example.fixture.port;
+
+import java.util.List;
+import java.util.UUID;
+import org.example.port.ShowSearchIndexBroadcastPort;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ShowSearchIndexBroadcastPortFixture implements ShowSearchIndexBroadcastPort {
+
+    @Override
+    public void broadcastPut(UUID showId, List<String> names) {
+    }
+
+    @Override
+    public void broadcastRemove(UUID showId) {
+    }
+}
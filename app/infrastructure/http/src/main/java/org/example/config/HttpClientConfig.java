@@ -0,0 +1,11 @@
+package org.example.config;
+
+import org.example.http.HttpClientProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(HttpClientProperty.class)
+public class HttpClientConfig {
+
+}
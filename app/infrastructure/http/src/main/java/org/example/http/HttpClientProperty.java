@@ -0,0 +1,59 @@
+package org.example.http;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "http-client")
+public record HttpClientProperty(
+    Map<String, PoolProperty> pools
+) {
+
+    public HttpClientProperty {
+        if (pools == null) {
+            pools = Map.of();
+        }
+    }
+
+    public PoolProperty getPool(String name) {
+        return pools.getOrDefault(name, PoolProperty.DEFAULT);
+    }
+
+    public record PoolProperty(
+        Duration connectTimeout,
+        Duration readTimeout,
+        Duration connectionRequestTimeout,
+        Duration idleTimeout,
+        int maxConnections,
+        int maxConnectionsPerRoute
+    ) {
+
+        private static final PoolProperty DEFAULT = new PoolProperty(null, null, null, null, 0, 0);
+
+        public PoolProperty {
+            if (connectTimeout == null) {
+                connectTimeout = Duration.ofSeconds(1);
+            }
+
+            if (readTimeout == null) {
+                readTimeout = Duration.ofSeconds(3);
+            }
+
+            if (connectionRequestTimeout == null) {
+                connectionRequestTimeout = Duration.ofMillis(500);
+            }
+
+            if (idleTimeout == null) {
+                idleTimeout = Duration.ofSeconds(30);
+            }
+
+            if (maxConnections <= 0) {
+                maxConnections = 50;
+            }
+
+            if (maxConnectionsPerRoute <= 0) {
+                maxConnectionsPerRoute = 20;
+            }
+        }
+    }
+}
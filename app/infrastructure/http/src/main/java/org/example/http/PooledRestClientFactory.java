@@ -0,0 +1,83 @@
+package org.example.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.example.http.HttpClientProperty.PoolProperty;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+/**
+ * 외부 API 클라이언트마다 커넥션 풀과 타임아웃을 가진 RestClient 를 한 번만 만들어 재사용하게 합니다.
+ * 풀 설정은 http-client.pools.{name} 으로 지정하며, 커넥션은 호스트별로 풀링되고 풀 사용량은 name 태그로 메트릭에 노출됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PooledRestClientFactory {
+
+    private final HttpClientProperty httpClientProperty;
+    private final MeterRegistry meterRegistry;
+    private final List<CloseableHttpClient> httpClients = new CopyOnWriteArrayList<>();
+
+    public RestClient create(String name) {
+        PoolProperty pool = httpClientProperty.getPool(name);
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(pool.maxConnections())
+            .setMaxConnPerRoute(pool.maxConnectionsPerRoute())
+            .setDefaultConnectionConfig(
+                ConnectionConfig.custom()
+                    .setConnectTimeout(Timeout.ofMilliseconds(pool.connectTimeout().toMillis()))
+                    .setSocketTimeout(Timeout.ofMilliseconds(pool.readTimeout().toMillis()))
+                    .build()
+            )
+            .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(
+                RequestConfig.custom()
+                    .setConnectionRequestTimeout(
+                        Timeout.ofMilliseconds(pool.connectionRequestTimeout().toMillis())
+                    )
+                    .setResponseTimeout(Timeout.ofMilliseconds(pool.readTimeout().toMillis()))
+                    .build()
+            )
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofMilliseconds(pool.idleTimeout().toMillis()))
+            .build();
+        httpClients.add(httpClient);
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, name).bindTo(meterRegistry);
+
+        return RestClient.builder()
+            .requestFactory(new HttpComponentsClientHttpRequestFactory(httpClient))
+            .build();
+    }
+
+    @PreDestroy
+    public void close() {
+        for (CloseableHttpClient httpClient : httpClients) {
+            try {
+                httpClient.close();
+            } catch (IOException e) {
+                log.warn("Failed to close pooled http client", e);
+            }
+        }
+    }
+}
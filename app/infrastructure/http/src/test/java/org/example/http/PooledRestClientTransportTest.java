@@ -0,0 +1,167 @@
+package org.example.http;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import org.example.http.HttpClientProperty.PoolProperty;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+class PooledRestClientTransportTest {
+
+    private static final String POOL_NAME = "spotify";
+    private static final int THREAD_COUNT = 8;
+    private static final int REQUEST_COUNT_PER_THREAD = 25;
+    private static final double THROUGHPUT_TOLERANCE = 0.8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PooledRestClientFactory pooledRestClientFactory = new PooledRestClientFactory(
+        new HttpClientProperty(
+            Map.of(
+                POOL_NAME,
+                new PoolProperty(
+                    Duration.ofMillis(500),
+                    Duration.ofMillis(300),
+                    Duration.ofMillis(500),
+                    Duration.ofSeconds(30),
+                    THREAD_COUNT,
+                    THREAD_COUNT
+                )
+            )
+        ),
+        meterRegistry
+    );
+    private final WireMockServer wireMockServer = new WireMockServer(options().dynamicPort());
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer.start();
+        wireMockServer.stubFor(get(urlEqualTo("/search"))
+            .willReturn(aResponse().withStatus(200).withFixedDelay(5).withBody("{}")));
+        wireMockServer.stubFor(get(urlEqualTo("/slow"))
+            .willReturn(aResponse().withStatus(200).withFixedDelay(1_500).withBody("{}")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        pooledRestClientFactory.close();
+        wireMockServer.stop();
+    }
+
+    @Test
+    @DisplayName("풀링된 클라이언트는 느린 응답을 읽기 타임아웃 안에 끊고, 기존 방식은 응답이 올 때까지 기다린다.")
+    void boundSlowResponseByReadTimeout() {
+        //given
+        RestClient pooledRestClient = pooledRestClientFactory.create(POOL_NAME);
+        String url = wireMockServer.baseUrl() + "/slow";
+
+        //when
+        long pooledStartedAt = System.nanoTime();
+        assertThatThrownBy(() -> pooledRestClient.get().uri(url).retrieve().toBodilessEntity())
+            .isInstanceOf(ResourceAccessException.class);
+        Duration pooledElapsed = Duration.ofNanos(System.nanoTime() - pooledStartedAt);
+
+        long currentStartedAt = System.nanoTime();
+        RestClient.create(url).get().retrieve().toBodilessEntity();
+        Duration currentElapsed = Duration.ofNanos(System.nanoTime() - currentStartedAt);
+
+        //then
+        assertThat(pooledElapsed).isLessThan(Duration.ofSeconds(1));
+        assertThat(currentElapsed).isGreaterThanOrEqualTo(Duration.ofMillis(1_500));
+    }
+
+    @Test
+    @DisplayName("풀링된 클라이언트는 동시 요청 수만큼의 커넥션만 열고, 이후 요청은 반납된 커넥션을 재사용한다.")
+    void reuseConnectionsAcrossRequests() throws Exception {
+        //given
+        RestClient pooledRestClient = pooledRestClientFactory.create(POOL_NAME);
+        String url = wireMockServer.baseUrl() + "/search";
+
+        //when
+        runConcurrently(() -> pooledRestClient.get().uri(url).retrieve().body(String.class));
+
+        //then
+        double availableConnections = poolConnections("available");
+        double leasedConnections = poolConnections("leased");
+        assertThat(leasedConnections).isZero();
+        assertThat(availableConnections).isBetween(1.0, (double) THREAD_COUNT);
+        assertThat(wireMockServer.getAllServeEvents()).hasSize(THREAD_COUNT * REQUEST_COUNT_PER_THREAD);
+    }
+
+    @Test
+    @DisplayName("풀링된 클라이언트의 동시 요청 처리량은 요청마다 클라이언트를 만드는 기존 방식보다 낮아지지 않는다.")
+    void keepThroughputOfClientPerRequest() throws Exception {
+        //given
+        RestClient pooledRestClient = pooledRestClientFactory.create(POOL_NAME);
+        String url = wireMockServer.baseUrl() + "/search";
+        Supplier<String> pooledRequest = () -> pooledRestClient.get().uri(url).retrieve().body(String.class);
+        Supplier<String> clientPerRequest = () -> RestClient.create(url).get().retrieve().body(String.class);
+        runConcurrently(pooledRequest);
+        runConcurrently(clientPerRequest);
+
+        //when
+        double pooledThroughput = measureThroughput(pooledRequest);
+        double clientPerRequestThroughput = measureThroughput(clientPerRequest);
+
+        //then
+        System.out.printf(
+            "pooled: %.1f req/s, client per request: %.1f req/s%n",
+            pooledThroughput,
+            clientPerRequestThroughput
+        );
+        assertThat(pooledThroughput).isGreaterThanOrEqualTo(clientPerRequestThroughput * THROUGHPUT_TOLERANCE);
+    }
+
+    private double measureThroughput(Supplier<String> request) throws Exception {
+        long startedAt = System.nanoTime();
+        runConcurrently(request);
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        return THREAD_COUNT * REQUEST_COUNT_PER_THREAD / elapsedSeconds;
+    }
+
+    private double poolConnections(String state) {
+        return meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+            .tags("httpclient", POOL_NAME, "state", state)
+            .gauge()
+            .value();
+    }
+
+    private void runConcurrently(Supplier<String> request) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                futures.add(executorService.submit(() -> {
+                    for (int j = 0; j < REQUEST_COUNT_PER_THREAD; j++) {
+                        request.get();
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}
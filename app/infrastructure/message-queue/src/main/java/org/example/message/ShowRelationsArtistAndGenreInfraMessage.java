@@ -0,0 +1,19 @@
+package org.example.message;
+
+import com.example.pub.message.ShowRelationsArtistAndGenreServiceMessage;
+import java.util.List;
+
+public record ShowRelationsArtistAndGenreInfraMessage(
+    List<ShowRelationArtistAndGenreInfraMessage> shows
+) {
+
+    public static ShowRelationsArtistAndGenreInfraMessage from(
+        ShowRelationsArtistAndGenreServiceMessage message
+    ) {
+        return new ShowRelationsArtistAndGenreInfraMessage(
+            message.shows().stream()
+                .map(ShowRelationArtistAndGenreInfraMessage::from)
+                .toList()
+        );
+    }
+}
@@ -4,12 +4,14 @@ import com.example.pub.MessagePublisher;
 import com.example.pub.message.ArtistSubscriptionServiceMessage;
 import com.example.pub.message.GenreSubscriptionServiceMessage;
 import com.example.pub.message.ShowRelationArtistAndGenreServiceMessage;
+import com.example.pub.message.ShowRelationsArtistAndGenreServiceMessage;
 import com.example.pub.message.TicketingAlertsToReserveServiceMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.message.ArtistSubscriptionInfraMessage;
 import org.example.message.GenreSubscriptionInfraMessage;
 import org.example.message.ShowRelationArtistAndGenreInfraMessage;
+import org.example.message.ShowRelationsArtistAndGenreInfraMessage;
 import org.example.message.TicketingReservationInfraMessage;
 import org.example.metric.MessageQueuePubMonitored;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -29,6 +31,13 @@ public class RedisMessagePublisher implements MessagePublisher {
         publishMessage(topic, infraMessage);
     }
 
+    @Override
+    @MessageQueuePubMonitored(topic = "shows")
+    public void publishShows(String topic, ShowRelationsArtistAndGenreServiceMessage message) {
+        var infraMessage = ShowRelationsArtistAndGenreInfraMessage.from(message);
+        publishMessage(topic, infraMessage);
+    }
+
     @Override
     @MessageQueuePubMonitored(topic = "artistSubscription")
     public void publishArtistSubscription(String topic, ArtistSubscriptionServiceMessage message) {
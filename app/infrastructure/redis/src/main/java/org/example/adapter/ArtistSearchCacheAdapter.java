@@ -0,0 +1,218 @@
+package org.example.adapter;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.example.port.ArtistSearchCachePort;
+import org.example.port.dto.response.ArtistSearchPortResponse;
+import org.example.port.dto.response.ArtistsDetailPortResponse;
+import org.example.property.ArtistSearchCacheProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 아티스트 검색(Spotify) 결과를 Redis 에 저장해 모든 인스턴스가 공유하는 stale-while-revalidate 캐시입니다.
+ * 신선 기간이 지난 결과는 즉시 반환하고 백그라운드에서 한 인스턴스만 다시 조회하며,
+ * 재조회가 실패(429 등)하면 stale 기간이 끝날 때까지 기존 결과를 계속 반환합니다.
+ */
+@Slf4j
+@Component
+public class ArtistSearchCacheAdapter implements ArtistSearchCachePort {
+
+    private static final String SEARCH_KEY_PREFIX = "AS:";
+    private static final String ARTISTS_KEY_PREFIX = "AD:";
+    private static final String REVALIDATE_LOCK_PREFIX = "ASL:";
+    private static final Duration REVALIDATE_LOCK_TIME_TO_LIVE = Duration.ofSeconds(30);
+    private static final int REVALIDATE_THREAD_COUNT = 2;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration freshTimeToLive;
+    private final Duration remoteTimeToLive;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService revalidateExecutor;
+    private final Set<String> revalidatingKeys = ConcurrentHashMap.newKeySet();
+    private final Counter freshHitCounter;
+    private final Counter staleHitCounter;
+    private final Counter missCounter;
+    private final Counter revalidateFailureCounter;
+
+    @Autowired
+    public ArtistSearchCacheAdapter(
+        StringRedisTemplate stringRedisTemplate,
+        ArtistSearchCacheProperty artistSearchCacheProperty,
+        MeterRegistry meterRegistry
+    ) {
+        this(
+            stringRedisTemplate,
+            artistSearchCacheProperty,
+            meterRegistry,
+            Executors.newFixedThreadPool(REVALIDATE_THREAD_COUNT, runnable -> {
+                Thread thread = new Thread(runnable, "artist-search-revalidate");
+                thread.setDaemon(true);
+                return thread;
+            })
+        );
+    }
+
+    ArtistSearchCacheAdapter(
+        StringRedisTemplate stringRedisTemplate,
+        ArtistSearchCacheProperty artistSearchCacheProperty,
+        MeterRegistry meterRegistry,
+        ExecutorService revalidateExecutor
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.freshTimeToLive = artistSearchCacheProperty.freshTimeToLive();
+        this.remoteTimeToLive = freshTimeToLive.plus(artistSearchCacheProperty.staleTimeToLive());
+        this.objectMapper = JsonMapper.builder()
+            .visibility(PropertyAccessor.GETTER, Visibility.NONE)
+            .visibility(PropertyAccessor.IS_GETTER, Visibility.NONE)
+            .visibility(PropertyAccessor.FIELD, Visibility.ANY)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+        this.revalidateExecutor = revalidateExecutor;
+
+        this.freshHitCounter = meterRegistry.counter("cache.artist.search.hit", "state", "fresh");
+        this.staleHitCounter = meterRegistry.counter("cache.artist.search.hit", "state", "stale");
+        this.missCounter = meterRegistry.counter("cache.artist.search.miss");
+        this.revalidateFailureCounter = meterRegistry.counter("cache.artist.search.revalidate.failure");
+    }
+
+    @Override
+    public ArtistSearchPortResponse getOrLoadSearch(
+        String search,
+        int limit,
+        int offset,
+        Supplier<ArtistSearchPortResponse> loader
+    ) {
+        String key = SEARCH_KEY_PREFIX + limit + ":" + offset + ":" + normalize(search);
+        return getOrLoad(key, ArtistSearchPortResponse.class, loader);
+    }
+
+    @Override
+    public ArtistsDetailPortResponse getOrLoadArtists(
+        List<String> spotifyArtistIds,
+        Supplier<ArtistsDetailPortResponse> loader
+    ) {
+        String key = ARTISTS_KEY_PREFIX + String.join(",", spotifyArtistIds.stream().sorted().toList());
+        return getOrLoad(key, ArtistsDetailPortResponse.class, loader);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        revalidateExecutor.shutdownNow();
+    }
+
+    private <T> T getOrLoad(String key, Class<T> valueType, Supplier<T> loader) {
+        CacheEntry<T> cached = readRemote(key, valueType);
+        if (cached == null) {
+            missCounter.increment();
+            T loaded = loader.get();
+            writeRemote(key, loaded);
+            return loaded;
+        }
+
+        if (System.currentTimeMillis() - cached.fetchedAt() < freshTimeToLive.toMillis()) {
+            freshHitCounter.increment();
+        } else {
+            staleHitCounter.increment();
+            revalidate(key, loader);
+        }
+        return cached.value();
+    }
+
+    /**
+     * 같은 키의 재조회는 인스턴스 안에서는 진행 중인 키 집합으로, 인스턴스 간에는 Redis 잠금으로 한 번만 수행합니다.
+     * Redis 장애로 잠금을 얻지 못하면 재조회를 건너뛰어, 장애 중에 요청마다 외부 API 를 호출하지 않습니다.
+     */
+    private <T> void revalidate(String key, Supplier<T> loader) {
+        if (!revalidatingKeys.add(key)) {
+            return;
+        }
+
+        try {
+            revalidateExecutor.execute(() -> {
+                try {
+                    if (tryLockRevalidation(key)) {
+                        writeRemote(key, loader.get());
+                    }
+                } catch (RuntimeException e) {
+                    revalidateFailureCounter.increment();
+                    log.warn("Failed to revalidate artist search cache, serving stale: {}", key, e);
+                } finally {
+                    revalidatingKeys.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            revalidatingKeys.remove(key);
+        }
+    }
+
+    private boolean tryLockRevalidation(String key) {
+        try {
+            return Boolean.TRUE.equals(
+                stringRedisTemplate.opsForValue()
+                    .setIfAbsent(REVALIDATE_LOCK_PREFIX + key, "1", REVALIDATE_LOCK_TIME_TO_LIVE)
+            );
+        } catch (RuntimeException e) {
+            log.warn("Failed to lock artist search cache revalidation: {}", key, e);
+            return false;
+        }
+    }
+
+    private <T> CacheEntry<T> readRemote(String key, Class<T> valueType) {
+        try {
+            String value = stringRedisTemplate.opsForValue().get(key);
+            if (value == null) {
+                return null;
+            }
+
+            JavaType entryType = objectMapper.getTypeFactory()
+                .constructParametricType(CacheEntry.class, valueType);
+            return objectMapper.readValue(value, entryType);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to read artist search cache: {}", key, e);
+            return null;
+        }
+    }
+
+    private <T> void writeRemote(String key, T value) {
+        try {
+            stringRedisTemplate.opsForValue().set(
+                key,
+                objectMapper.writeValueAsString(new CacheEntry<>(System.currentTimeMillis(), value)),
+                remoteTimeToLive
+            );
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to write artist search cache: {}", key, e);
+        }
+    }
+
+    private String normalize(String search) {
+        return String.join(" ", search.strip().toLowerCase(Locale.ROOT).split("\\s+"));
+    }
+
+    record CacheEntry<T>(
+        long fetchedAt,
+        T value
+    ) {
+
+    }
+}
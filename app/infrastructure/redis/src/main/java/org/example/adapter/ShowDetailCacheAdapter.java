@@ -0,0 +1,126 @@
+package org.example.adapter;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.example.dto.show.response.ShowDetailDomainResponse;
+import org.example.port.ShowDetailCachePort;
+import org.example.property.ShowDetailCacheProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공연 상세 조회 결과를 로컬(Caffeine) -> Redis -> DB 순서로 조회하는 2단 캐시입니다.
+ * 다른 인스턴스의 로컬 캐시는 무효화 신호를 받지 않으므로 로컬 TTL 을 짧게 유지합니다.
+ */
+@Slf4j
+@Component
+public class ShowDetailCacheAdapter implements ShowDetailCachePort {
+
+    private static final String KEY_PREFIX = "SD:";
+    private static final String LOCAL_CACHE_NAME = "show.detail.local";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration remoteTimeToLive;
+    private final Cache<UUID, ShowDetailDomainResponse> localCache;
+    private final ObjectMapper objectMapper;
+    private final Counter remoteHitCounter;
+    private final Counter remoteMissCounter;
+    private final Timer loadTimer;
+
+    public ShowDetailCacheAdapter(
+        StringRedisTemplate stringRedisTemplate,
+        ShowDetailCacheProperty showDetailCacheProperty,
+        MeterRegistry meterRegistry
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.remoteTimeToLive = showDetailCacheProperty.remoteTimeToLive();
+        this.localCache = Caffeine.newBuilder()
+            .maximumSize(showDetailCacheProperty.localMaximumSize())
+            .expireAfterWrite(showDetailCacheProperty.localTimeToLive())
+            .recordStats()
+            .build();
+        this.objectMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .visibility(PropertyAccessor.GETTER, Visibility.NONE)
+            .visibility(PropertyAccessor.IS_GETTER, Visibility.NONE)
+            .visibility(PropertyAccessor.FIELD, Visibility.ANY)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, LOCAL_CACHE_NAME);
+        this.remoteHitCounter = meterRegistry.counter("cache.show.detail.remote.hit");
+        this.remoteMissCounter = meterRegistry.counter("cache.show.detail.remote.miss");
+        this.loadTimer = Timer.builder("cache.show.detail.load.time").register(meterRegistry);
+    }
+
+    @Override
+    public ShowDetailDomainResponse getOrLoad(
+        UUID showId,
+        Supplier<ShowDetailDomainResponse> loader
+    ) {
+        return localCache.get(showId, key -> getFromRemoteOrLoad(key, loader));
+    }
+
+    @Override
+    public void evict(UUID showId) {
+        localCache.invalidate(showId);
+        try {
+            stringRedisTemplate.delete(KEY_PREFIX + showId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to evict show detail cache: {}", showId, e);
+        }
+    }
+
+    private ShowDetailDomainResponse getFromRemoteOrLoad(
+        UUID showId,
+        Supplier<ShowDetailDomainResponse> loader
+    ) {
+        ShowDetailDomainResponse cached = readRemote(showId);
+        if (cached != null) {
+            remoteHitCounter.increment();
+            return cached;
+        }
+
+        remoteMissCounter.increment();
+        ShowDetailDomainResponse loaded = loadTimer.record(loader);
+        writeRemote(showId, loaded);
+        return loaded;
+    }
+
+    private ShowDetailDomainResponse readRemote(UUID showId) {
+        try {
+            String value = stringRedisTemplate.opsForValue().get(KEY_PREFIX + showId);
+            return value == null ? null : objectMapper.readValue(value, ShowDetailDomainResponse.class);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to read show detail cache: {}", showId, e);
+            return null;
+        }
+    }
+
+    private void writeRemote(UUID showId, ShowDetailDomainResponse showDetail) {
+        try {
+            stringRedisTemplate.opsForValue().set(
+                KEY_PREFIX + showId,
+                objectMapper.writeValueAsString(showDetail),
+                remoteTimeToLive
+            );
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to write show detail cache: {}", showId, e);
+        }
+    }
+}
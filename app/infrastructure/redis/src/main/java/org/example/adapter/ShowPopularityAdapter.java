@@ -0,0 +1,227 @@
+package org.example.adapter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.dto.show.param.ShowPopularityDomainParam;
+import org.example.port.ShowPopularityPort;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공연 조회수를 점수로 하는 Redis sorted set 인기순 인덱스입니다.
+ * 조회수 집계는 현재 인덱스에 반영되고, 목록 조회는 현재 인덱스를 주기적으로 복사한 버전별 스냅샷에서 읽어
+ * 커서에 담긴 스냅샷이 만료되기 전까지 페이지를 넘겨도 순서가 바뀌지 않습니다.
+ * 같은 점수는 member(공연 ID) 사전순 내림차순으로 정렬되며, 모든 키는 같은 해시 태그를 사용해 한 슬롯에 모입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShowPopularityAdapter implements ShowPopularityPort {
+
+    private static final String KEY = "SP:{popularity}";
+    private static final byte[] KEY_BYTES = KEY.getBytes(StandardCharsets.UTF_8);
+    private static final String SNAPSHOT_VERSION_KEY = KEY + ":version";
+    private static final String LATEST_SNAPSHOT_KEY = KEY + ":latest";
+    private static final Duration SNAPSHOT_TIME_TO_LIVE = Duration.ofMinutes(30);
+    private static final Duration STAGING_TIME_TO_LIVE = Duration.ofMinutes(10);
+
+    private static final RedisScript<Long> CREATE_SNAPSHOT_SCRIPT = new DefaultRedisScript<>(
+        """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            redis.call('COPY', KEYS[1], KEYS[2], 'REPLACE')
+            redis.call('EXPIRE', KEYS[2], ARGV[2])
+            redis.call('SET', KEYS[3], ARGV[1])
+            return 1
+            """,
+        Long.class
+    );
+
+    private static final RedisScript<Long> REPLACE_WITH_STAGED_SCRIPT = new DefaultRedisScript<>(
+        """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return redis.call('DEL', KEYS[2])
+            end
+            redis.call('RENAME', KEYS[1], KEYS[2])
+            return redis.call('PERSIST', KEYS[2])
+            """,
+        Long.class
+    );
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> FIND_AFTER_CURSOR_SCRIPT = new DefaultRedisScript<>(
+        """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return false
+            end
+            local limit = tonumber(ARGV[1])
+            local hasCursor = ARGV[2] ~= ''
+            local cursorScore = tonumber(ARGV[2])
+            local cursorMember = ARGV[3]
+            local max = hasCursor and ARGV[2] or '+inf'
+            local batch = limit * 2
+            local offset = 0
+            local result = {}
+            while #result < limit * 2 do
+                local items = redis.call(
+                    'ZREVRANGEBYSCORE', KEYS[1], max, '-inf', 'WITHSCORES', 'LIMIT', offset, batch
+                )
+                for i = 1, #items, 2 do
+                    if #result < limit * 2 and (not hasCursor
+                        or tonumber(items[i + 1]) < cursorScore or items[i] < cursorMember) then
+                        result[#result + 1] = items[i]
+                        result[#result + 1] = items[i + 1]
+                    end
+                end
+                if #items < batch * 2 then
+                    break
+                end
+                offset = offset + batch
+            end
+            return result
+            """,
+        List.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public void increaseScores(Map<UUID, Long> viewCountDeltas) {
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                viewCountDeltas.forEach((showId, delta) ->
+                    connection.zSetCommands().zIncrBy(
+                        KEY_BYTES,
+                        delta,
+                        showId.toString().getBytes(StandardCharsets.UTF_8)
+                    )
+                );
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to increase show popularity scores: {}", viewCountDeltas.keySet(), e);
+        }
+    }
+
+    @Override
+    public void registerIfAbsent(Map<UUID, Long> viewCounts) {
+        if (viewCounts.isEmpty()) {
+            return;
+        }
+
+        try {
+            stringRedisTemplate.opsForZSet().addIfAbsent(KEY, toTuples(viewCounts));
+        } catch (RuntimeException e) {
+            log.warn("Failed to register show popularity: {}", viewCounts.keySet(), e);
+        }
+    }
+
+    @Override
+    public void remove(UUID showId) {
+        try {
+            stringRedisTemplate.opsForZSet().remove(KEY, showId.toString());
+        } catch (RuntimeException e) {
+            log.warn("Failed to remove show popularity: {}", showId, e);
+        }
+    }
+
+    @Override
+    public void stageScores(UUID rebuildId, Map<UUID, Long> viewCounts) {
+        if (viewCounts.isEmpty()) {
+            return;
+        }
+
+        String stagingKey = stagingKey(rebuildId);
+        stringRedisTemplate.opsForZSet().add(stagingKey, toTuples(viewCounts));
+        stringRedisTemplate.expire(stagingKey, STAGING_TIME_TO_LIVE);
+    }
+
+    @Override
+    public void replaceWithStaged(UUID rebuildId) {
+        stringRedisTemplate.execute(REPLACE_WITH_STAGED_SCRIPT, List.of(stagingKey(rebuildId), KEY));
+    }
+
+    @Override
+    public void createSnapshot() {
+        Long version = stringRedisTemplate.opsForValue().increment(SNAPSHOT_VERSION_KEY);
+        stringRedisTemplate.execute(
+            CREATE_SNAPSHOT_SCRIPT,
+            List.of(KEY, snapshotKey(version), LATEST_SNAPSHOT_KEY),
+            String.valueOf(version),
+            String.valueOf(SNAPSHOT_TIME_TO_LIVE.toSeconds())
+        );
+    }
+
+    @Override
+    public Long findLatestSnapshot() {
+        try {
+            String version = stringRedisTemplate.opsForValue().get(LATEST_SNAPSHOT_KEY);
+            return version == null ? null : Long.valueOf(version);
+        } catch (RuntimeException e) {
+            log.warn("Failed to find latest show popularity snapshot", e);
+            return null;
+        }
+    }
+
+    @Override
+    public List<ShowPopularityDomainParam> findRankedShows(
+        long snapshot,
+        Long cursorScore,
+        UUID cursorId,
+        int size
+    ) {
+        List<?> items;
+        try {
+            items = stringRedisTemplate.execute(
+                FIND_AFTER_CURSOR_SCRIPT,
+                List.of(snapshotKey(snapshot)),
+                String.valueOf(size),
+                cursorScore == null ? "" : String.valueOf(cursorScore),
+                cursorId == null ? "" : cursorId.toString()
+            );
+        } catch (RuntimeException e) {
+            log.warn("Failed to find ranked shows after cursor: {}, {}, {}", snapshot, cursorScore, cursorId, e);
+            return null;
+        }
+
+        if (items == null) {
+            return null;
+        }
+
+        List<ShowPopularityDomainParam> rankedShows = new ArrayList<>(items.size() / 2);
+        for (int i = 0; i + 1 < items.size(); i += 2) {
+            rankedShows.add(new ShowPopularityDomainParam(
+                UUID.fromString(items.get(i).toString()),
+                (long) Double.parseDouble(items.get(i + 1).toString())
+            ));
+        }
+        return rankedShows;
+    }
+
+    private Set<TypedTuple<String>> toTuples(Map<UUID, Long> viewCounts) {
+        return viewCounts.entrySet().stream()
+            .map(entry -> TypedTuple.of(entry.getKey().toString(), entry.getValue().doubleValue()))
+            .collect(Collectors.toSet());
+    }
+
+    private String stagingKey(UUID rebuildId) {
+        return KEY + ":staging:" + rebuildId;
+    }
+
+    private String snapshotKey(long version) {
+        return KEY + ":" + version;
+    }
+}
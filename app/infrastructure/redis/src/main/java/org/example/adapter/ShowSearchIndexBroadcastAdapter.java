@@ -0,0 +1,67 @@
+package org.example.adapter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.port.ShowSearchIndexBroadcastPort;
+import org.example.search.ShowSearchIndex;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공연 검색 색인 변경을 Redis pub/sub 채널로 전파하고, 채널을 구독해 이 서버의 색인에 반영합니다.
+ * 변경한 서버도 자신이 보낸 메시지를 다시 받지만 같은 이름으로 덮어쓰거나 삭제하므로 결과는 같습니다.
+ * 구독이 끊긴 동안 놓친 변경은 주기적인 색인 재생성으로 맞춰집니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShowSearchIndexBroadcastAdapter implements ShowSearchIndexBroadcastPort, MessageListener {
+
+    public static final String CHANNEL = "showSearchIndex";
+
+    private static final String PUT = "PUT";
+    private static final String REMOVE = "REMOVE";
+    private static final String FIELD_SEPARATOR = "\u001F";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ShowSearchIndex showSearchIndex;
+
+    @Override
+    public void broadcastPut(UUID showId, List<String> names) {
+        publish(PUT + FIELD_SEPARATOR + showId + FIELD_SEPARATOR + String.join(FIELD_SEPARATOR, names));
+    }
+
+    @Override
+    public void broadcastRemove(UUID showId) {
+        publish(REMOVE + FIELD_SEPARATOR + showId);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] fields = new String(message.getBody(), StandardCharsets.UTF_8).split(FIELD_SEPARATOR, -1);
+        try {
+            UUID showId = UUID.fromString(fields[1]);
+            switch (fields[0]) {
+                case PUT -> showSearchIndex.put(showId, Arrays.asList(fields).subList(2, fields.length));
+                case REMOVE -> showSearchIndex.remove(showId);
+                default -> log.warn("Unknown show search index message: {}", fields[0]);
+            }
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            log.warn("Failed to apply show search index message", e);
+        }
+    }
+
+    private void publish(String message) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, message);
+        } catch (RuntimeException e) {
+            log.warn("Failed to broadcast show search index change", e);
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package org.example.config;
 
 import lombok.RequiredArgsConstructor;
+import org.example.adapter.ShowSearchIndexBroadcastAdapter;
+import org.example.property.ArtistSearchCacheProperty;
 import org.example.property.RedisProperty;
+import org.example.property.ShowDetailCacheProperty;
+import org.example.property.ViewCountProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
@@ -9,12 +13,19 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.GenericToStringSerializer;
 
 @Configuration
 @EnableRedisRepositories(basePackages = "org.example")
-@EnableConfigurationProperties(RedisProperty.class)
+@EnableConfigurationProperties({
+    RedisProperty.class,
+    ShowDetailCacheProperty.class,
+    ArtistSearchCacheProperty.class,
+    ViewCountProperty.class
+})
 @ComponentScan(basePackages = "org.example")
 @RequiredArgsConstructor
 public class RedisConfig {
@@ -34,4 +45,19 @@ public class RedisConfig {
 
         return template;
     }
+
+    @Bean
+    RedisMessageListenerContainer redisMessageListenerContainer(
+        RedisConnectionFactory redisConnectionFactory,
+        ShowSearchIndexBroadcastAdapter showSearchIndexBroadcastAdapter
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(
+            showSearchIndexBroadcastAdapter,
+            new ChannelTopic(ShowSearchIndexBroadcastAdapter.CHANNEL)
+        );
+
+        return container;
+    }
 }
@@ -0,0 +1,21 @@
+package org.example.property;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "cache.artist-search")
+public record ArtistSearchCacheProperty(
+    Duration freshTimeToLive,
+    Duration staleTimeToLive
+) {
+
+    public ArtistSearchCacheProperty {
+        if (freshTimeToLive == null) {
+            freshTimeToLive = Duration.ofMinutes(30);
+        }
+
+        if (staleTimeToLive == null) {
+            staleTimeToLive = Duration.ofDays(1);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.property;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "cache.show-detail")
+public record ShowDetailCacheProperty(
+    long localMaximumSize,
+    Duration localTimeToLive,
+    Duration remoteTimeToLive
+) {
+
+    public ShowDetailCacheProperty {
+        if (localMaximumSize <= 0) {
+            localMaximumSize = 1_000;
+        }
+
+        if (localTimeToLive == null) {
+            localTimeToLive = Duration.ofSeconds(10);
+        }
+
+        if (remoteTimeToLive == null) {
+            remoteTimeToLive = Duration.ofMinutes(5);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.property;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "view-count")
+public record ViewCountProperty(
+    DedupeMode dedupeMode,
+    int exactThreshold,
+    long bloomExpectedInsertions,
+    double bloomFalsePositiveRate
+) {
+
+    public ViewCountProperty {
+        if (dedupeMode == null) {
+            dedupeMode = DedupeMode.EXACT;
+        }
+
+        if (exactThreshold <= 0) {
+            exactThreshold = 1_000;
+        }
+
+        if (bloomExpectedInsertions <= 0) {
+            bloomExpectedInsertions = 100_000;
+        }
+
+        if (bloomFalsePositiveRate <= 0 || bloomFalsePositiveRate >= 1) {
+            bloomFalsePositiveRate = 0.01;
+        }
+    }
+
+    public enum DedupeMode {
+        EXACT, PROBABILISTIC
+    }
+}
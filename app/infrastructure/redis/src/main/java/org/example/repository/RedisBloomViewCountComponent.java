@@ -0,0 +1,108 @@
+package org.example.repository;
+
+import com.example.component.ViewCountComponent;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.example.property.ViewCountProperty;
+import org.example.util.BloomFilterOffsets;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공연별/일자별로 처음 exactThreshold 명까지는 Redis Set 으로 정확하게 중복 조회를 거르고,
+ * 그 이후의 기기만 비트맵 Bloom filter 로 거릅니다. 조회가 적은 대부분의 공연은 Set 만 사용하므로
+ * 비트맵을 만들지 않으며, 비트맵 크기와 해시 개수는 예상 삽입 수와 목표 오탐률로 계산합니다.
+ * Set 에 있는 기기는 Bloom filter 에 기록하지 않으므로 Set 을 먼저 확인해 두 구조 사이에서도 중복을 거릅니다.
+ * 두 키는 {공연 ID:일자} 해시 태그를 공유하므로 Redis Cluster 에서도 같은 슬롯에 놓여 한 스크립트로 처리됩니다.
+ * 일자는 서비스 기준 시간대(Asia/Seoul)로 계산합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "view-count.dedupe-mode", havingValue = "probabilistic")
+public class RedisBloomViewCountComponent implements ViewCountComponent {
+
+    private static final Duration KEY_TIME_TO_LIVE = Duration.ofDays(2);
+    private static final ZoneId VIEW_COUNT_ZONE = ZoneId.of("Asia/Seoul");
+    private static final RedisScript<Long> CHECK_AND_MARK_SCRIPT = new DefaultRedisScript<>(
+        """
+            if redis.call('SISMEMBER', KEYS[1], ARGV[3]) == 1 then
+                return 0
+            end
+            if redis.call('SCARD', KEYS[1]) < tonumber(ARGV[2]) then
+                redis.call('SADD', KEYS[1], ARGV[3])
+                if redis.call('TTL', KEYS[1]) < 0 then
+                    redis.call('EXPIRE', KEYS[1], ARGV[1])
+                end
+                return 1
+            end
+            local isNew = 0
+            for i = 4, #ARGV do
+                if redis.call('SETBIT', KEYS[2], ARGV[i], 1) == 0 then
+                    isNew = 1
+                end
+            end
+            if redis.call('TTL', KEYS[2]) < 0 then
+                redis.call('EXPIRE', KEYS[2], ARGV[1])
+            end
+            return isNew
+            """,
+        Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Clock clock;
+    private final int exactThreshold;
+    private final long bloomBitSize;
+    private final int bloomHashCount;
+
+    @Autowired
+    public RedisBloomViewCountComponent(
+        StringRedisTemplate stringRedisTemplate,
+        ViewCountProperty viewCountProperty
+    ) {
+        this(stringRedisTemplate, viewCountProperty, Clock.system(VIEW_COUNT_ZONE));
+    }
+
+    RedisBloomViewCountComponent(
+        StringRedisTemplate stringRedisTemplate,
+        ViewCountProperty viewCountProperty,
+        Clock clock
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.clock = clock;
+        this.exactThreshold = viewCountProperty.exactThreshold();
+        this.bloomBitSize = BloomFilterOffsets.bitSize(
+            viewCountProperty.bloomExpectedInsertions(),
+            viewCountProperty.bloomFalsePositiveRate()
+        );
+        this.bloomHashCount = BloomFilterOffsets.hashCount(viewCountProperty.bloomExpectedInsertions(), bloomBitSize);
+    }
+
+    @Override
+    public boolean validateViewCount(UUID showId, String deviceToken) {
+        List<String> args = new ArrayList<>(bloomHashCount + 3);
+        args.add(String.valueOf(KEY_TIME_TO_LIVE.toSeconds()));
+        args.add(String.valueOf(exactThreshold));
+        args.add(deviceToken);
+        for (long offset : BloomFilterOffsets.of(deviceToken, bloomBitSize, bloomHashCount)) {
+            args.add(String.valueOf(offset));
+        }
+
+        String hashTag = "{" + showId + ":" + LocalDate.now(clock) + "}";
+        Long isNew = stringRedisTemplate.execute(
+            CHECK_AND_MARK_SCRIPT,
+            List.of("VCS:" + hashTag, "VCB:" + hashTag),
+            args.toArray()
+        );
+
+        return isNew != null && isNew == 1L;
+    }
+}
@@ -4,25 +4,22 @@ import com.example.component.ViewCountComponent;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "view-count.dedupe-mode", havingValue = "exact", matchIfMissing = true)
 public class RedisViewCountComponent implements ViewCountComponent {
 
     private final StringRedisTemplate stringRedisTemplate;
 
     @Override
     public boolean validateViewCount(UUID showId, String deviceToken) {
-        String viewStatus = stringRedisTemplate.opsForValue().get("VC:" + deviceToken + ":" + showId);
+        Boolean isFirstView = stringRedisTemplate.opsForValue()
+            .setIfAbsent("VC:" + deviceToken + ":" + showId, "1", 1, TimeUnit.DAYS);
 
-        if (viewStatus == null) {
-            stringRedisTemplate.opsForValue()
-                .set("VC:" + deviceToken + ":" + showId, "1", 1, TimeUnit.DAYS);
-            return true;
-        }
-
-        return false;
+        return Boolean.TRUE.equals(isFirstView);
     }
 }
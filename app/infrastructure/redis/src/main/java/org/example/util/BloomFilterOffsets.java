@@ -0,0 +1,50 @@
+package org.example.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Redis 비트맵으로 Bloom filter 를 흉내내기 위해 값 하나가 차지할 비트 위치들을 계산합니다.
+ * MD5 다이제스트를 두 개의 64비트 해시로 나눈 뒤 double hashing 으로 k 개의 위치를 만듭니다.
+ */
+public final class BloomFilterOffsets {
+
+    private BloomFilterOffsets() {
+    }
+
+    /**
+     * 예상 삽입 수와 목표 오탐률로 필요한 비트 수를 계산합니다. m = -n * ln(p) / (ln 2)^2
+     */
+    public static long bitSize(long expectedInsertions, double falsePositiveRate) {
+        return (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    }
+
+    /**
+     * 비트 수와 예상 삽입 수로 오탐률을 최소화하는 해시 함수 개수를 계산합니다. k = m / n * ln 2
+     */
+    public static int hashCount(long expectedInsertions, long bitSize) {
+        return Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    public static long[] of(String value, long bitSize, int hashCount) {
+        ByteBuffer digest = ByteBuffer.wrap(md5(value));
+        long hash1 = digest.getLong();
+        long hash2 = digest.getLong();
+
+        long[] offsets = new long[hashCount];
+        for (int i = 0; i < hashCount; i++) {
+            offsets[i] = Math.floorMod(hash1 + i * hash2, bitSize);
+        }
+        return offsets;
+    }
+
+    private static byte[] md5(String value) {
+        try {
+            return MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.example;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers
+public abstract class RedisContainerTest {
+
+    private static final int REDIS_PORT = 6379;
+
+    @Container
+    private static final GenericContainer<?> redis = new GenericContainer<>("redis:7.2-alpine")
+        .withExposedPorts(REDIS_PORT);
+
+    protected static StringRedisTemplate stringRedisTemplate;
+
+    @BeforeAll
+    static void setUpRedis() {
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(
+            redis.getHost(),
+            redis.getMappedPort(REDIS_PORT)
+        );
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterEach
+    void flushRedis() {
+        stringRedisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,194 @@
+package org.example.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.example.RedisContainerTest;
+import org.example.port.dto.param.ArtistSearchPortParam;
+import org.example.port.dto.response.ArtistSearchPortResponse;
+import org.example.property.ArtistSearchCacheProperty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+class ArtistSearchCacheAdapterTest extends RedisContainerTest {
+
+    private static final String SEARCH = "query";
+    private static final int LIMIT = 10;
+    private static final int OFFSET = 0;
+    private static final String CACHE_KEY = "AS:" + LIMIT + ":" + OFFSET + ":" + SEARCH;
+
+    /*
+     * 신선 기간을 0 으로 두어 한 번 저장된 결과는 다음 조회부터 항상 stale 상태가 됩니다.
+     */
+    private final ArtistSearchCacheProperty artistSearchCacheProperty = new ArtistSearchCacheProperty(
+        Duration.ZERO,
+        Duration.ofMinutes(10)
+    );
+    private final ArtistSearchPortResponse cachedResponse = searchResponse("cached");
+    private final ArtistSearchPortResponse revalidatedResponse = searchResponse("revalidated");
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService revalidateExecutor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        revalidateExecutor = Executors.newSingleThreadExecutor();
+    }
+
+    @Test
+    @DisplayName("stale 결과는 기다리지 않고 바로 반환하고, 백그라운드 재조회 결과로 캐시를 갱신한다.")
+    void serveStaleAndRevalidate() throws InterruptedException {
+        //given
+        ArtistSearchCacheAdapter adapter = adapter(stringRedisTemplate);
+        adapter.getOrLoadSearch(SEARCH, LIMIT, OFFSET, () -> cachedResponse);
+
+        //when
+        ArtistSearchPortResponse staleResult = adapter.getOrLoadSearch(
+            SEARCH,
+            LIMIT,
+            OFFSET,
+            () -> revalidatedResponse
+        );
+        awaitRevalidation();
+
+        //then
+        assertThat(staleResult).isEqualTo(cachedResponse);
+        assertThat(adapter.getOrLoadSearch(SEARCH, LIMIT, OFFSET, failingLoader())).isEqualTo(revalidatedResponse);
+        assertThat(meterRegistry.counter("cache.artist.search.hit", "state", "stale").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 재조회 잠금을 가지고 있으면 재조회하지 않고 stale 결과를 반환한다.")
+    void skipRevalidationWhenLockIsHeld() throws InterruptedException {
+        //given
+        ArtistSearchCacheAdapter adapter = adapter(stringRedisTemplate);
+        adapter.getOrLoadSearch(SEARCH, LIMIT, OFFSET, () -> cachedResponse);
+        stringRedisTemplate.opsForValue().set("ASL:" + CACHE_KEY, "1", Duration.ofSeconds(30));
+        AtomicInteger loadCount = new AtomicInteger();
+
+        //when
+        ArtistSearchPortResponse result = adapter.getOrLoadSearch(SEARCH, LIMIT, OFFSET, countingLoader(loadCount));
+        awaitRevalidation();
+
+        //then
+        assertThat(result).isEqualTo(cachedResponse);
+        assertThat(loadCount).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("재조회가 실패하면 stale 결과를 유지하고 실패 횟수를 기록한다.")
+    void keepStaleWhenRevalidationFails() throws InterruptedException {
+        //given
+        ArtistSearchCacheAdapter adapter = adapter(stringRedisTemplate);
+        adapter.getOrLoadSearch(SEARCH, LIMIT, OFFSET, () -> cachedResponse);
+
+        //when
+        adapter.getOrLoadSearch(SEARCH, LIMIT, OFFSET, failingLoader());
+        awaitRevalidation();
+
+        //then
+        assertThat(adapter.getOrLoadSearch(SEARCH, LIMIT, OFFSET, failingLoader())).isEqualTo(cachedResponse);
+        assertThat(meterRegistry.counter("cache.artist.search.revalidate.failure").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis 조회에 실패하면 캐시 미스로 보고 외부 API 결과를 반환한다.")
+    void loadWhenRedisReadFails() {
+        //given
+        StringRedisTemplate failingRedisTemplate = mock(StringRedisTemplate.class);
+        given(failingRedisTemplate.opsForValue()).willThrow(new RedisConnectionFailureException("down"));
+        ArtistSearchCacheAdapter adapter = adapter(failingRedisTemplate);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        //when
+        ArtistSearchPortResponse result = adapter.getOrLoadSearch(SEARCH, LIMIT, OFFSET, countingLoader(loadCount));
+
+        //then
+        assertThat(result).isEqualTo(revalidatedResponse);
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Redis 장애로 재조회 잠금을 얻지 못하면 재조회를 건너뛰고 stale 결과를 반환한다.")
+    void skipRevalidationWhenLockFails() throws InterruptedException {
+        //given
+        StringRedisTemplate redisTemplate = spy(stringRedisTemplate);
+        ValueOperations<String, String> valueOperations = spy(stringRedisTemplate.opsForValue());
+        willReturn(valueOperations).given(redisTemplate).opsForValue();
+        willThrow(new RedisConnectionFailureException("down"))
+            .given(valueOperations).setIfAbsent(anyString(), anyString(), any(Duration.class));
+        ArtistSearchCacheAdapter adapter = adapter(redisTemplate);
+        adapter.getOrLoadSearch(SEARCH, LIMIT, OFFSET, () -> cachedResponse);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        //when
+        ArtistSearchPortResponse result = adapter.getOrLoadSearch(SEARCH, LIMIT, OFFSET, countingLoader(loadCount));
+        awaitRevalidation();
+
+        //then
+        assertThat(result).isEqualTo(cachedResponse);
+        assertThat(loadCount).hasValue(0);
+    }
+
+    private ArtistSearchCacheAdapter adapter(StringRedisTemplate redisTemplate) {
+        return new ArtistSearchCacheAdapter(
+            redisTemplate,
+            artistSearchCacheProperty,
+            meterRegistry,
+            revalidateExecutor
+        );
+    }
+
+    private void awaitRevalidation() throws InterruptedException {
+        revalidateExecutor.shutdown();
+        assertThat(revalidateExecutor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private Supplier<ArtistSearchPortResponse> countingLoader(AtomicInteger loadCount) {
+        return () -> {
+            loadCount.incrementAndGet();
+            return revalidatedResponse;
+        };
+    }
+
+    private Supplier<ArtistSearchPortResponse> failingLoader() {
+        return () -> {
+            throw new IllegalStateException("429 Too Many Requests");
+        };
+    }
+
+    private ArtistSearchPortResponse searchResponse(String name) {
+        return ArtistSearchPortResponse.builder()
+            .artists(List.of(
+                ArtistSearchPortParam.builder()
+                    .id("spotify-" + name)
+                    .name(name)
+                    .genres(List.of("k-pop"))
+                    .imageURL("https://image.test/" + name)
+                    .build()
+            ))
+            .limit(LIMIT)
+            .offset(OFFSET)
+            .hasNext(false)
+            .build();
+    }
+}
@@ -0,0 +1,151 @@
+package org.example.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.example.RedisContainerTest;
+import org.example.dto.show.response.ShowDetailDomainResponse;
+import org.example.dto.show.response.ShowDomainResponse;
+import org.example.dto.show.response.ShowTicketingTimeDomainResponse;
+import org.example.entity.show.info.SeatPrices;
+import org.example.entity.show.info.TicketingSites;
+import org.example.property.ShowDetailCacheProperty;
+import org.example.vo.TicketingType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class ShowDetailCacheAdapterTest extends RedisContainerTest {
+
+    private final ShowDetailCacheProperty showDetailCacheProperty = new ShowDetailCacheProperty(
+        100,
+        Duration.ofMinutes(1),
+        Duration.ofMinutes(5)
+    );
+    private final UUID showId = UUID.randomUUID();
+    private final ShowDetailDomainResponse showDetail = showDetail(showId);
+
+    private ShowDetailCacheAdapter showDetailCacheAdapter;
+
+    @BeforeEach
+    void setUp() {
+        showDetailCacheAdapter = adapter(stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("로컬 캐시에 있는 공연 상세는 Redis 와 DB 를 조회하지 않고 반환한다.")
+    void getFromLocalCache() {
+        //given
+        AtomicInteger loadCount = new AtomicInteger();
+        showDetailCacheAdapter.getOrLoad(showId, countingLoader(loadCount));
+        stringRedisTemplate.delete("SD:" + showId);
+
+        //when
+        ShowDetailDomainResponse result = showDetailCacheAdapter.getOrLoad(showId, countingLoader(loadCount));
+
+        //then
+        assertThat(loadCount).hasValue(1);
+        assertThat(result).usingRecursiveComparison().isEqualTo(showDetail);
+    }
+
+    @Test
+    @DisplayName("로컬 캐시에 없고 Redis 에 있는 공연 상세는 DB 를 조회하지 않고 로컬 캐시를 채운다.")
+    void fillLocalCacheFromRedis() {
+        //given
+        showDetailCacheAdapter.getOrLoad(showId, () -> showDetail);
+        ShowDetailCacheAdapter otherInstanceAdapter = adapter(stringRedisTemplate);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        //when
+        ShowDetailDomainResponse result = otherInstanceAdapter.getOrLoad(showId, countingLoader(loadCount));
+        stringRedisTemplate.delete("SD:" + showId);
+        ShowDetailDomainResponse localResult = otherInstanceAdapter.getOrLoad(showId, countingLoader(loadCount));
+
+        //then
+        assertThat(loadCount).hasValue(0);
+        assertThat(result).usingRecursiveComparison().isEqualTo(showDetail);
+        assertThat(localResult).usingRecursiveComparison().isEqualTo(showDetail);
+    }
+
+    @Test
+    @DisplayName("공연 수정이나 삭제로 캐시를 비우면 로컬 캐시와 Redis 에서 모두 제거되어 DB 에서 다시 조회한다.")
+    void evictLocalAndRemoteCache() {
+        //given
+        AtomicInteger loadCount = new AtomicInteger();
+        showDetailCacheAdapter.getOrLoad(showId, countingLoader(loadCount));
+
+        //when
+        showDetailCacheAdapter.evict(showId);
+
+        //then
+        assertThat(stringRedisTemplate.hasKey("SD:" + showId)).isFalse();
+        showDetailCacheAdapter.getOrLoad(showId, countingLoader(loadCount));
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 예외 없이 DB 에서 조회한 공연 상세를 반환한다.")
+    void loadFromDatabaseWhenRedisFails() {
+        //given
+        StringRedisTemplate failingRedisTemplate = mock(StringRedisTemplate.class);
+        given(failingRedisTemplate.opsForValue()).willThrow(new RedisConnectionFailureException("down"));
+        given(failingRedisTemplate.delete("SD:" + showId)).willThrow(new RedisConnectionFailureException("down"));
+        ShowDetailCacheAdapter adapter = adapter(failingRedisTemplate);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        //when
+        ShowDetailDomainResponse result = adapter.getOrLoad(showId, countingLoader(loadCount));
+        adapter.evict(showId);
+
+        //then
+        assertThat(loadCount).hasValue(1);
+        assertThat(result).usingRecursiveComparison().isEqualTo(showDetail);
+    }
+
+    private ShowDetailCacheAdapter adapter(StringRedisTemplate redisTemplate) {
+        return new ShowDetailCacheAdapter(redisTemplate, showDetailCacheProperty, new SimpleMeterRegistry());
+    }
+
+    private Supplier<ShowDetailDomainResponse> countingLoader(AtomicInteger loadCount) {
+        return () -> {
+            loadCount.incrementAndGet();
+            return showDetail;
+        };
+    }
+
+    private ShowDetailDomainResponse showDetail(UUID id) {
+        return ShowDetailDomainResponse.builder()
+            .show(
+                ShowDomainResponse.builder()
+                    .id(id)
+                    .title("title")
+                    .content("content")
+                    .startDate(LocalDate.of(2024, 10, 1))
+                    .endDate(LocalDate.of(2024, 10, 2))
+                    .location("location")
+                    .image("image")
+                    .lastTicketingAt(LocalDateTime.of(2024, 9, 1, 20, 0))
+                    .seatPrices(new SeatPrices(Map.of("R", 100000)))
+                    .ticketingSites(new TicketingSites())
+                    .build()
+            )
+            .artists(Set.of())
+            .genres(Set.of())
+            .showTicketingTimes(
+                Set.of(new ShowTicketingTimeDomainResponse(TicketingType.PRE, LocalDateTime.of(2024, 9, 1, 20, 0)))
+            )
+            .build();
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.example.RedisContainerTest;
+import org.example.dto.show.param.ShowPopularityDomainParam;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ShowPopularityAdapterTest extends RedisContainerTest {
+
+    private ShowPopularityAdapter showPopularityAdapter;
+
+    @BeforeEach
+    void setUp() {
+        showPopularityAdapter = new ShowPopularityAdapter(stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("스냅샷을 만든 뒤 늘어난 조회수는 다음 스냅샷부터 순서에 반영된다.")
+    void keepOrderWithinSnapshot() {
+        //given
+        UUID firstShowId = UUID.randomUUID();
+        UUID secondShowId = UUID.randomUUID();
+        showPopularityAdapter.registerIfAbsent(Map.of(firstShowId, 20L, secondShowId, 10L));
+        showPopularityAdapter.createSnapshot();
+        Long pinnedSnapshot = showPopularityAdapter.findLatestSnapshot();
+
+        //when
+        showPopularityAdapter.increaseScores(Map.of(secondShowId, 100L));
+        showPopularityAdapter.createSnapshot();
+
+        //then
+        assertThat(showPopularityAdapter.findRankedShows(pinnedSnapshot, null, null, 10))
+            .extracting(ShowPopularityDomainParam::showId)
+            .containsExactly(firstShowId, secondShowId);
+        assertThat(showPopularityAdapter.findRankedShows(showPopularityAdapter.findLatestSnapshot(), null, null, 10))
+            .extracting(ShowPopularityDomainParam::showId)
+            .containsExactly(secondShowId, firstShowId);
+    }
+
+    @Test
+    @DisplayName("재적재한 인덱스로 교체하면 점수가 DB 조회수로 덮어써지고 재적재에 없는 공연은 빠진다.")
+    void replaceWithStagedScores() {
+        //given
+        UUID activeShowId = UUID.randomUUID();
+        UUID endedShowId = UUID.randomUUID();
+        showPopularityAdapter.registerIfAbsent(Map.of(activeShowId, 3L, endedShowId, 50L));
+        UUID rebuildId = UUID.randomUUID();
+
+        //when
+        showPopularityAdapter.stageScores(rebuildId, Map.of(activeShowId, 30L));
+        showPopularityAdapter.replaceWithStaged(rebuildId);
+        showPopularityAdapter.createSnapshot();
+
+        //then
+        assertThat(showPopularityAdapter.findRankedShows(showPopularityAdapter.findLatestSnapshot(), null, null, 10))
+            .containsExactly(new ShowPopularityDomainParam(activeShowId, 30L));
+        assertThat(stringRedisTemplate.getExpire("SP:{popularity}")).isEqualTo(-1L);
+    }
+
+    @Test
+    @DisplayName("만료된 스냅샷을 조회하면 빈 목록이 아닌 null 을 반환한다.")
+    void returnNullForExpiredSnapshot() {
+        //given
+        showPopularityAdapter.registerIfAbsent(Map.of(UUID.randomUUID(), 1L));
+        showPopularityAdapter.createSnapshot();
+        Long snapshot = showPopularityAdapter.findLatestSnapshot();
+        stringRedisTemplate.delete("SP:{popularity}:" + snapshot);
+
+        //when
+        List<ShowPopularityDomainParam> result = showPopularityAdapter.findRankedShows(snapshot, null, null, 10);
+
+        //then
+        assertThat(result).isNull();
+    }
+}
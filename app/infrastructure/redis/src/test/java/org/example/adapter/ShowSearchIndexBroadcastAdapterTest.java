@@ -0,0 +1,68 @@
+package org.example.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+import org.example.RedisContainerTest;
+import org.example.search.ShowSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+class ShowSearchIndexBroadcastAdapterTest extends RedisContainerTest {
+
+    private static final long TIMEOUT_MILLIS = 5_000;
+
+    private final ShowSearchIndex publisherIndex = new ShowSearchIndex();
+    private final ShowSearchIndex subscriberIndex = new ShowSearchIndex();
+
+    private ShowSearchIndexBroadcastAdapter publisher;
+    private RedisMessageListenerContainer subscriberContainer;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        publisher = new ShowSearchIndexBroadcastAdapter(stringRedisTemplate, publisherIndex);
+
+        subscriberContainer = new RedisMessageListenerContainer();
+        subscriberContainer.setConnectionFactory(stringRedisTemplate.getRequiredConnectionFactory());
+        subscriberContainer.addMessageListener(
+            new ShowSearchIndexBroadcastAdapter(stringRedisTemplate, subscriberIndex),
+            new ChannelTopic(ShowSearchIndexBroadcastAdapter.CHANNEL)
+        );
+        subscriberContainer.afterPropertiesSet();
+        subscriberContainer.start();
+        while (!subscriberContainer.isListening()) {
+            Thread.sleep(10);
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        subscriberContainer.destroy();
+    }
+
+    @Test
+    @DisplayName("한 서버에서 추가하거나 삭제한 공연 검색어는 구독 중인 다른 서버의 색인에도 반영된다.")
+    void applyBroadcastChanges() throws InterruptedException {
+        //given
+        UUID showId = UUID.randomUUID();
+        UUID deletedShowId = UUID.randomUUID();
+        subscriberIndex.put(deletedShowId, List.of("오아시스앵콜공연"));
+
+        //when
+        publisher.broadcastPut(showId, List.of("오아시스내한공연"));
+        publisher.broadcastRemove(deletedShowId);
+
+        //then
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!subscriberIndex.search("오아시스", null, 10).equals(List.of(showId))
+            && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(subscriberIndex.search("오아시스", null, 10)).containsExactly(showId);
+    }
+}
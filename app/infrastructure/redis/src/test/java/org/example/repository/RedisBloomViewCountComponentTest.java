@@ -0,0 +1,141 @@
+package org.example.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.example.RedisContainerTest;
+import org.example.property.ViewCountProperty;
+import org.example.property.ViewCountProperty.DedupeMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisCallback;
+
+class RedisBloomViewCountComponentTest extends RedisContainerTest {
+
+    private static final int EXACT_THRESHOLD = 3;
+    private static final int MEMORY_COMPARISON_DEVICE_COUNT = 10_000;
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-08-01T15:30:00Z"), ZoneId.of("Asia/Seoul"));
+
+    private final UUID showId = UUID.randomUUID();
+
+    private RedisBloomViewCountComponent viewCountComponent;
+
+    @BeforeEach
+    void setUp() {
+        viewCountComponent = new RedisBloomViewCountComponent(
+            stringRedisTemplate,
+            new ViewCountProperty(DedupeMode.PROBABILISTIC, EXACT_THRESHOLD, 1_000, 0.01),
+            CLOCK
+        );
+    }
+
+    @Test
+    @DisplayName("조회한 기기 수가 기준 이하인 공연은 Set 으로만 중복을 거르고 Bloom filter 비트맵을 만들지 않는다.")
+    void dedupeWithExactSetBelowThreshold() {
+        //when
+        boolean firstView = viewCountComponent.validateViewCount(showId, "device-1");
+        boolean repeatedView = viewCountComponent.validateViewCount(showId, "device-1");
+        boolean otherDeviceView = viewCountComponent.validateViewCount(showId, "device-2");
+
+        //then
+        assertThat(firstView).isTrue();
+        assertThat(repeatedView).isFalse();
+        assertThat(otherDeviceView).isTrue();
+        assertThat(stringRedisTemplate.opsForSet().size(exactKey())).isEqualTo(2);
+        assertThat(stringRedisTemplate.hasKey(bloomKey())).isFalse();
+    }
+
+    @Test
+    @DisplayName("조회한 기기 수가 기준을 넘으면 이후 기기만 Bloom filter 로 거르고, Set 에 있던 기기도 계속 중복으로 판단한다.")
+    void dedupeWithBloomFilterAboveThreshold() {
+        //given
+        for (int i = 0; i < EXACT_THRESHOLD; i++) {
+            viewCountComponent.validateViewCount(showId, "device-" + i);
+        }
+
+        //when
+        boolean overflowFirstView = viewCountComponent.validateViewCount(showId, "overflow-device");
+        boolean overflowRepeatedView = viewCountComponent.validateViewCount(showId, "overflow-device");
+        boolean exactRepeatedView = viewCountComponent.validateViewCount(showId, "device-0");
+
+        //then
+        assertThat(overflowFirstView).isTrue();
+        assertThat(overflowRepeatedView).isFalse();
+        assertThat(exactRepeatedView).isFalse();
+        assertThat(stringRedisTemplate.opsForSet().size(exactKey())).isEqualTo(EXACT_THRESHOLD);
+        assertThat(stringRedisTemplate.hasKey(bloomKey())).isTrue();
+        assertThat(stringRedisTemplate.getExpire(bloomKey())).isPositive();
+    }
+
+    @Test
+    @DisplayName("일자는 서비스 시간대 기준으로 정하고, 두 키는 Redis Cluster 에서 같은 슬롯이 되도록 해시 태그를 공유한다.")
+    void shareHashTagOfServiceZoneDate() {
+        //when
+        viewCountComponent.validateViewCount(showId, "device-1");
+
+        //then
+        assertThat(exactKey()).isEqualTo("VCS:{" + showId + ":2024-08-02}");
+        assertThat(stringRedisTemplate.hasKey(exactKey())).isTrue();
+    }
+
+    @Test
+    @DisplayName("기기 1만 대의 조회를 거를 때 확률 모드는 기기별 키를 두는 정확 모드보다 메모리를 적게 쓰고, 처음 조회를 1% 이상 놓치지 않는다.")
+    void compareMemoryAndAccuracyWithExactMode() {
+        //given
+        RedisViewCountComponent exactComponent = new RedisViewCountComponent(stringRedisTemplate);
+        RedisBloomViewCountComponent bloomComponent = new RedisBloomViewCountComponent(
+            stringRedisTemplate,
+            new ViewCountProperty(DedupeMode.PROBABILISTIC, 1_000, 100_000, 0.01),
+            CLOCK
+        );
+        UUID exactShowId = UUID.randomUUID();
+        List<String> deviceTokens = IntStream.range(0, MEMORY_COMPARISON_DEVICE_COUNT)
+            .mapToObj(i -> "device-" + i)
+            .toList();
+
+        //when
+        long exactFirstViews = deviceTokens.stream()
+            .filter(deviceToken -> exactComponent.validateViewCount(exactShowId, deviceToken))
+            .count();
+        long bloomFirstViews = deviceTokens.stream()
+            .filter(deviceToken -> bloomComponent.validateViewCount(showId, deviceToken))
+            .count();
+
+        //then
+        long exactBytes = memoryUsage(
+            deviceTokens.stream().map(deviceToken -> "VC:" + deviceToken + ":" + exactShowId).toList()
+        );
+        long bloomBytes = memoryUsage(List.of(exactKey(), bloomKey()));
+        assertThat(exactFirstViews).isEqualTo(MEMORY_COMPARISON_DEVICE_COUNT);
+        assertThat(bloomFirstViews).isGreaterThanOrEqualTo((long) (MEMORY_COMPARISON_DEVICE_COUNT * 0.99));
+        assertThat(bloomBytes).isLessThan(exactBytes / 2);
+    }
+
+    private long memoryUsage(List<String> keys) {
+        List<Object> usages = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.execute("MEMORY", "USAGE".getBytes(), key.getBytes(), "SAMPLES".getBytes(), "0".getBytes());
+            }
+            return null;
+        });
+
+        return usages.stream()
+            .mapToLong(usage -> ((Number) usage).longValue())
+            .sum();
+    }
+
+    private String exactKey() {
+        return "VCS:{" + showId + ":" + LocalDate.now(CLOCK) + "}";
+    }
+
+    private String bloomKey() {
+        return "VCB:{" + showId + ":" + LocalDate.now(CLOCK) + "}";
+    }
+}
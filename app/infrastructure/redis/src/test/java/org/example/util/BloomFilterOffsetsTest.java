@@ -0,0 +1,96 @@
+package org.example.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.BitSet;
+import java.util.UUID;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class BloomFilterOffsetsTest {
+
+    private static final long BIT_SIZE = 1L << 20;
+    private static final int HASH_COUNT = 7;
+    private static final int EXPECTED_INSERTIONS = 50_000;
+
+    @ParameterizedTest(name = "{index} {displayName} falsePositiveRate={0}")
+    @ValueSource(doubles = {0.05, 0.01, 0.001})
+    @DisplayName("예상 삽입 수와 목표 오탐률로 계산한 크기의 Bloom filter 는 목표 오탐률을 지킨다.")
+    void bloomFilterSizedFromExpectedInsertions(double falsePositiveRate) {
+        //given
+        long bitSize = BloomFilterOffsets.bitSize(EXPECTED_INSERTIONS, falsePositiveRate);
+        int hashCount = BloomFilterOffsets.hashCount(EXPECTED_INSERTIONS, bitSize);
+        BitSet bitmap = new BitSet((int) bitSize);
+        for (int i = 0; i < EXPECTED_INSERTIONS; i++) {
+            mark(bitmap, "viewed-" + i, bitSize, hashCount);
+        }
+
+        //when
+        int falseNegativeCount = 0;
+        for (int i = 0; i < EXPECTED_INSERTIONS; i++) {
+            if (!mightContain(bitmap, "viewed-" + i, bitSize, hashCount)) {
+                falseNegativeCount++;
+            }
+        }
+
+        int falsePositiveCount = 0;
+        for (int i = 0; i < EXPECTED_INSERTIONS; i++) {
+            if (mightContain(bitmap, UUID.randomUUID().toString(), bitSize, hashCount)) {
+                falsePositiveCount++;
+            }
+        }
+
+        //then
+        int finalFalseNegativeCount = falseNegativeCount;
+        double observedFalsePositiveRate = (double) falsePositiveCount / EXPECTED_INSERTIONS;
+        SoftAssertions.assertSoftly(
+            soft -> {
+                soft.assertThat(finalFalseNegativeCount).isZero();
+                soft.assertThat(observedFalsePositiveRate).isLessThan(falsePositiveRate * 1.5);
+            }
+        );
+    }
+
+    @Test
+    @DisplayName("예상 삽입 10만 건, 오탐률 1% 는 약 117KB 비트맵과 해시 7개로 계산된다.")
+    void sizeFromExpectedInsertions() {
+        //when
+        long bitSize = BloomFilterOffsets.bitSize(100_000, 0.01);
+        int hashCount = BloomFilterOffsets.hashCount(100_000, bitSize);
+
+        //then
+        assertThat(bitSize).isEqualTo(958_506L);
+        assertThat(hashCount).isEqualTo(7);
+    }
+
+    @ParameterizedTest(name = "{index} {displayName} value={0}")
+    @ValueSource(strings = {"device-token", "", "한글-토큰"})
+    @DisplayName("같은 값은 항상 같은 범위 내 비트 위치로 계산된다.")
+    void offsetsAreDeterministicAndInRange(String value) {
+        //when
+        long[] first = BloomFilterOffsets.of(value, BIT_SIZE, HASH_COUNT);
+        long[] second = BloomFilterOffsets.of(value, BIT_SIZE, HASH_COUNT);
+
+        //then
+        assertThat(first).containsExactly(second);
+        assertThat(first).allMatch(offset -> offset >= 0 && offset < BIT_SIZE);
+    }
+
+    private void mark(BitSet bitmap, String value, long bitSize, int hashCount) {
+        for (long offset : BloomFilterOffsets.of(value, bitSize, hashCount)) {
+            bitmap.set((int) offset);
+        }
+    }
+
+    private boolean mightContain(BitSet bitmap, String value, long bitSize, int hashCount) {
+        for (long offset : BloomFilterOffsets.of(value, bitSize, hashCount)) {
+            if (!bitmap.get((int) offset)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,11 +1,25 @@
 package org.example.component;
 
+import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.example.component.FileUploadComponent;
+import com.example.component.dto.PresignedUploadComponentResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.io.IOException;
-import java.util.Objects;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.HexFormat;
 import org.example.config.S3Config;
 import org.example.error.S3Error;
 import org.example.exception.BusinessException;
@@ -18,20 +32,41 @@ public class S3Component implements FileUploadComponent {
 
     private final AmazonS3 amazonS3;
     private final String bucket;
+    private final Duration presignedUrlExpiration;
+    private final Counter deduplicatedCounter;
+    private final Counter bytesSavedCounter;
+    private final Counter bytesUploadedCounter;
 
-    public S3Component(S3Config s3Config, AmazonS3 amazonS3) {
+    public S3Component(S3Config s3Config, AmazonS3 amazonS3, MeterRegistry meterRegistry) {
         this.bucket = s3Config.getBucketName();
+        this.presignedUrlExpiration = s3Config.getPresignedUrlExpiration();
         this.amazonS3 = amazonS3;
+        this.deduplicatedCounter = meterRegistry.counter("s3.upload.deduplicated");
+        this.bytesSavedCounter = meterRegistry.counter("s3.upload.bytes.saved");
+        this.bytesUploadedCounter = meterRegistry.counter("s3.upload.bytes.uploaded");
     }
 
-
+    /**
+     * 파일 내용의 SHA-256 해시를 키로 사용하므로 같은 파일을 다시 올리면 같은 URL 을 반환합니다.
+     * 이미 같은 키의 객체가 있으면 PUT 을 생략하고 아낀 바이트 수를 기록합니다.
+     */
     @Override
     public String uploadFile(String directory, MultipartFile multipartFile) {
-        String fileName = FileName.build(directory,
-            Objects.requireNonNull(multipartFile.getOriginalFilename()));
-
+        String fileName;
         try {
-            amazonS3.putObject(getPutObjectRequest(multipartFile, fileName));
+            fileName = FileName.contentAddressed(
+                directory,
+                multipartFile.getOriginalFilename(),
+                hash(multipartFile)
+            );
+
+            if (amazonS3.doesObjectExist(bucket, fileName)) {
+                deduplicatedCounter.increment();
+                bytesSavedCounter.increment(multipartFile.getSize());
+            } else {
+                amazonS3.putObject(getPutObjectRequest(multipartFile, fileName));
+                bytesUploadedCounter.increment(multipartFile.getSize());
+            }
         } catch (IOException e) {
             throw new BusinessException(S3Error.FILE_UPLOAD_ERROR);
         }
@@ -39,6 +74,53 @@ public class S3Component implements FileUploadComponent {
         return amazonS3.getUrl(bucket, fileName).toString();
     }
 
+    @Override
+    public PresignedUploadComponentResponse createPresignedUpload(
+        String directory,
+        String originalFileName,
+        String contentType
+    ) {
+        String objectKey = FileName.build(directory, originalFileName);
+        LocalDateTime expiresAt = LocalDateTime.now().plus(presignedUrlExpiration);
+
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, objectKey, HttpMethod.PUT)
+            .withContentType(contentType)
+            .withExpiration(Date.from(expiresAt.atZone(ZoneId.systemDefault()).toInstant()));
+
+        return PresignedUploadComponentResponse.builder()
+            .objectKey(objectKey)
+            .uploadURL(amazonS3.generatePresignedUrl(request).toString())
+            .expiresAt(expiresAt)
+            .build();
+    }
+
+    @Override
+    public String confirmUpload(String directory, String objectKey) {
+        if (!objectKey.startsWith(directory + "/") || !amazonS3.doesObjectExist(bucket, objectKey)) {
+            throw new BusinessException(S3Error.UPLOADED_FILE_NOT_FOUND);
+        }
+
+        return amazonS3.getUrl(bucket, objectKey).toString();
+    }
+
+    /*
+     * 업로드된 파일은 이미 서버의 임시 파일이나 메모리에 있으므로, 해시를 먼저 계산한 뒤 필요할 때만 다시 읽어 전송합니다.
+     */
+    private String hash(MultipartFile multipartFile) throws IOException {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        try (InputStream inputStream = new DigestInputStream(multipartFile.getInputStream(), messageDigest)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        }
+
+        return HexFormat.of().formatHex(messageDigest.digest());
+    }
+
     private PutObjectRequest getPutObjectRequest(MultipartFile multipartFile, String fileName)
         throws IOException {
         return new PutObjectRequest(
@@ -0,0 +1,98 @@
+package org.example.component;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.example.component.ImageDerivativeComponent;
+import jakarta.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.example.config.S3Config;
+import org.example.util.ThumbnailImage;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업로드된 원본을 내려받아 목록용 JPEG 썸네일을 만들어 같은 버킷에 저장합니다.
+ * 작업은 크기가 정해진 스레드 풀과 대기열에서 처리하므로 관리자 요청은 썸네일 생성을 기다리지 않습니다.
+ */
+@Slf4j
+@Component
+public class S3ImageDerivativeComponent implements ImageDerivativeComponent {
+
+    private static final int POOL_SIZE = 2;
+    private static final int QUEUE_CAPACITY = 100;
+
+    private final AmazonS3 amazonS3;
+    private final String bucket;
+    private final int thumbnailWidth;
+    private final ThreadPoolExecutor executor;
+
+    public S3ImageDerivativeComponent(S3Config s3Config, AmazonS3 amazonS3) {
+        this.amazonS3 = amazonS3;
+        this.bucket = s3Config.getBucketName();
+        this.thumbnailWidth = s3Config.getThumbnailWidth();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            POOL_SIZE,
+            POOL_SIZE,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+            runnable -> {
+                Thread thread = new Thread(runnable, "image-derivative-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Override
+    public CompletableFuture<String> createThumbnail(String imageURL) {
+        String baseURL = amazonS3.getUrl(bucket, "").toString();
+        if (imageURL == null || !imageURL.startsWith(baseURL)) {
+            return CompletableFuture.failedFuture(
+                new IllegalArgumentException("Image is not stored in bucket " + bucket)
+            );
+        }
+
+        String originalKey = imageURL.substring(baseURL.length());
+        try {
+            return CompletableFuture.supplyAsync(() -> uploadThumbnail(originalKey), executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("Image derivative queue is full, skipping thumbnail for {}", originalKey);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private String uploadThumbnail(String originalKey) {
+        byte[] thumbnail;
+        try (S3Object original = amazonS3.getObject(bucket, originalKey)) {
+            thumbnail = ThumbnailImage.resize(original.getObjectContent(), thumbnailWidth);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(ThumbnailImage.CONTENT_TYPE);
+        metadata.setContentLength(thumbnail.length);
+
+        String thumbnailKey = ThumbnailImage.key(originalKey, thumbnailWidth);
+        amazonS3.putObject(bucket, thumbnailKey, new ByteArrayInputStream(thumbnail), metadata);
+        return amazonS3.getUrl(bucket, thumbnailKey).toString();
+    }
+}
@@ -2,8 +2,10 @@ package org.example.config;
 
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder.EndpointConfiguration;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import java.time.Duration;
 import lombok.RequiredArgsConstructor;
 import org.example.property.S3Property;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -21,9 +23,18 @@ public class S3Config {
 
     @Bean
     public AmazonS3 s3Client() {
-        return AmazonS3ClientBuilder.standard()
-            .withRegion(s3Property.region())
-            .withCredentials(new AWSStaticCredentialsProvider(awsBasicCredentials()))
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
+            .withCredentials(new AWSStaticCredentialsProvider(awsBasicCredentials()));
+
+        if (s3Property.s3().endpoint() == null) {
+            return builder.withRegion(s3Property.region()).build();
+        }
+
+        return builder
+            .withEndpointConfiguration(
+                new EndpointConfiguration(s3Property.s3().endpoint(), s3Property.region())
+            )
+            .withPathStyleAccessEnabled(true)
             .build();
     }
 
@@ -38,4 +49,12 @@ public class S3Config {
         return s3Property.s3().bucket();
     }
 
+    public Duration getPresignedUrlExpiration() {
+        return s3Property.s3().presignedUrlExpiration();
+    }
+
+    public int getThumbnailWidth() {
+        return s3Property.s3().thumbnailWidth();
+    }
+
 }
@@ -23,5 +23,27 @@ public enum S3Error implements BusinessError {
         public String getLogMessage() {
             return "S3에 파일 업로드 실패 오류";
         }
+    },
+
+    UPLOADED_FILE_NOT_FOUND {
+        @Override
+        public int getHttpStatus() {
+            return 400;
+        }
+
+        @Override
+        public String getErrorCode() {
+            return "S3-002";
+        }
+
+        @Override
+        public String getClientMessage() {
+            return "업로드된 파일을 찾을 수 없습니다.";
+        }
+
+        @Override
+        public String getLogMessage() {
+            return "S3에 업로드 확인 요청한 파일이 존재하지 않음";
+        }
     }
 }
@@ -1,5 +1,6 @@
 package org.example.property;
 
+import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 @ConfigurationProperties(prefix = "cloud.aws")
@@ -15,8 +16,23 @@ public record S3Property(
     ) {
     }
 
+    /**
+     * endpoint 는 MinIO 처럼 S3 호환 저장소를 사용할 때만 지정합니다.
+     */
     public record S3(
-        String bucket
+        String bucket,
+        String endpoint,
+        Duration presignedUrlExpiration,
+        Integer thumbnailWidth
     ) {
+
+        public S3 {
+            if (presignedUrlExpiration == null) {
+                presignedUrlExpiration = Duration.ofMinutes(10);
+            }
+            if (thumbnailWidth == null || thumbnailWidth <= 0) {
+                thumbnailWidth = 300;
+            }
+        }
     }
 }
@@ -1,5 +1,7 @@
 package org.example.util;
 
+import java.util.Locale;
+
 public final class FileName {
 
     private FileName() {
@@ -14,4 +16,16 @@ public final class FileName {
         return directory + "/" + fileName + "_" + now + fileExtension;
     }
 
+    /**
+     * 내용이 같은 파일은 항상 같은 키를 갖도록 파일 내용의 해시로 키를 만듭니다.
+     */
+    public static String contentAddressed(String directory, String originalFileName, String contentHash) {
+        int fileExtensionIndex = originalFileName == null ? -1 : originalFileName.lastIndexOf(".");
+        String fileExtension = fileExtensionIndex < 0
+            ? ""
+            : originalFileName.substring(fileExtensionIndex).toLowerCase(Locale.ROOT);
+
+        return directory + "/" + contentHash + fileExtension;
+    }
+
 }
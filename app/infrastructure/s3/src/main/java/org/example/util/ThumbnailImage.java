@@ -0,0 +1,60 @@
+package org.example.util;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import javax.imageio.ImageIO;
+
+public final class ThumbnailImage {
+
+    public static final String CONTENT_TYPE = "image/jpeg";
+
+    private ThumbnailImage() {
+    }
+
+    /**
+     * 원본 비율을 유지한 채 maxWidth 너비의 JPEG 으로 줄입니다. 원본이 더 작으면 크기를 유지합니다.
+     *
+     * @return JPEG 바이트, 읽을 수 없는 이미지 형식이면 IOException
+     */
+    public static byte[] resize(InputStream original, int maxWidth) throws IOException {
+        BufferedImage source = ImageIO.read(original);
+        if (source == null) {
+            throw new IOException("Unsupported image format");
+        }
+
+        int width = Math.min(maxWidth, source.getWidth());
+        int height = Math.max(1, Math.round((float) source.getHeight() * width / source.getWidth()));
+
+        BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(thumbnail, "jpg", outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * show/poster_1.png 의 너비 300 썸네일은 show/thumbnail/w300/poster_1.jpg 에 저장합니다.
+     */
+    public static String key(String originalKey, int width) {
+        int directoryIndex = originalKey.lastIndexOf("/");
+        int extensionIndex = originalKey.lastIndexOf(".");
+        String directory = originalKey.substring(0, directoryIndex + 1);
+        String fileName = extensionIndex > directoryIndex
+            ? originalKey.substring(directoryIndex + 1, extensionIndex)
+            : originalKey.substring(directoryIndex + 1);
+
+        return directory + "thumbnail/w" + width + "/" + fileName + ".jpg";
+    }
+}
@@ -0,0 +1,135 @@
+package org.example.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.example.component.dto.PresignedUploadComponentResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import org.example.config.S3Config;
+import org.example.exception.BusinessException;
+import org.example.property.S3Property;
+import org.example.property.S3Property.Credentials;
+import org.example.property.S3Property.S3;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers
+class S3ComponentTest {
+
+    private static final String BUCKET = "showpot-test";
+    private static final String ACCESS_KEY = "minio-access";
+    private static final String SECRET_KEY = "minio-secret";
+
+    @Container
+    private static final GenericContainer<?> minio = new GenericContainer<>("minio/minio:RELEASE.2024-08-03T04-33-23Z")
+        .withEnv("MINIO_ROOT_USER", ACCESS_KEY)
+        .withEnv("MINIO_ROOT_PASSWORD", SECRET_KEY)
+        .withCommand("server", "/data")
+        .withExposedPorts(9000)
+        .waitingFor(Wait.forHttp("/minio/health/ready").forPort(9000));
+
+    private static S3Component s3Component;
+    private static SimpleMeterRegistry meterRegistry;
+
+    @BeforeAll
+    static void setUp() {
+        S3Config s3Config = new S3Config(
+            new S3Property(
+                new Credentials(ACCESS_KEY, SECRET_KEY),
+                "ap-northeast-2",
+                new S3(
+                    BUCKET,
+                    "http://" + minio.getHost() + ":" + minio.getMappedPort(9000),
+                    Duration.ofMinutes(1),
+                    null
+                )
+            )
+        );
+        AmazonS3 amazonS3 = s3Config.s3Client();
+        amazonS3.createBucket(BUCKET);
+        meterRegistry = new SimpleMeterRegistry();
+        s3Component = new S3Component(s3Config, amazonS3, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("서명된 URL 로 바로 업로드한 파일은 업로드 확인 후 객체 URL 을 반환한다.")
+    void confirmPresignedUpload() throws Exception {
+        //given
+        PresignedUploadComponentResponse presignedUpload = s3Component.createPresignedUpload(
+            "show",
+            "poster.png",
+            "image/png"
+        );
+        HttpResponse<Void> uploadResponse = HttpClient.newHttpClient().send(
+            HttpRequest.newBuilder(URI.create(presignedUpload.uploadURL()))
+                .header("Content-Type", "image/png")
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(new byte[]{1, 2, 3}))
+                .build(),
+            HttpResponse.BodyHandlers.discarding()
+        );
+
+        //when
+        String result = s3Component.confirmUpload("show", presignedUpload.objectKey());
+
+        //then
+        assertThat(uploadResponse.statusCode()).isEqualTo(200);
+        assertThat(presignedUpload.objectKey()).startsWith("show/poster_");
+        assertThat(result).endsWith(presignedUpload.objectKey());
+    }
+
+    @Test
+    @DisplayName("서명된 URL 을 발급만 하고 업로드하지 않은 파일은 확인할 수 없다.")
+    void confirmNotUploadedFile() {
+        //given
+        PresignedUploadComponentResponse presignedUpload = s3Component.createPresignedUpload(
+            "show",
+            "poster.png",
+            "image/png"
+        );
+
+        //when & then
+        assertThatThrownBy(() -> s3Component.confirmUpload("show", presignedUpload.objectKey()))
+            .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("다른 디렉터리의 객체 키로는 업로드를 확인할 수 없다.")
+    void confirmObjectKeyOutsideDirectory() {
+        //when & then
+        assertThatThrownBy(() -> s3Component.confirmUpload("show", "artist/poster_1.png"))
+            .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("같은 내용의 파일은 같은 키로 저장되고, 두 번째 업로드는 PUT 을 생략한다.")
+    void uploadSameFileOnce() {
+        //given
+        byte[] content = "same-poster".getBytes();
+        MockMultipartFile first = new MockMultipartFile("post", "poster.PNG", "image/png", content);
+        MockMultipartFile second = new MockMultipartFile("post", "other.png", "image/png", content);
+        double deduplicatedBefore = meterRegistry.counter("s3.upload.deduplicated").count();
+        double bytesSavedBefore = meterRegistry.counter("s3.upload.bytes.saved").count();
+
+        //when
+        String firstURL = s3Component.uploadFile("artist", first);
+        String secondURL = s3Component.uploadFile("artist", second);
+
+        //then
+        assertThat(secondURL).isEqualTo(firstURL).endsWith(".png");
+        assertThat(meterRegistry.counter("s3.upload.deduplicated").count() - deduplicatedBefore).isEqualTo(1);
+        assertThat(meterRegistry.counter("s3.upload.bytes.saved").count() - bytesSavedBefore)
+            .isEqualTo(content.length);
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import javax.imageio.ImageIO;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ThumbnailImageTest {
+
+    @Test
+    @DisplayName("썸네일은 원본 비율을 유지한 채 지정한 너비의 JPEG 으로 줄어든다.")
+    void resizeToWidth() throws IOException {
+        //given
+        byte[] original = png(1200, 1600);
+
+        //when
+        byte[] result = ThumbnailImage.resize(new ByteArrayInputStream(original), 300);
+
+        //then
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(result));
+        SoftAssertions.assertSoftly(
+            soft -> {
+                soft.assertThat(thumbnail.getWidth()).isEqualTo(300);
+                soft.assertThat(thumbnail.getHeight()).isEqualTo(400);
+                soft.assertThat(result.length).isLessThan(original.length);
+            }
+        );
+    }
+
+    @Test
+    @DisplayName("원본이 지정한 너비보다 작으면 크기를 키우지 않는다.")
+    void keepSmallImageSize() throws IOException {
+        //given
+        byte[] original = png(120, 80);
+
+        //when
+        byte[] result = ThumbnailImage.resize(new ByteArrayInputStream(original), 300);
+
+        //then
+        assertThat(ImageIO.read(new ByteArrayInputStream(result)).getWidth()).isEqualTo(120);
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 파일은 썸네일을 만들 수 없다.")
+    void resizeUnsupportedFile() {
+        //when & then
+        assertThatThrownBy(() -> ThumbnailImage.resize(new ByteArrayInputStream(new byte[]{1, 2, 3}), 300))
+            .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("썸네일은 원본과 같은 디렉터리 아래 너비별 경로에 JPEG 확장자로 저장한다.")
+    void thumbnailKey() {
+        //when
+        String result = ThumbnailImage.key("show/poster_1.png", 300);
+
+        //then
+        assertThat(result).isEqualTo("show/thumbnail/w300/poster_1.jpg");
+    }
+
+    private byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, (x * 31 + y * 17) & 0xFFFFFF);
+            }
+        }
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+        return outputStream.toByteArray();
+    }
+}
@@ -1,5 +1,6 @@
 package org.spotify.adapter;
 
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import org.example.port.ArtistSearchPort;
 import org.example.port.dto.request.ArtistSearchPortRequest;
@@ -12,13 +13,16 @@ import org.spotify.client.dto.request.ArtistSearchSpotifyRequest;
 import org.spotify.client.dto.request.ArtistsSpotifyRequest;
 import org.spotify.client.dto.response.SpotifyArtistsResponse;
 import org.spotify.client.dto.response.SpotifySearchResponse;
+import org.spotify.token.SpotifyAccessTokenHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 
 @Component
 @RequiredArgsConstructor
 public class ArtistSearchAdapter implements ArtistSearchPort {
 
     private final SpotifyClient spotifyClient;
+    private final SpotifyAccessTokenHolder spotifyAccessTokenHolder;
 
     @Override
     public ArtistSearchAdapterType getAdapterType() {
@@ -27,18 +31,21 @@ public class ArtistSearchAdapter implements ArtistSearchPort {
 
     @Override
     public String getAccessToken() {
-        return spotifyClient.requestAccessToken();
+        return spotifyAccessTokenHolder.getAccessToken();
     }
 
     @Override
     public ArtistSearchPortResponse searchArtist(ArtistSearchPortRequest request) {
-        SpotifySearchResponse response = spotifyClient.searchArtist(
-            ArtistSearchSpotifyRequest.builder()
-                .accessToken(request.accessToken())
-                .search(request.search())
-                .limit(request.limit())
-                .offset(request.offset())
-                .build()
+        SpotifySearchResponse response = retryOnUnauthorized(
+            request.accessToken(),
+            accessToken -> spotifyClient.searchArtist(
+                ArtistSearchSpotifyRequest.builder()
+                    .accessToken(accessToken)
+                    .search(request.search())
+                    .limit(request.limit())
+                    .offset(request.offset())
+                    .build()
+            )
         );
 
         return response.toPortResponse();
@@ -48,13 +55,27 @@ public class ArtistSearchAdapter implements ArtistSearchPort {
     public ArtistsDetailPortResponse findArtistsBySpotifyArtistId(
         ArtistsDetailPortRequest request
     ) {
-        SpotifyArtistsResponse response = spotifyClient.findArtistsBySpotifyArtistId(
-            ArtistsSpotifyRequest.builder()
-                .accessToken(request.accessToken())
-                .spotifyArtistIds(request.spotifyArtistIds())
-                .build()
+        SpotifyArtistsResponse response = retryOnUnauthorized(
+            request.accessToken(),
+            accessToken -> spotifyClient.findArtistsBySpotifyArtistId(
+                ArtistsSpotifyRequest.builder()
+                    .accessToken(accessToken)
+                    .spotifyArtistIds(request.spotifyArtistIds())
+                    .build()
+            )
         );
 
         return response.toPortResponse();
     }
+
+    /**
+     * 캐시된 토큰이 Spotify 에서 먼저 폐기되었다면 401 을 받은 즉시 토큰을 갱신해 한 번만 다시 요청합니다.
+     */
+    private <T> T retryOnUnauthorized(String accessToken, Function<String, T> call) {
+        try {
+            return call.apply(accessToken);
+        } catch (HttpClientErrorException.Unauthorized e) {
+            return call.apply(spotifyAccessTokenHolder.refreshAfterUnauthorized(accessToken));
+        }
+    }
 }
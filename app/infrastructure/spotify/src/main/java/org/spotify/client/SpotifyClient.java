@@ -2,8 +2,8 @@ package org.spotify.client;
 
 import static org.springframework.http.MediaType.APPLICATION_FORM_URLENCODED;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.http.PooledRestClientFactory;
 import org.example.metric.OpenApiMonitored;
 import org.spotify.client.dto.request.AccessTokenSpotifyRequest;
 import org.spotify.client.dto.request.ArtistSearchSpotifyRequest;
@@ -12,22 +12,36 @@ import org.spotify.client.dto.response.SpotifyAccessTokenResponse;
 import org.spotify.client.dto.response.SpotifyArtistsResponse;
 import org.spotify.client.dto.response.SpotifySearchResponse;
 import org.spotify.property.SpotifyProperty;
-import org.springframework.http.HttpStatus;
+import org.spotify.resilience.SpotifyCallGuard;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class SpotifyClient {
 
+    private static final String POOL_NAME = "spotify";
+
     private final SpotifyProperty spotifyProperty;
+    private final SpotifyCallGuard spotifyCallGuard;
+    private final RestClient restClient;
+
+    public SpotifyClient(
+        SpotifyProperty spotifyProperty,
+        SpotifyCallGuard spotifyCallGuard,
+        PooledRestClientFactory pooledRestClientFactory
+    ) {
+        this.spotifyProperty = spotifyProperty;
+        this.spotifyCallGuard = spotifyCallGuard;
+        this.restClient = pooledRestClientFactory.create(POOL_NAME);
+    }
 
     @OpenApiMonitored(name = "accessToken")
-    public String requestAccessToken() {
-        ResponseEntity<SpotifyAccessTokenResponse> result = RestClient.create(spotifyProperty.tokenApiURL())
+    public SpotifyAccessTokenResponse requestAccessToken() {
+        ResponseEntity<SpotifyAccessTokenResponse> result = restClient
             .post()
+            .uri(spotifyProperty.tokenApiURL())
             .contentType(APPLICATION_FORM_URLENCODED)
             .body(
                 AccessTokenSpotifyRequest.builder()
@@ -45,46 +59,28 @@ public class SpotifyClient {
             throw new RuntimeException("Spotify API artist access token failed");
         }
 
-        return result.getBody().accessToken();
+        return result.getBody();
     }
 
     @OpenApiMonitored(name = "search")
     public SpotifySearchResponse searchArtist(ArtistSearchSpotifyRequest request) {
-        ResponseEntity<SpotifySearchResponse> result =
-            RestClient.create(spotifyProperty.apiURL() + "/search?" + request.toQueryParameter())
+        return spotifyCallGuard.execute(() -> restClient
             .get()
+            .uri(spotifyProperty.apiURL() + "/search?" + request.toQueryParameter())
             .header("Authorization", "Bearer " + request.accessToken())
             .retrieve()
-            .toEntity(SpotifySearchResponse.class);
-
-        if (result.getStatusCode() == HttpStatus.UNAUTHORIZED
-            || result.getStatusCode() == HttpStatus.FORBIDDEN
-            || result.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS
-        ) {
-            log.error("Spotify API search artist failed: {}", result);
-            throw new RuntimeException("Spotify API artist search artist failed");
-        }
-
-        return result.getBody();
+            .body(SpotifySearchResponse.class)
+        );
     }
 
     @OpenApiMonitored(name = "artists")
     public SpotifyArtistsResponse findArtistsBySpotifyArtistId(ArtistsSpotifyRequest request) {
-        ResponseEntity<SpotifyArtistsResponse> result =
-            RestClient.create(spotifyProperty.apiURL() + "/artists?" + request.toQueryParameter())
+        return spotifyCallGuard.execute(() -> restClient
             .get()
+            .uri(spotifyProperty.apiURL() + "/artists?" + request.toQueryParameter())
             .header("Authorization", "Bearer " + request.accessToken())
             .retrieve()
-            .toEntity(SpotifyArtistsResponse.class);
-
-        if (result.getStatusCode() == HttpStatus.UNAUTHORIZED
-            || result.getStatusCode() == HttpStatus.FORBIDDEN
-            || result.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS
-        ) {
-            log.error("Spotify API find artists failed: {}", result);
-            throw new RuntimeException("Spotify API artist find artists failed");
-        }
-
-        return result.getBody();
+            .body(SpotifyArtistsResponse.class)
+        );
     }
 }
@@ -1,5 +1,6 @@
 package org.spotify.property;
 
+import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 @ConfigurationProperties(prefix = "spotify")
@@ -7,7 +8,13 @@ public record SpotifyProperty(
     String clientId,
     String clientSecret,
     String tokenApiURL,
-    String apiURL
+    String apiURL,
+    Duration tokenRefreshMargin
 ) {
 
+    public SpotifyProperty {
+        if (tokenRefreshMargin == null) {
+            tokenRefreshMargin = Duration.ofMinutes(5);
+        }
+    }
 }
@@ -0,0 +1,46 @@
+package org.spotify.property;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "spotify.rate-limit")
+public record SpotifyRateLimitProperty(
+    double permitsPerSecond,
+    int burstCapacity,
+    Duration maxQueueWait,
+    Duration maxRetryAfter,
+    int maxRetries,
+    int failureThreshold,
+    Duration openDuration
+) {
+
+    public SpotifyRateLimitProperty {
+        if (permitsPerSecond <= 0) {
+            permitsPerSecond = 10;
+        }
+
+        if (burstCapacity <= 0) {
+            burstCapacity = 20;
+        }
+
+        if (maxQueueWait == null) {
+            maxQueueWait = Duration.ofSeconds(2);
+        }
+
+        if (maxRetryAfter == null) {
+            maxRetryAfter = Duration.ofSeconds(5);
+        }
+
+        if (maxRetries < 0) {
+            maxRetries = 0;
+        }
+
+        if (failureThreshold <= 0) {
+            failureThreshold = 5;
+        }
+
+        if (openDuration == null) {
+            openDuration = Duration.ofSeconds(30);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package org.spotify.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.spotify.property.SpotifyRateLimitProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * 모든 Spotify API 호출이 공유하는 토큰 버킷과 서킷 브레이커입니다.
+ * 429 를 받으면 Retry-After 시각까지 버킷 전체를 멈추고, 대기 시간이 짧다면 같은 요청을 다시 보냅니다.
+ * 서킷이 열려 있으면 Spotify 를 호출하지 않고 바로 실패하므로 캐시에 남은 결과로 응답하게 됩니다.
+ */
+@Slf4j
+@Component
+public class SpotifyCallGuard {
+
+    private static final String CLIENT_TAG = "spotify";
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final Clock clock;
+    private final Sleeper sleeper;
+    private final TokenBucket tokenBucket;
+    private final CircuitBreaker circuitBreaker;
+    private final long maxQueueWaitNanos;
+    private final Duration maxRetryAfter;
+    private final int maxRetries;
+    private final Counter throttledCounter;
+    private final Counter queueRejectedCounter;
+    private final Counter circuitRejectedCounter;
+
+    @Autowired
+    public SpotifyCallGuard(SpotifyRateLimitProperty spotifyRateLimitProperty, MeterRegistry meterRegistry) {
+        this(
+            spotifyRateLimitProperty,
+            meterRegistry,
+            Clock.systemUTC(),
+            duration -> TimeUnit.NANOSECONDS.sleep(duration.toNanos())
+        );
+    }
+
+    SpotifyCallGuard(
+        SpotifyRateLimitProperty spotifyRateLimitProperty,
+        MeterRegistry meterRegistry,
+        Clock clock,
+        Sleeper sleeper
+    ) {
+        this.clock = clock;
+        this.sleeper = sleeper;
+        this.tokenBucket = new TokenBucket(
+            spotifyRateLimitProperty.permitsPerSecond(),
+            spotifyRateLimitProperty.burstCapacity(),
+            nowNanos()
+        );
+        this.circuitBreaker = new CircuitBreaker(
+            spotifyRateLimitProperty.failureThreshold(),
+            spotifyRateLimitProperty.openDuration().toNanos()
+        );
+        this.maxQueueWaitNanos = spotifyRateLimitProperty.maxQueueWait().toNanos();
+        this.maxRetryAfter = spotifyRateLimitProperty.maxRetryAfter();
+        this.maxRetries = spotifyRateLimitProperty.maxRetries();
+
+        this.throttledCounter = meterRegistry.counter("api.open.throttled", "client", CLIENT_TAG);
+        this.queueRejectedCounter = meterRegistry.counter(
+            "api.open.rejected", "client", CLIENT_TAG, "reason", "rate_limit"
+        );
+        this.circuitRejectedCounter = meterRegistry.counter(
+            "api.open.rejected", "client", CLIENT_TAG, "reason", "circuit_open"
+        );
+        Gauge.builder("api.open.rate.limit.available.permits", this, SpotifyCallGuard::availablePermits)
+            .tag("client", CLIENT_TAG)
+            .register(meterRegistry);
+        Gauge.builder("api.open.circuit.state", this, guard -> guard.circuitState().ordinal())
+            .tag("client", CLIENT_TAG)
+            .description("0: closed, 1: half-open, 2: open")
+            .register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        for (int attempt = 0; ; attempt++) {
+            if (!circuitBreaker.tryAcquire(nowNanos())) {
+                circuitRejectedCounter.increment();
+                throw new SpotifyUnavailableException("Spotify circuit is open");
+            }
+
+            try {
+                acquirePermit(attempt == 0 ? maxQueueWaitNanos : maxRetryAfter.toNanos());
+            } catch (SpotifyUnavailableException e) {
+                circuitBreaker.release();
+                throw e;
+            }
+
+            try {
+                T result = call.get();
+                circuitBreaker.onSuccess();
+                return result;
+            } catch (HttpClientErrorException.TooManyRequests e) {
+                Duration retryAfter = retryAfter(e);
+                tokenBucket.pauseUntil(nowNanos() + retryAfter.toNanos());
+                circuitBreaker.onFailure(nowNanos());
+                throttledCounter.increment();
+
+                if (attempt >= maxRetries || retryAfter.compareTo(maxRetryAfter) > 0) {
+                    log.warn("Spotify API throttled, deferring calls for {}", retryAfter);
+                    throw new SpotifyUnavailableException("Spotify API throttled, retry after " + retryAfter, e);
+                }
+            } catch (HttpServerErrorException | ResourceAccessException e) {
+                circuitBreaker.onFailure(nowNanos());
+                throw e;
+            } catch (RuntimeException e) {
+                circuitBreaker.onSuccess();
+                throw e;
+            }
+        }
+    }
+
+    double availablePermits() {
+        return tokenBucket.availablePermits(nowNanos());
+    }
+
+    CircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    private void acquirePermit(long maxWaitNanos) {
+        long waitNanos = tokenBucket.reserve(nowNanos(), maxWaitNanos);
+        if (waitNanos < 0) {
+            queueRejectedCounter.increment();
+            throw new SpotifyUnavailableException("Spotify rate limit exceeded");
+        }
+
+        if (waitNanos == 0) {
+            return;
+        }
+
+        try {
+            sleeper.sleep(Duration.ofNanos(waitNanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SpotifyUnavailableException("Interrupted while waiting for Spotify rate limit", e);
+        }
+    }
+
+    private Duration retryAfter(HttpClientErrorException e) {
+        HttpHeaders headers = e.getResponseHeaders();
+        String retryAfter = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter == null) {
+            return DEFAULT_RETRY_AFTER;
+        }
+
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(retryAfter.strip())));
+        } catch (NumberFormatException ex) {
+            return DEFAULT_RETRY_AFTER;
+        }
+    }
+
+    private long nowNanos() {
+        Instant now = clock.instant();
+        return now.getEpochSecond() * 1_000_000_000L + now.getNano();
+    }
+
+    @FunctionalInterface
+    interface Sleeper {
+
+        void sleep(Duration duration) throws InterruptedException;
+    }
+}
@@ -0,0 +1,15 @@
+package org.spotify.resilience;
+
+/**
+ * 서킷이 열려 있거나 허용량을 넘어 Spotify 를 호출하지 않고 실패했음을 나타냅니다.
+ */
+public class SpotifyUnavailableException extends RuntimeException {
+
+    public SpotifyUnavailableException(String message) {
+        super(message);
+    }
+
+    public SpotifyUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,57 @@
+package org.spotify.resilience;
+
+/**
+ * 초당 허용량만큼 채워지고 burstCapacity 까지 쌓이는 토큰 버킷입니다.
+ * 허가를 예약하는 방식이라 호출자는 반환된 시간만큼만 기다리면 되고, 대기 순서대로 허가가 배정됩니다.
+ * Retry-After 를 받으면 그 시각까지 다음 허가를 미뤄 모든 호출이 함께 대기합니다.
+ */
+class TokenBucket {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final double maxPermits;
+    private final double intervalNanos;
+
+    private double storedPermits;
+    private long nextFreeNanos;
+
+    TokenBucket(double permitsPerSecond, int burstCapacity, long nowNanos) {
+        this.maxPermits = burstCapacity;
+        this.intervalNanos = NANOS_PER_SECOND / permitsPerSecond;
+        this.storedPermits = burstCapacity;
+        this.nextFreeNanos = nowNanos;
+    }
+
+    /**
+     * @return 허가를 받기까지 기다려야 하는 시간(ns), maxWaitNanos 를 넘으면 예약하지 않고 -1
+     */
+    synchronized long reserve(long nowNanos, long maxWaitNanos) {
+        resync(nowNanos);
+        long waitNanos = nextFreeNanos - nowNanos;
+        if (waitNanos > maxWaitNanos) {
+            return -1;
+        }
+
+        double fromStored = Math.min(1, storedPermits);
+        storedPermits -= fromStored;
+        nextFreeNanos += (long) ((1 - fromStored) * intervalNanos);
+        return waitNanos;
+    }
+
+    synchronized void pauseUntil(long untilNanos) {
+        storedPermits = 0;
+        nextFreeNanos = Math.max(nextFreeNanos, untilNanos);
+    }
+
+    synchronized double availablePermits(long nowNanos) {
+        resync(nowNanos);
+        return nextFreeNanos > nowNanos ? 0 : storedPermits;
+    }
+
+    private void resync(long nowNanos) {
+        if (nowNanos > nextFreeNanos) {
+            storedPermits = Math.min(maxPermits, storedPermits + (nowNanos - nextFreeNanos) / intervalNanos);
+            nextFreeNanos = nowNanos;
+        }
+    }
+}
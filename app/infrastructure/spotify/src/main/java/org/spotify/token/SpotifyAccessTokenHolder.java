@@ -0,0 +1,180 @@
+package org.spotify.token;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.spotify.client.SpotifyClient;
+import org.spotify.client.dto.response.SpotifyAccessTokenResponse;
+import org.spotify.property.SpotifyProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Spotify client-credentials 토큰을 만료 직전까지 재사용합니다.
+ * 만료 전 갱신 구간에 들어서면 현재 토큰을 그대로 반환하면서 백그라운드에서 갱신하고,
+ * 토큰이 없거나 만료되었다면 동시에 들어온 요청들이 하나의 발급 요청 결과를 함께 기다립니다.
+ * 갱신 구간은 설정한 여유 시간과 토큰 유효 시간의 절반 중 짧은 쪽으로 정해 유효 시간이 짧은 토큰도 매번 동기 갱신되지 않습니다.
+ */
+@Slf4j
+@Component
+public class SpotifyAccessTokenHolder {
+
+    private static final Duration EXPIRY_SKEW = Duration.ofSeconds(10);
+    private static final int MAX_REFRESH_MARGIN_DIVISOR = 2;
+    private static final Executor CALLER_THREAD = Runnable::run;
+
+    private final SpotifyClient spotifyClient;
+    private final Duration refreshMargin;
+    private final Clock clock;
+    private final ExecutorService refreshExecutor;
+    private final AtomicReference<CompletableFuture<IssuedToken>> inFlightRefresh = new AtomicReference<>();
+    private final Counter refreshSuccessCounter;
+    private final Counter refreshFailureCounter;
+    private final Counter unauthorizedCounter;
+    private final AtomicReference<IssuedToken> token = new AtomicReference<>();
+
+    @Autowired
+    public SpotifyAccessTokenHolder(
+        SpotifyClient spotifyClient,
+        SpotifyProperty spotifyProperty,
+        MeterRegistry meterRegistry
+    ) {
+        this(spotifyClient, spotifyProperty, meterRegistry, Clock.systemUTC());
+    }
+
+    SpotifyAccessTokenHolder(
+        SpotifyClient spotifyClient,
+        SpotifyProperty spotifyProperty,
+        MeterRegistry meterRegistry,
+        Clock clock
+    ) {
+        this.spotifyClient = spotifyClient;
+        this.refreshMargin = spotifyProperty.tokenRefreshMargin();
+        this.clock = clock;
+        this.refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "spotify-token-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.refreshSuccessCounter = meterRegistry.counter("spotify.access.token.refresh", "result", "success");
+        this.refreshFailureCounter = meterRegistry.counter("spotify.access.token.refresh", "result", "failure");
+        this.unauthorizedCounter = meterRegistry.counter("spotify.access.token.unauthorized");
+        Gauge.builder("spotify.access.token.age", this, SpotifyAccessTokenHolder::tokenAgeSeconds)
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    public String getAccessToken() {
+        IssuedToken current = token.get();
+        Instant now = clock.instant();
+        if (current != null && now.isBefore(current.expiresAt())) {
+            if (!now.isBefore(current.refreshAt())) {
+                refresh(refreshExecutor);
+            }
+            return current.value();
+        }
+
+        return await(refresh(CALLER_THREAD)).value();
+    }
+
+    /**
+     * 401 응답을 받은 토큰을 버리고 새 토큰을 발급받습니다.
+     * 거부된 토큰이 아직 현재 토큰일 때만 비우므로 그 사이 다른 요청이 갱신한 토큰은 지워지지 않고,
+     * 비운 뒤에는 다른 요청도 거부된 토큰 대신 새 토큰 발급을 기다립니다.
+     */
+    public String refreshAfterUnauthorized(String rejectedToken) {
+        unauthorizedCounter.increment();
+
+        IssuedToken current = token.get();
+        if (current != null && !current.value().equals(rejectedToken)) {
+            return current.value();
+        }
+
+        if (current != null && !token.compareAndSet(current, null)) {
+            return getAccessToken();
+        }
+
+        return await(refresh(CALLER_THREAD)).value();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private CompletableFuture<IssuedToken> refresh(Executor executor) {
+        CompletableFuture<IssuedToken> refresh = new CompletableFuture<>();
+        CompletableFuture<IssuedToken> existing = inFlightRefresh.compareAndExchange(null, refresh);
+        if (existing != null) {
+            return existing;
+        }
+
+        executor.execute(() -> {
+            try {
+                IssuedToken issuedToken = issue();
+                token.set(issuedToken);
+                refreshSuccessCounter.increment();
+                refresh.complete(issuedToken);
+            } catch (RuntimeException e) {
+                refreshFailureCounter.increment();
+                log.error("Failed to refresh Spotify access token", e);
+                refresh.completeExceptionally(e);
+            } finally {
+                inFlightRefresh.set(null);
+            }
+        });
+        return refresh;
+    }
+
+    private IssuedToken issue() {
+        SpotifyAccessTokenResponse response = spotifyClient.requestAccessToken();
+        Instant issuedAt = clock.instant();
+        Instant expiresAt = issuedAt.plusSeconds(response.expiresIn()).minus(EXPIRY_SKEW);
+        Duration maxRefreshMargin = Duration.between(issuedAt, expiresAt).dividedBy(MAX_REFRESH_MARGIN_DIVISOR);
+        Duration effectiveRefreshMargin = refreshMargin.compareTo(maxRefreshMargin) > 0
+            ? maxRefreshMargin
+            : refreshMargin;
+
+        return new IssuedToken(response.accessToken(), issuedAt, expiresAt.minus(effectiveRefreshMargin), expiresAt);
+    }
+
+    private IssuedToken await(CompletableFuture<IssuedToken> refresh) {
+        try {
+            return refresh.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private double tokenAgeSeconds() {
+        IssuedToken current = token.get();
+        if (current == null) {
+            return 0;
+        }
+        return Duration.between(current.issuedAt(), clock.instant()).toMillis() / 1000.0;
+    }
+
+    private record IssuedToken(
+        String value,
+        Instant issuedAt,
+        Instant refreshAt,
+        Instant expiresAt
+    ) {
+
+    }
+}
@@ -19,13 +19,13 @@ class SpotifyClientTest {
 
     @Test
     void requestToken() {
-        var accessToken = spotifyClient.requestAccessToken();
+        var accessToken = spotifyClient.requestAccessToken().accessToken();
         System.out.println(accessToken);
     }
 
     @Test
     void searchArtist() {
-        String accessToken = spotifyClient.requestAccessToken();
+        String accessToken = spotifyClient.requestAccessToken().accessToken();
         var result = spotifyClient.searchArtist(
             ArtistSearchSpotifyRequest.builder()
                 .accessToken(accessToken)
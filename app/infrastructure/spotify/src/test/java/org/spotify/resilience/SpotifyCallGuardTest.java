@@ -0,0 +1,165 @@
+package org.spotify.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.spotify.property.SpotifyRateLimitProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+class SpotifyCallGuardTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-08-01T00:00:00Z"));
+    private final List<Duration> sleeps = new ArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SpotifyCallGuard spotifyCallGuard = new SpotifyCallGuard(
+        new SpotifyRateLimitProperty(
+            10,
+            2,
+            Duration.ofSeconds(1),
+            Duration.ofSeconds(5),
+            2,
+            3,
+            Duration.ofSeconds(30)
+        ),
+        meterRegistry,
+        clock,
+        duration -> {
+            sleeps.add(duration);
+            clock.advance(duration);
+        }
+    );
+
+    @Test
+    @DisplayName("버스트 용량을 넘는 호출은 초당 허용량에 맞춰 대기한 뒤 실행한다.")
+    void waitForPermitBeyondBurst() {
+        //given
+        spotifyCallGuard.execute(() -> "first");
+        spotifyCallGuard.execute(() -> "second");
+        spotifyCallGuard.execute(() -> "third");
+
+        //when
+        String result = spotifyCallGuard.execute(() -> "fourth");
+
+        //then
+        assertThat(result).isEqualTo("fourth");
+        assertThat(sleeps).containsExactly(Duration.ofMillis(100));
+    }
+
+    @Test
+    @DisplayName("429 를 받으면 Retry-After 만큼 기다린 뒤 같은 요청을 다시 보낸다.")
+    void retryAfterTooManyRequests() {
+        //given
+        AtomicInteger callCount = new AtomicInteger();
+
+        //when
+        String result = spotifyCallGuard.execute(() -> {
+            if (callCount.incrementAndGet() == 1) {
+                throw tooManyRequests("3");
+            }
+            return "retried";
+        });
+
+        //then
+        assertThat(result).isEqualTo("retried");
+        assertThat(callCount).hasValue(2);
+        assertThat(sleeps).containsExactly(Duration.ofSeconds(3));
+    }
+
+    @Test
+    @DisplayName("Retry-After 가 최대 재시도 대기 시간보다 길면 재시도하지 않고, 그 시각까지 다른 호출도 보내지 않는다.")
+    void deferCallsUntilRetryAfter() {
+        //given
+        AtomicInteger callCount = new AtomicInteger();
+        assertThatThrownBy(() -> spotifyCallGuard.execute(() -> {
+            callCount.incrementAndGet();
+            throw tooManyRequests("60");
+        })).isInstanceOf(SpotifyUnavailableException.class);
+
+        //when, then
+        assertThatThrownBy(() -> spotifyCallGuard.execute(callCount::incrementAndGet))
+            .isInstanceOf(SpotifyUnavailableException.class);
+        assertThat(callCount).hasValue(1);
+        assertThat(meterRegistry.get("api.open.rejected").tag("reason", "rate_limit").counter().count())
+            .isEqualTo(1);
+
+        clock.advance(Duration.ofSeconds(60));
+        assertThat(spotifyCallGuard.execute(callCount::incrementAndGet)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 임계치에 닿으면 서킷을 열고, 차단 시간이 지나면 시험 호출 성공으로 다시 닫는다.")
+    void openAndCloseCircuit() {
+        //given
+        AtomicInteger callCount = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> spotifyCallGuard.execute(() -> {
+                callCount.incrementAndGet();
+                throw HttpServerErrorException.create(
+                    HttpStatus.BAD_GATEWAY, "Bad Gateway", HttpHeaders.EMPTY, new byte[0], StandardCharsets.UTF_8
+                );
+            })).isInstanceOf(HttpServerErrorException.class);
+            clock.advance(Duration.ofSeconds(1));
+        }
+
+        //when, then
+        assertThat(spotifyCallGuard.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> spotifyCallGuard.execute(callCount::incrementAndGet))
+            .isInstanceOf(SpotifyUnavailableException.class);
+        assertThat(callCount).hasValue(3);
+
+        clock.advance(Duration.ofSeconds(30));
+        assertThat(spotifyCallGuard.execute(callCount::incrementAndGet)).isEqualTo(4);
+        assertThat(spotifyCallGuard.circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private HttpClientErrorException tooManyRequests(String retryAfter) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+        return HttpClientErrorException.create(
+            HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", headers, new byte[0], StandardCharsets.UTF_8
+        );
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package org.spotify.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.spotify.client.SpotifyClient;
+import org.spotify.client.dto.response.SpotifyAccessTokenResponse;
+import org.spotify.property.SpotifyProperty;
+
+class SpotifyAccessTokenHolderTest {
+
+    private final SpotifyClient spotifyClient = mock(SpotifyClient.class);
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-08-01T00:00:00Z"));
+    private final SpotifyAccessTokenHolder spotifyAccessTokenHolder = new SpotifyAccessTokenHolder(
+        spotifyClient,
+        new SpotifyProperty("clientId", "clientSecret", "tokenApiURL", "apiURL", Duration.ofMinutes(5)),
+        new SimpleMeterRegistry(),
+        clock
+    );
+
+    @AfterEach
+    void tearDown() {
+        spotifyAccessTokenHolder.shutdown();
+    }
+
+    @Test
+    @DisplayName("만료 전까지는 발급받은 토큰을 재사용한다.")
+    void reuseTokenBeforeExpiry() {
+        //given
+        given(spotifyClient.requestAccessToken()).willReturn(tokenResponse("first"));
+        spotifyAccessTokenHolder.getAccessToken();
+        clock.advance(Duration.ofMinutes(30));
+
+        //when
+        String result = spotifyAccessTokenHolder.getAccessToken();
+
+        //then
+        assertThat(result).isEqualTo("first");
+        verify(spotifyClient, times(1)).requestAccessToken();
+    }
+
+    @Test
+    @DisplayName("토큰이 만료되면 새 토큰을 발급받는다.")
+    void issueNewTokenAfterExpiry() {
+        //given
+        given(spotifyClient.requestAccessToken())
+            .willReturn(tokenResponse("first"))
+            .willReturn(tokenResponse("second"));
+        spotifyAccessTokenHolder.getAccessToken();
+        clock.advance(Duration.ofHours(1));
+
+        //when
+        String result = spotifyAccessTokenHolder.getAccessToken();
+
+        //then
+        assertThat(result).isEqualTo("second");
+    }
+
+    @Test
+    @DisplayName("토큰이 없을 때 동시에 요청해도 토큰은 한 번만 발급받는다.")
+    void singleFlightConcurrentRefresh() throws Exception {
+        //given
+        CountDownLatch requested = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(spotifyClient.requestAccessToken()).willAnswer(invocation -> {
+            requested.countDown();
+            release.await();
+            return tokenResponse("shared");
+        });
+
+        int threadCount = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        List<Future<String>> results = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < threadCount; i++) {
+            results.add(executorService.submit(spotifyAccessTokenHolder::getAccessToken));
+        }
+        requested.await();
+        Thread.sleep(100);
+        release.countDown();
+
+        //then
+        for (Future<String> result : results) {
+            assertThat(result.get()).isEqualTo("shared");
+        }
+        verify(spotifyClient, times(1)).requestAccessToken();
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("401 을 받은 토큰은 즉시 새 토큰으로 교체한다.")
+    void refreshAfterUnauthorized() {
+        //given
+        given(spotifyClient.requestAccessToken())
+            .willReturn(tokenResponse("revoked"))
+            .willReturn(tokenResponse("renewed"));
+        String revoked = spotifyAccessTokenHolder.getAccessToken();
+
+        //when
+        String result = spotifyAccessTokenHolder.refreshAfterUnauthorized(revoked);
+
+        //then
+        assertThat(result).isEqualTo("renewed");
+        assertThat(spotifyAccessTokenHolder.getAccessToken()).isEqualTo("renewed");
+    }
+
+    @Test
+    @DisplayName("이미 갱신된 토큰이 있다면 401 이후에도 다시 발급받지 않는다.")
+    void skipRefreshWhenAlreadyRenewed() {
+        //given
+        given(spotifyClient.requestAccessToken()).willReturn(tokenResponse("renewed"));
+        spotifyAccessTokenHolder.getAccessToken();
+
+        //when
+        String result = spotifyAccessTokenHolder.refreshAfterUnauthorized("revoked");
+
+        //then
+        assertThat(result).isEqualTo("renewed");
+        verify(spotifyClient, times(1)).requestAccessToken();
+    }
+
+    @Test
+    @DisplayName("401 을 받은 토큰을 갱신하는 동안 다른 요청은 거부된 토큰 대신 새 토큰을 기다린다.")
+    void hideRejectedTokenWhileRefreshing() throws Exception {
+        //given
+        CountDownLatch requested = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(spotifyClient.requestAccessToken())
+            .willReturn(tokenResponse("revoked"))
+            .willAnswer(invocation -> {
+                requested.countDown();
+                release.await();
+                return tokenResponse("renewed");
+            });
+        String revoked = spotifyAccessTokenHolder.getAccessToken();
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        //when
+        Future<String> refreshed = executorService.submit(
+            () -> spotifyAccessTokenHolder.refreshAfterUnauthorized(revoked)
+        );
+        requested.await();
+        Future<String> concurrent = executorService.submit(spotifyAccessTokenHolder::getAccessToken);
+        Thread.sleep(100);
+        release.countDown();
+
+        //then
+        assertThat(refreshed.get()).isEqualTo("renewed");
+        assertThat(concurrent.get()).isEqualTo("renewed");
+        verify(spotifyClient, times(2)).requestAccessToken();
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("유효 시간이 갱신 여유 시간보다 짧은 토큰은 유효 시간의 절반이 지나기 전까지 갱신하지 않는다.")
+    void clampRefreshMarginToHalfOfLifetime() {
+        //given
+        given(spotifyClient.requestAccessToken()).willReturn(tokenResponse("short-lived", 70));
+        spotifyAccessTokenHolder.getAccessToken();
+        clock.advance(Duration.ofSeconds(20));
+
+        //when
+        String result = spotifyAccessTokenHolder.getAccessToken();
+
+        //then
+        assertThat(result).isEqualTo("short-lived");
+        verify(spotifyClient, after(100).times(1)).requestAccessToken();
+    }
+
+    private SpotifyAccessTokenResponse tokenResponse(String accessToken) {
+        return tokenResponse(accessToken, 3600);
+    }
+
+    private SpotifyAccessTokenResponse tokenResponse(String accessToken, int expiresIn) {
+        return new SpotifyAccessTokenResponse(accessToken, "Bearer", expiresIn);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
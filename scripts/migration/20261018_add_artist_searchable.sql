@@ -0,0 +1,5 @@
+-- 로컬 아티스트 검색에서 스포티파이 검색과 같은 조건(장르가 있고 국내 아티스트 장르가 아닌지)으로 거르기 위한 컬럼을 추가합니다.
+-- 저장된 장르만으로는 원래 스포티파이 장르를 알 수 없으므로 기존 아티스트는 검색 가능으로 두고, 새로 저장하는 아티스트부터 판별한 값을 저장합니다.
+-- 운영 DB 는 ddl-auto: none 이므로 이 스크립트를 애플리케이션 배포 전에 먼저 실행해야 합니다.
+alter table artist
+    add column if not exists searchable boolean not null default true;
@@ -0,0 +1,4 @@
+-- 공연 목록용 썸네일 URL 컬럼을 추가합니다.
+-- 운영 DB 는 ddl-auto: none 이므로 이 스크립트를 애플리케이션 배포 전에 먼저 실행해야 합니다.
+alter table show
+    add column if not exists thumbnail_image varchar(255);